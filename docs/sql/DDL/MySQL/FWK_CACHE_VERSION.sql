@@ -0,0 +1,17 @@
+-- FWK_CACHE_VERSION definition
+
+-- 노드 간 캐시 무효화용 영역 버전 테이블
+-- 원본 데이터 쓰기와 같은 트랜잭션에서 (CACHE_REGION, REGION_KEY)의 VERSION을 올리고, 각 노드가 주기적으로 조회한다.
+
+-- Drop table
+
+-- DROP TABLE FWK_CACHE_VERSION;
+
+CREATE TABLE FWK_CACHE_VERSION (
+	CACHE_REGION VARCHAR(40) NOT NULL,
+	REGION_KEY VARCHAR(100) NOT NULL,
+	VERSION DECIMAL(19,0) NOT NULL,
+	LAST_UPDATE_NODE VARCHAR(40),
+	LAST_UPDATE_DTIME VARCHAR(14),
+	CONSTRAINT PK_FWK_CACHE_VERSION PRIMARY KEY (CACHE_REGION, REGION_KEY)
+);
@@ -0,0 +1,27 @@
+-- FWK_MENU_CLOSURE definition
+
+-- FWK_MENU 계층 closure 테이블 (조상-자손 쌍, 자기 자신 DEPTH 0 포함)
+-- MenuService의 FWK_MENU 쓰기와 같은 트랜잭션에서 MenuClosureMapper로 동기화된다.
+
+-- Drop table
+
+-- DROP TABLE FWK_MENU_CLOSURE;
+
+CREATE TABLE FWK_MENU_CLOSURE (
+	ANCESTOR_ID VARCHAR(40) NOT NULL,
+	DESCENDANT_ID VARCHAR(40) NOT NULL,
+	DEPTH DECIMAL(3,0) NOT NULL,
+	CONSTRAINT PK_FWK_MENU_CLOSURE PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID)
+);
+CREATE INDEX IX_FWK_MENU_CLOSURE_DESC ON FWK_MENU_CLOSURE (DESCENDANT_ID, ANCESTOR_ID, DEPTH);
+
+-- 기존 데이터 초기 적재
+-- INSERT INTO FWK_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+-- WITH RECURSIVE closure AS (
+--     SELECT MENU_ID AS ANCESTOR_ID, MENU_ID AS DESCENDANT_ID, 0 AS DEPTH FROM FWK_MENU
+--     UNION ALL
+--     SELECT c.ANCESTOR_ID, m.MENU_ID, c.DEPTH + 1
+--       FROM closure c JOIN FWK_MENU m ON m.PRIOR_MENU_ID = c.DESCENDANT_ID
+--      WHERE c.DEPTH < 100
+-- )
+-- SELECT ANCESTOR_ID, DESCENDANT_ID, DEPTH FROM closure;
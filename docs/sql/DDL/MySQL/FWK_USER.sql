@@ -28,6 +28,7 @@ CREATE TABLE FWK_USER (
 	BRANCH_NO VARCHAR(10),
 	BIZ_AUTH_CODE VARCHAR(100),
 	LOGIN_FAIL_COUNT DECIMAL(1,0) DEFAULT 0,
+	LOGIN_FAIL_DTIME VARCHAR(14),
 	LAST_PWD_UPDATE_DTIME VARCHAR(14),
 	DEFAULT_PROJECT_ID VARCHAR(20),
 	PA_USER VARCHAR(128),
@@ -45,3 +46,6 @@ CREATE TABLE FWK_USER (
 	CONSTRAINT SYS_C0012772 CHECK (LAST_UPDATE_DTIME IS NOT NULL),
 	CONSTRAINT SYS_C0012773 CHECK (LAST_UPDATE_USER_ID IS NOT NULL)
 );
+
+-- 기존 DB: 로그인 실패 잠금 만료용 마지막 실패 시각 (YYYYMMDDHH24MISS)
+-- ALTER TABLE FWK_USER ADD COLUMN LOGIN_FAIL_DTIME VARCHAR(14) AFTER LOGIN_FAIL_COUNT;
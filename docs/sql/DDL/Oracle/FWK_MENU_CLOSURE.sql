@@ -0,0 +1,22 @@
+-- D_SPIDERLINK.FWK_MENU_CLOSURE definition
+
+-- FWK_MENU 계층 closure 테이블 (조상-자손 쌍, 자기 자신 DEPTH 0 포함)
+-- MenuService의 FWK_MENU 쓰기와 같은 트랜잭션에서 MenuClosureMapper로 동기화된다.
+
+-- Drop table
+
+-- DROP TABLE D_SPIDERLINK.FWK_MENU_CLOSURE;
+
+CREATE TABLE D_SPIDERLINK.FWK_MENU_CLOSURE (
+	ANCESTOR_ID VARCHAR2(40) NOT NULL,
+	DESCENDANT_ID VARCHAR2(40) NOT NULL,
+	DEPTH NUMBER(3,0) NOT NULL,
+	CONSTRAINT PK_FWK_MENU_CLOSURE PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID)
+);
+CREATE INDEX IX_FWK_MENU_CLOSURE_DESC ON D_SPIDERLINK.FWK_MENU_CLOSURE (DESCENDANT_ID, ANCESTOR_ID, DEPTH);
+
+-- 기존 데이터 초기 적재
+-- INSERT INTO D_SPIDERLINK.FWK_MENU_CLOSURE (ANCESTOR_ID, DESCENDANT_ID, DEPTH)
+-- SELECT CONNECT_BY_ROOT MENU_ID, MENU_ID, LEVEL - 1
+--   FROM D_SPIDERLINK.FWK_MENU
+-- CONNECT BY NOCYCLE PRIOR MENU_ID = PRIOR_MENU_ID;
@@ -28,6 +28,7 @@ CREATE TABLE D_SPIDERLINK.FWK_USER (
 	BRANCH_NO VARCHAR2(10),
 	BIZ_AUTH_CODE VARCHAR2(100),
 	LOGIN_FAIL_COUNT NUMBER(1,0) DEFAULT 0,
+	LOGIN_FAIL_DTIME VARCHAR2(14),
 	LAST_PWD_UPDATE_DTIME VARCHAR2(14),
 	DEFAULT_PROJECT_ID VARCHAR2(20),
 	PA_USER VARCHAR2(128),
@@ -45,4 +46,7 @@ CREATE TABLE D_SPIDERLINK.FWK_USER (
 	CONSTRAINT SYS_C0012772 CHECK ("LAST_UPDATE_DTIME" IS NOT NULL),
 	CONSTRAINT SYS_C0012773 CHECK ("LAST_UPDATE_USER_ID" IS NOT NULL)
 );
-CREATE UNIQUE INDEX PK_FWK_USER ON D_SPIDERLINK.FWK_USER (USER_ID);
\ No newline at end of file
+CREATE UNIQUE INDEX PK_FWK_USER ON D_SPIDERLINK.FWK_USER (USER_ID);
+
+-- 기존 DB: 로그인 실패 잠금 만료용 마지막 실패 시각 (YYYYMMDDHH24MISS)
+-- ALTER TABLE FWK_USER ADD (LOGIN_FAIL_DTIME VARCHAR2(14));
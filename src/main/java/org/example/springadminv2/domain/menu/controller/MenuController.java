@@ -2,14 +2,21 @@ package org.example.springadminv2.domain.menu.controller;
 
 import java.util.List;
 
+import org.example.springadminv2.domain.menu.dto.MenuBulkSortRequest;
+import org.example.springadminv2.domain.menu.dto.MenuCopyRequest;
 import org.example.springadminv2.domain.menu.dto.MenuCreateRequest;
+import org.example.springadminv2.domain.menu.dto.MenuMoveRequest;
 import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
 import org.example.springadminv2.domain.menu.dto.MenuSortUpdateRequest;
-import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
+import org.example.springadminv2.domain.menu.dto.MenuTreeDelta;
 import org.example.springadminv2.domain.menu.dto.MenuUpdateRequest;
 import org.example.springadminv2.domain.menu.service.MenuService;
 import org.example.springadminv2.global.dto.ApiResponse;
 import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.config.MenuResourcePermissionsReloader;
+import org.example.springadminv2.global.security.dto.MenuAuthorityChange;
+import org.example.springadminv2.global.web.SerializedResponseCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +29,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,15 +40,45 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MenuController {
 
+    private static final String MENU_TREE_RESPONSE = "menuTree";
+
     private final MenuService menuService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final MenuResourcePermissionsReloader menuResourcePermissionsReloader;
+
     /**
      * 전체 메뉴 트리 조회.
+     * 메뉴 데이터 버전을 strong ETag로 내려주며, If-None-Match가 일치하면 본문 없이 304를 반환한다.
+     * 응답 본문은 버전별로 직렬화된 바이트를 재사용한다.
      */
     @GetMapping("/tree")
     @PreAuthorize("hasAuthority('MENU:R')")
-    public ResponseEntity<ApiResponse<List<MenuTreeNode>>> getMenuTree() {
-        List<MenuTreeNode> tree = menuService.getMenuTree();
-        return ResponseEntity.ok(ApiResponse.success(tree));
+    public ResponseEntity<byte[]> getMenuTree(WebRequest webRequest) {
+        return serializedResponseCache.respond(
+                MENU_TREE_RESPONSE,
+                menuService.getMenuTreeVersion(),
+                () -> ApiResponse.success(menuService.getMenuTree()),
+                webRequest);
+    }
+
+    /**
+     * 메뉴 트리 변경분 조회.
+     * since는 이전 응답의 version이며, 처음이거나 너무 뒤처졌으면 full=true로 전체 트리를 반환한다.
+     */
+    @GetMapping(value = "/tree", params = "since")
+    @PreAuthorize("hasAuthority('MENU:R')")
+    public ResponseEntity<ApiResponse<MenuTreeDelta>> getMenuTreeDelta(@RequestParam String since) {
+        return ResponseEntity.ok(ApiResponse.success(menuService.getMenuTreeDelta(since)));
+    }
+
+    /**
+     * 메뉴 이름 검색 (MENU_NAME, MENU_ENG_NAME, 초성).
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('MENU:R')")
+    public ResponseEntity<ApiResponse<List<MenuSearchResult>>> searchMenus(
+            @RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(menuService.searchMenus(q, limit)));
     }
 
     /**
@@ -52,6 +91,42 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success(menu));
     }
 
+    /**
+     * 조상 메뉴 ID 조회 (최상위부터).
+     */
+    @GetMapping("/{menuId}/ancestors")
+    @PreAuthorize("hasAuthority('MENU:R')")
+    public ResponseEntity<ApiResponse<List<String>>> getAncestorIds(@PathVariable String menuId) {
+        return ResponseEntity.ok(ApiResponse.success(menuService.getAncestorIds(menuId)));
+    }
+
+    /**
+     * 하위 메뉴 ID 조회 (가까운 깊이부터).
+     */
+    @GetMapping("/{menuId}/descendants")
+    @PreAuthorize("hasAuthority('MENU:R')")
+    public ResponseEntity<ApiResponse<List<String>>> getDescendantIds(@PathVariable String menuId) {
+        return ResponseEntity.ok(ApiResponse.success(menuService.getDescendantIds(menuId)));
+    }
+
+    /**
+     * 메뉴 계층 closure 재생성. 적재한 연결 수를 반환한다.
+     */
+    @PostMapping("/closure/rebuild")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildMenuClosure() {
+        return ResponseEntity.ok(ApiResponse.success(menuService.rebuildMenuClosure()));
+    }
+
+    /**
+     * 메뉴 리소스 권한 매핑 재적재. 메뉴·접근 레벨별로 바뀐 권한을 반환한다.
+     */
+    @PostMapping("/resource-permissions/reload")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<List<MenuAuthorityChange>>> reloadResourcePermissions() {
+        return ResponseEntity.ok(ApiResponse.success(menuResourcePermissionsReloader.reload()));
+    }
+
     /**
      * 메뉴 생성.
      */
@@ -86,6 +161,41 @@ public class MenuController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    /**
+     * 하위 트리 전체 삭제. 하위 메뉴와 해당 메뉴 권한까지 함께 삭제하고 삭제된 메뉴 ID를 반환한다.
+     */
+    @DeleteMapping("/{menuId}/subtree")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<List<String>>> deleteSubtree(@PathVariable String menuId) {
+        return ResponseEntity.ok(ApiResponse.success(menuService.deleteSubtree(menuId)));
+    }
+
+    /**
+     * 하위 트리 복사. 복사된 메뉴 ID(첫 번째가 복사본 루트)를 반환한다.
+     */
+    @PostMapping("/{menuId}/copy")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<List<String>>> copySubtree(
+            @PathVariable String menuId,
+            @Validated @RequestBody MenuCopyRequest request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        List<String> copiedIds = menuService.copySubtree(menuId, request, user.getUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(copiedIds));
+    }
+
+    /**
+     * 하위 트리 이동. 자기 자신이나 하위 메뉴 아래로는 옮길 수 없다.
+     */
+    @PutMapping("/{menuId}/move")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<Void>> moveSubtree(
+            @PathVariable String menuId,
+            @Validated @RequestBody MenuMoveRequest request,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        menuService.moveSubtree(menuId, request.priorMenuId(), request.sortOrder(), user.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
     /**
      * 메뉴 순서 변경.
      */
@@ -98,4 +208,15 @@ public class MenuController {
         menuService.updateSortOrder(menuId, request.sortOrder(), request.priorMenuId(), user.getUserId());
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    /**
+     * 메뉴 순서/상위 메뉴 일괄 변경. 드래그 앤 드롭 결과의 형제 목록 전체를 한 번에 반영한다.
+     */
+    @PutMapping("/sort")
+    @PreAuthorize("hasAuthority('MENU:W')")
+    public ResponseEntity<ApiResponse<Void>> updateSortOrders(
+            @Validated @RequestBody MenuBulkSortRequest request, @AuthenticationPrincipal CustomUserDetails user) {
+        menuService.updateSortOrders(request.items(), user.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
 }
@@ -0,0 +1,9 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record MenuBulkSortRequest(@NotEmpty @Size(max = 1000) List<@Valid MenuSortItem> items) {}
@@ -0,0 +1,12 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import java.util.List;
+
+/**
+ * SSE로 전달하는 메뉴/권한 변경 알림.
+ *
+ * @param scope   MENU(메뉴 데이터), ROLE / USER(권한)
+ * @param type    MENU이면 MenuChangedEvent.Type, 권한이면 PERMISSION
+ * @param menuIds 변경된 메뉴 ID (권한 알림이면 빈 목록)
+ */
+public record MenuChangeNotice(String scope, String type, List<String> menuIds) {}
@@ -0,0 +1,16 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 하위 트리 복사 요청.
+ * 복사되는 메뉴 ID는 fromPrefix로 시작하면 그 부분을 toPrefix로 바꾸고, 아니면 앞에 toPrefix를 붙인다.
+ */
+public record MenuCopyRequest(
+        @NotBlank String targetParentId, @Size(max = 40) String fromPrefix, @NotBlank @Size(max = 40) String toPrefix) {
+
+    public MenuCopyRequest {
+        if (fromPrefix == null) fromPrefix = "";
+    }
+}
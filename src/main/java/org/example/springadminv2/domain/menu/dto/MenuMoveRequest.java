@@ -0,0 +1,8 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 하위 트리 이동 요청. sortOrder가 없으면 새 상위 메뉴의 마지막 순서로 붙인다.
+ */
+public record MenuMoveRequest(@NotBlank String priorMenuId, Integer sortOrder) {}
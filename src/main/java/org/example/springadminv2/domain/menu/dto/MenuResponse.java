@@ -10,4 +10,5 @@ public record MenuResponse(
         String displayYn,
         String useYn,
         String lastUpdateDtime,
-        String lastUpdateUserId) {}
+        String lastUpdateUserId,
+        String menuEngName) {}
@@ -0,0 +1,18 @@
+package org.example.springadminv2.domain.menu.dto;
+
+/**
+ * 메뉴 이름 검색 결과.
+ */
+public record MenuSearchResult(
+        String menuId, String priorMenuId, String menuName, String menuEngName, String menuUrl, String menuImage) {
+
+    public static MenuSearchResult of(MenuResponse menu) {
+        return new MenuSearchResult(
+                menu.menuId(),
+                menu.priorMenuId(),
+                menu.menuName(),
+                menu.menuEngName(),
+                menu.menuUrl(),
+                menu.menuImage());
+    }
+}
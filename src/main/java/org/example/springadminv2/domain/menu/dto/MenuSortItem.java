@@ -0,0 +1,6 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record MenuSortItem(@NotBlank String menuId, @NotBlank String priorMenuId, @NotNull Integer sortOrder) {}
@@ -0,0 +1,20 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import java.util.List;
+
+/**
+ * since 버전 이후의 메뉴 트리 변경분.
+ * full이면 tree에 전체 트리가 담기고, 아니면 upserted(추가/수정/이동된 메뉴의 현재 행)와 deleted(삭제된 menuId)만 담긴다.
+ * version은 다음 요청의 since로 그대로 보내는 값이다.
+ */
+public record MenuTreeDelta(
+        String version, boolean full, List<MenuTreeNode> tree, List<MenuResponse> upserted, List<String> deleted) {
+
+    public static MenuTreeDelta full(String version, List<MenuTreeNode> tree) {
+        return new MenuTreeDelta(version, true, tree, List.of(), List.of());
+    }
+
+    public static MenuTreeDelta changes(String version, List<MenuResponse> upserted, List<String> deleted) {
+        return new MenuTreeDelta(version, false, List.of(), upserted, deleted);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.springadminv2.domain.menu.dto;
+
+import java.util.List;
+
+/**
+ * 전체 메뉴 트리의 불변 스냅샷.
+ * version은 FWK_MENU 변경이 커밋될 때마다 증가하며, 같은 version의 스냅샷은 항상 같은 데이터를 가리킨다.
+ * fingerprint는 메뉴 데이터의 해시로, 내용이 같으면 노드와 재기동에 관계없이 같은 값이다 (ETag 용도).
+ */
+public record MenuTreeSnapshot(long version, String fingerprint, List<MenuResponse> menus, List<MenuTreeNode> tree) {
+
+    public MenuTreeSnapshot {
+        menus = List.copyOf(menus);
+        tree = List.copyOf(tree);
+    }
+}
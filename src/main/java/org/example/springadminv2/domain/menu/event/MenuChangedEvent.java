@@ -0,0 +1,25 @@
+package org.example.springadminv2.domain.menu.event;
+
+import java.util.List;
+
+/**
+ * FWK_MENU 변경 이벤트.
+ * MenuService의 쓰기 메서드가 트랜잭션 안에서 발행하고, 캐시 등은 커밋 이후(AFTER_COMMIT)에 수신한다.
+ */
+public record MenuChangedEvent(Type type, List<String> menuIds) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        MOVED
+    }
+
+    public MenuChangedEvent {
+        menuIds = List.copyOf(menuIds);
+    }
+
+    public static MenuChangedEvent of(Type type, String menuId) {
+        return new MenuChangedEvent(type, List.of(menuId));
+    }
+}
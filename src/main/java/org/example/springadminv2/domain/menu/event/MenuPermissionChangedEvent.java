@@ -0,0 +1,31 @@
+package org.example.springadminv2.domain.menu.event;
+
+import java.util.List;
+
+/**
+ * FWK_ROLE_MENU / FWK_USER_MENU 변경 이벤트.
+ * scope가 ROLE이면 ids는 roleId, USER이면 userId 목록이다. ids가 비어 있으면 해당 scope 전체가 변경된 것으로 본다.
+ */
+public record MenuPermissionChangedEvent(Scope scope, List<String> ids) {
+
+    public enum Scope {
+        ROLE,
+        USER
+    }
+
+    public MenuPermissionChangedEvent {
+        ids = List.copyOf(ids);
+    }
+
+    public static MenuPermissionChangedEvent ofRoles(String... roleIds) {
+        return new MenuPermissionChangedEvent(Scope.ROLE, List.of(roleIds));
+    }
+
+    public static MenuPermissionChangedEvent ofUsers(String... userIds) {
+        return new MenuPermissionChangedEvent(Scope.USER, List.of(userIds));
+    }
+
+    public boolean isAll() {
+        return ids.isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.springadminv2.domain.menu.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * FWK_MENU_CLOSURE (메뉴 계층 closure 테이블) 매퍼.
+ * 조상/자손 조회는 인덱스 범위 스캔이며, oracle/mysql XML의 SQL은 동일하다.
+ */
+@Mapper
+public interface MenuClosureMapper {
+
+    /** 조상 메뉴 ID (최상위부터, 자기 자신 제외) */
+    List<String> selectAncestorIds(String menuId);
+
+    /** 하위 메뉴 ID (가까운 깊이부터, 자기 자신 제외) */
+    List<String> selectDescendantIds(String menuId);
+
+    /** 새 메뉴(자식 없음)를 priorMenuId 아래에 연결한다. */
+    void insertMenuLinks(@Param("menuId") String menuId, @Param("priorMenuId") String priorMenuId);
+
+    /** 메뉴들의 모든 연결을 삭제한다. 하위 트리 삭제 시 트리 전체 ID를 넘긴다. */
+    void deleteLinks(@Param("menuIds") List<String> menuIds);
+
+    /** menuId 하위 트리를 기존 조상들로부터 분리한다. attachSubtree와 쌍으로 호출한다. */
+    void detachSubtree(String menuId);
+
+    /** menuId 하위 트리를 priorMenuId의 조상들에 연결한다. priorMenuId가 하위 트리 안이면 연결하지 않는다. */
+    void attachSubtree(@Param("menuId") String menuId, @Param("priorMenuId") String priorMenuId);
+
+    /**
+     * rootMenuId 하위 트리의 연결을 ID prefix 규칙으로 바꿔 복사하고, 복사본 루트를 targetParentId 아래에 연결한다.
+     * MenuMapper.copyMenus와 같은 ID 치환 규칙을 사용한다.
+     */
+    void copySubtreeLinks(
+            @Param("rootMenuId") String rootMenuId,
+            @Param("targetParentId") String targetParentId,
+            @Param("fromPrefix") String fromPrefix,
+            @Param("toPrefix") String toPrefix);
+
+    void deleteAllLinks();
+
+    void insertLink(
+            @Param("ancestorId") String ancestorId,
+            @Param("descendantId") String descendantId,
+            @Param("depth") int depth);
+}
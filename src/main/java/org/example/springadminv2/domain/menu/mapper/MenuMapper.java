@@ -31,6 +31,22 @@ public interface MenuMapper {
 
     int countChildMenus(String menuId);
 
+    void deleteMenus(@Param("menuIds") List<String> menuIds);
+
+    void deleteRoleMenusByMenuIds(@Param("menuIds") List<String> menuIds);
+
+    void deleteUserMenusByMenuIds(@Param("menuIds") List<String> menuIds);
+
+    void copyMenus(
+            @Param("menuIds") List<String> menuIds,
+            @Param("rootMenuId") String rootMenuId,
+            @Param("targetParentId") String targetParentId,
+            @Param("rootSortOrder") int rootSortOrder,
+            @Param("fromPrefix") String fromPrefix,
+            @Param("toPrefix") String toPrefix,
+            @Param("lastUpdateUserId") String userId,
+            @Param("lastUpdateDtime") String dtime);
+
     void updateSortOrder(
             @Param("menuId") String menuId,
             @Param("sortOrder") int sortOrder,
@@ -0,0 +1,61 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.function.Function;
+
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.config.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 권한 메뉴 트리 캐시 무효화.
+ * <ul>
+ *   <li>FWK_MENU 변경: 모든 트리가 영향을 받으므로 전체 삭제</li>
+ *   <li>FWK_ROLE_MENU / FWK_USER_MENU 변경: 해당 역할 또는 사용자 키만 삭제</li>
+ * </ul>
+ * 롤백된 변경으로 캐시가 비워지지 않도록 커밋 이후에 처리한다.
+ * 변경 알림(MenuEventBroadcaster)보다 먼저 실행되도록 가장 높은 우선순위를 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorizedMenuTreeCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        cache().clear();
+        log.debug("Authorized menu tree cache cleared: menu {} {}", event.type(), event.menuIds());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuPermissionChanged(MenuPermissionChangedEvent event) {
+        Cache cache = cache();
+        if (event.isAll()) {
+            cache.clear();
+            log.debug("Authorized menu tree cache cleared: {} permissions", event.scope());
+            return;
+        }
+        Function<String, String> keyOf = event.scope() == MenuPermissionChangedEvent.Scope.ROLE
+                ? AuthorizedMenuTreeKeyGenerator::roleKey
+                : AuthorizedMenuTreeKeyGenerator::userKey;
+        event.ids().forEach(id -> cache.evict(keyOf.apply(id)));
+        log.debug("Authorized menu tree cache evicted: {} {}", event.scope(), event.ids());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.AUTHORIZED_MENU_TREE);
+    }
+}
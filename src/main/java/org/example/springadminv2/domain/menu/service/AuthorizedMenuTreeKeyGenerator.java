@@ -0,0 +1,40 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.lang.reflect.Method;
+
+import org.example.springadminv2.global.security.config.SecurityAccessProperties;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 권한 메뉴 트리 캐시 키 생성기.
+ * ROLE_MENU 모드는 같은 역할의 사용자끼리 트리를 공유하므로 roleId로, USER_MENU 모드는 userId로 키를 만든다.
+ * 대상 메서드의 파라미터는 (userId, roleId) 순서여야 한다.
+ */
+@Component(AuthorizedMenuTreeKeyGenerator.BEAN_NAME)
+@RequiredArgsConstructor
+public class AuthorizedMenuTreeKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "authorizedMenuTreeKeyGenerator";
+
+    private final SecurityAccessProperties securityAccessProperties;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return keyOf((String) params[0], (String) params[1]);
+    }
+
+    public String keyOf(String userId, String roleId) {
+        return "ROLE_MENU".equals(securityAccessProperties.getAuthoritySource()) ? roleKey(roleId) : userKey(userId);
+    }
+
+    public static String roleKey(String roleId) {
+        return "ROLE:" + roleId;
+    }
+
+    public static String userKey(String userId) {
+        return "USER:" + userId;
+    }
+}
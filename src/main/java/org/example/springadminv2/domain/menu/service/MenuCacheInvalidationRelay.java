@@ -0,0 +1,74 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.cache.CacheInvalidationBus;
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴/메뉴 권한 변경 이벤트와 노드 간 캐시 무효화 버스를 잇는다.
+ * <ul>
+ *   <li>보내기: 쓰기 트랜잭션 안에서 발행된 이벤트를 같은 트랜잭션에서 버스에 기록한다 (MENU: menuId, ROLE_MENU: roleId, USER_MENU: userId)</li>
+ *   <li>받기: 다른 노드의 변경을 같은 이벤트로 다시 발행해, 이 노드의 캐시/변경 로그/SSE 알림이 로컬 변경과 똑같이 반응하게 한다</li>
+ * </ul>
+ * 받은 이벤트는 트랜잭션 밖에서 발행되므로 다시 버스에 기록되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuCacheInvalidationRelay {
+
+    public static final String REGION_MENU = "MENU";
+    public static final String REGION_ROLE_MENU = "ROLE_MENU";
+    public static final String REGION_USER_MENU = "USER_MENU";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            event.menuIds().forEach(menuId -> cacheInvalidationBus.publish(REGION_MENU, menuId));
+        }
+    }
+
+    @EventListener
+    public void onMenuPermissionChanged(MenuPermissionChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String region = event.scope() == MenuPermissionChangedEvent.Scope.ROLE ? REGION_ROLE_MENU : REGION_USER_MENU;
+        if (event.isAll()) {
+            cacheInvalidationBus.publish(region, CacheInvalidationBus.ALL_KEYS);
+        } else {
+            event.ids().forEach(id -> cacheInvalidationBus.publish(region, id));
+        }
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheRegionInvalidatedEvent event) {
+        switch (event.region()) {
+            case REGION_MENU -> eventPublisher.publishEvent(
+                    new MenuChangedEvent(MenuChangedEvent.Type.UPDATED, event.keys()));
+            case REGION_ROLE_MENU -> eventPublisher.publishEvent(
+                    new MenuPermissionChangedEvent(MenuPermissionChangedEvent.Scope.ROLE, idsOf(event)));
+            case REGION_USER_MENU -> eventPublisher.publishEvent(
+                    new MenuPermissionChangedEvent(MenuPermissionChangedEvent.Scope.USER, idsOf(event)));
+            default -> {
+                // 다른 영역은 각 캐시가 직접 처리한다
+            }
+        }
+    }
+
+    /** 영역 전체 변경이면 빈 목록(= 전체)을 반환한다. */
+    private static List<String> idsOf(CacheRegionInvalidatedEvent event) {
+        return event.isAll() ? List.of() : event.keys();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 최근 FWK_MENU 변경의 (version, menuIds) 기록. 오래된 항목부터 버리는 고정 크기 로그다.
+ * <p>
+ * floor는 로그가 빠짐없이 덮는 가장 오래된 version이다. since ≥ floor이면 since 이후 변경된 메뉴를 로그만으로 구할 수 있다.
+ * 스레드 안전하지 않으므로 {@link MenuTreeCache}의 monitor 안에서만 사용한다.
+ */
+final class MenuChangeLog {
+
+    private record Entry(long version, List<String> menuIds) {}
+
+    private final int capacity;
+    private final ArrayDeque<Entry> entries;
+    private long floor;
+
+    MenuChangeLog(int capacity, long initialVersion) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+        this.floor = initialVersion;
+    }
+
+    void append(long version, List<String> menuIds) {
+        if (entries.size() == capacity) {
+            floor = entries.removeFirst().version();
+        }
+        entries.addLast(new Entry(version, menuIds));
+    }
+
+    /**
+     * 어떤 메뉴가 바뀌었는지 모르는 변경. 이전 기록으로는 더 이상 delta를 만들 수 없다.
+     */
+    void reset(long version) {
+        entries.clear();
+        floor = version;
+    }
+
+    /**
+     * since 초과 until 이하 version에서 변경된 menuId (처음 기록된 순서, 중복 제거).
+     * 로그가 since 이후를 모두 덮지 못하거나 since가 until보다 크면 null.
+     */
+    Set<String> changedSince(long since, long until) {
+        if (since < floor || since > until) {
+            return null;
+        }
+        Set<String> changed = new LinkedHashSet<>();
+        Iterator<Entry> it = entries.descendingIterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.version() <= since) {
+                break;
+            }
+            if (entry.version() <= until) {
+                changed.addAll(entry.menuIds());
+            }
+        }
+        return changed;
+    }
+}
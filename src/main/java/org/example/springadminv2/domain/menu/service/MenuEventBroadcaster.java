@@ -0,0 +1,152 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.example.springadminv2.domain.menu.dto.MenuChangeNotice;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메뉴/권한 변경을 연결된 사이드바(SSE)에 알린다.
+ * <p>
+ * SseEmitter는 Servlet 비동기 요청이므로 유휴 연결은 스레드를 점유하지 않는다.
+ * 전송은 menuEventExecutor 한 곳에서 하고, 알림 본문은 이벤트마다 한 번만 직렬화한다.
+ * 메뉴 변경은 모든 연결에, 권한 변경은 해당 역할/사용자의 연결에만 보낸다.
+ * 캐시 무효화 리스너보다 뒤에 실행되어야 알림을 받은 클라이언트가 새 트리를 조회한다.
+ */
+@Slf4j
+@Component
+public class MenuEventBroadcaster {
+
+    public static final String EVENT_NAME = "menu-changed";
+
+    private static final String PERMISSION = "PERMISSION";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final long timeoutMillis;
+
+    public MenuEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Qualifier("menuEventExecutor") Executor executor,
+            @Value("${web.sse.timeout:1800000}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private record Subscriber(String userId, String roleId, SseEmitter emitter) {}
+
+    /**
+     * 사용자 연결을 등록한다. 연결이 끝나거나(timeout 포함) 전송에 실패하면 자동으로 해제된다.
+     */
+    public SseEmitter subscribe(String userId, String roleId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, roleId, emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // 응답 헤더를 바로 내보내 클라이언트가 연결 성공을 알 수 있게 한다
+        send(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        MenuChangeNotice notice = new MenuChangeNotice("MENU", event.type().name(), event.menuIds());
+        broadcast(subscriber -> true, notice);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuPermissionChanged(MenuPermissionChangedEvent event) {
+        Set<String> ids = new HashSet<>(event.ids());
+        Predicate<Subscriber> target;
+        if (event.isAll()) {
+            target = subscriber -> true;
+        } else if (event.scope() == MenuPermissionChangedEvent.Scope.ROLE) {
+            target = subscriber -> ids.contains(subscriber.roleId());
+        } else {
+            target = subscriber -> ids.contains(subscriber.userId());
+        }
+        broadcast(target, new MenuChangeNotice(event.scope().name(), PERMISSION, List.of()));
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료를 막고 끊어진 연결을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${web.sse.heartbeat-interval:25000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        executor.execute(
+                () -> subscribers.forEach(s -> send(s, SseEmitter.event().comment("ping"))));
+    }
+
+    private void broadcast(Predicate<Subscriber> target, MenuChangeNotice notice) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String data = toJson(notice);
+        executor.execute(() -> {
+            int sent = 0;
+            for (Subscriber subscriber : subscribers) {
+                if (target.test(subscriber)
+                        && send(subscriber, SseEmitter.event().name(EVENT_NAME).data(data))) {
+                    sent++;
+                }
+            }
+            log.debug("Menu change notice sent: {} {} to {} connections", notice.scope(), notice.type(), sent);
+        });
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊긴 경우
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    private String toJson(MenuChangeNotice notice) {
+        try {
+            return objectMapper.writeValueAsString(notice);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorType.INTERNAL_ERROR, "menu change notice", e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.UserMenuRow;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+
+/**
+ * FWK_MENU 전체를 int id로 interning한 parent-pointer 인덱스.
+ * <p>
+ * id는 selectAllMenus 순서(SORT_ORDER)의 위치이며, 권한 메뉴 트리의 조상 closure를 BitSet으로 계산한다.
+ * 생성 후에는 변경되지 않으므로 스냅샷과 함께 여러 스레드가 공유한다.
+ */
+public final class MenuIndex {
+
+    private static final int NO_PARENT = -1;
+
+    private final Map<String, Integer> idByMenuId;
+    private final MenuResponse[] menus;
+    private final int[] parent;
+    private final int[] childStart;
+    private final int[] children;
+    private final BitSet visible;
+
+    private MenuIndex(List<MenuResponse> allMenus) {
+        int size = allMenus.size();
+        this.idByMenuId = new HashMap<>(size * 2);
+        this.menus = allMenus.toArray(new MenuResponse[0]);
+        this.parent = new int[size];
+        this.visible = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            idByMenuId.put(menus[i].menuId(), i);
+        }
+        for (int i = 0; i < size; i++) {
+            MenuResponse menu = menus[i];
+            Integer parentId = menu.priorMenuId() == null ? null : idByMenuId.get(menu.priorMenuId());
+            parent[i] = parentId == null ? NO_PARENT : parentId;
+            if ("Y".equals(menu.useYn()) && "Y".equals(menu.displayYn())) {
+                visible.set(i);
+            }
+        }
+
+        // 자식 목록(CSR): children[childStart[p] .. childStart[p + 1]) 가 p의 자식 (id 순)
+        this.childStart = new int[size + 1];
+        this.children = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (parent[i] != NO_PARENT) {
+                childStart[parent[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+        int[] next = childStart.clone();
+        for (int i = 0; i < size; i++) {
+            if (parent[i] != NO_PARENT) {
+                children[next[parent[i]]++] = i;
+            }
+        }
+    }
+
+    public static MenuIndex of(List<MenuResponse> allMenus) {
+        return new MenuIndex(allMenus);
+    }
+
+    public int size() {
+        return menus.length;
+    }
+
+    /**
+     * menuId의 int id. 인덱스에 없으면 -1.
+     */
+    public int idOf(String menuId) {
+        Integer id = idByMenuId.get(menuId);
+        return id == null ? NO_PARENT : id;
+    }
+
+    public MenuResponse menu(int id) {
+        return menus[id];
+    }
+
+    public int parentOf(int id) {
+        return parent[id];
+    }
+
+    /**
+     * menuId와 그 하위 메뉴 전체의 menuId를 전위 순서(부모가 자식보다 먼저)로 반환한다.
+     * 인덱스에 없는 menuId면 빈 목록. 순환이 있어도 각 메뉴는 한 번만 포함된다.
+     */
+    public List<String> subtreeOf(String menuId) {
+        int rootId = idOf(menuId);
+        if (rootId == NO_PARENT) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        BitSet seen = new BitSet(menus.length);
+        int[] stack = new int[menus.length];
+        int top = 0;
+        stack[top++] = rootId;
+        seen.set(rootId);
+        while (top > 0) {
+            int cur = stack[--top];
+            result.add(menus[cur].menuId());
+            // 역순으로 쌓아 형제 순서를 유지한다
+            for (int c = childStart[cur + 1] - 1; c >= childStart[cur]; c--) {
+                int child = children[c];
+                if (!seen.get(child)) {
+                    seen.set(child);
+                    stack[top++] = child;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 권한 메뉴 행과 그 조상들을 UserMenuRow 목록(SORT_ORDER 순)으로 반환한다.
+     * MenuMapper.xml(oracle, mysql) selectUserMenuTree/selectRoleMenuTree와 같은 규칙을 따른다.
+     * <ul>
+     *   <li>시작점은 권한이 있고 사용 중(USE_YN, DISPLAY_YN = 'Y')인 메뉴</li>
+     *   <li>조상은 사용 중인 메뉴까지만 올라가며, 권한이 없는 조상의 authCode는 null</li>
+     *   <li>같은 메뉴에 권한이 여러 건이면 가장 큰 authCode를 사용</li>
+     * </ul>
+     */
+    public List<UserMenuRow> authorizedRows(List<MenuPermission> permissions) {
+        String[] authCodes = new String[menus.length];
+        BitSet closure = new BitSet(menus.length);
+
+        for (MenuPermission permission : permissions) {
+            int id = idOf(permission.menuId());
+            if (id == NO_PARENT || !visible.get(id)) {
+                continue;
+            }
+            String authCode = permission.authCode();
+            if (authCodes[id] == null || (authCode != null && authCode.compareTo(authCodes[id]) > 0)) {
+                authCodes[id] = authCode;
+            }
+            // 이미 closure에 포함된 노드를 만나면 그 위 조상도 이미 포함되어 있으므로 멈춘다 (순환 방지 포함)
+            for (int cur = id; cur != NO_PARENT && visible.get(cur) && !closure.get(cur); cur = parent[cur]) {
+                closure.set(cur);
+            }
+        }
+
+        List<UserMenuRow> rows = new ArrayList<>(closure.cardinality());
+        for (int id = closure.nextSetBit(0); id >= 0; id = closure.nextSetBit(id + 1)) {
+            MenuResponse m = menus[id];
+            rows.add(new UserMenuRow(
+                    m.menuId(),
+                    m.priorMenuId(),
+                    m.sortOrder(),
+                    m.menuName(),
+                    m.menuUrl(),
+                    m.menuImage(),
+                    authCodes[id]));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
+import org.example.springadminv2.global.util.HangulUtil;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MENU_NAME / MENU_ENG_NAME 부분 일치 검색용 메모리 n-gram 인덱스.
+ * <p>
+ * 메뉴마다 이름, 영문 이름, 이름의 초성 문자열(공백 제거, 소문자)을 키로 두고 키의 1-gram과 2-gram을 slot BitSet posting에 넣는다.
+ * 검색은 검색어 2-gram posting의 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인하며, 앞부분 일치를 먼저 정렬한다.
+ * 검색어가 자음(ㄱ~ㅎ)으로만 이루어져 있으면 초성 키에서 찾는다.
+ * <p>
+ * 원본은 {@link MenuTreeCache} 스냅샷이다. 조회 시 스냅샷 version이 바뀌었으면 변경 로그의 menuId만 다시 색인하고,
+ * 변경 로그로 따라갈 수 없을 때만 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuSearchIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final int NOT_INDEXED = -1;
+
+    private final MenuTreeCache menuTreeCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotByMenuId = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private volatile long indexedVersion = NOT_INDEXED;
+
+    /**
+     * @param keys [이름, 영문 이름, 이름 초성] (정규화된 값, 없으면 빈 문자열)
+     */
+    private record Entry(MenuResponse menu, String[] keys) {}
+
+    private record Hit(int rank, MenuResponse menu) {}
+
+    /**
+     * query를 포함하는 메뉴를 최대 limit건 반환한다. 앞부분 일치 → SORT_ORDER 순.
+     *
+     * @param allowed 결과에 포함할 menuId 조건 (권한 필터)
+     */
+    public List<MenuSearchResult> search(String query, int limit, Predicate<String> allowed) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        refresh(menuTreeCache.get());
+
+        boolean choseong = HangulUtil.isChoseongOnly(q);
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(q);
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Entry entry = entries.get(slot);
+                int rank = rank(entry, q, choseong);
+                if (rank >= 0 && allowed.test(entry.menu().menuId())) {
+                    hits.add(new Hit(rank, entry.menu()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingInt(Hit::rank)
+                .thenComparingInt(h -> h.menu().sortOrder())
+                .thenComparing(h -> h.menu().menuId()));
+        return hits.stream()
+                .limit(Math.min(limit, MAX_LIMIT))
+                .map(h -> MenuSearchResult.of(h.menu()))
+                .toList();
+    }
+
+    /** 색인된 메뉴 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByMenuId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ── 색인 갱신 ──────────────────────────────────────────
+
+    private void refresh(MenuTreeSnapshot snapshot) {
+        if (snapshot.version() <= indexedVersion) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long from = indexedVersion;
+            if (snapshot.version() <= from) {
+                return;
+            }
+            Set<String> changed = from == NOT_INDEXED
+                    ? null
+                    : menuTreeCache.changedSince(menuTreeCache.versionToken(from), snapshot.version());
+            if (changed == null) {
+                rebuild(snapshot.menus());
+            } else {
+                MenuIndex index = menuTreeCache.index(snapshot);
+                for (String menuId : changed) {
+                    remove(menuId);
+                    int id = index.idOf(menuId);
+                    if (id >= 0) {
+                        add(index.menu(id));
+                    }
+                }
+                log.debug("Menu search index updated: version={}, menus={}", snapshot.version(), changed);
+            }
+            indexedVersion = snapshot.version();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild(List<MenuResponse> menus) {
+        slotByMenuId.clear();
+        entries.clear();
+        freeSlots.clear();
+        postings.clear();
+        for (MenuResponse menu : menus) {
+            add(menu);
+        }
+        log.debug("Menu search index rebuilt: menus={}, grams={}", menus.size(), postings.size());
+    }
+
+    private void add(MenuResponse menu) {
+        String name = normalize(menu.menuName());
+        String[] keys = {name, normalize(menu.menuEngName()), HangulUtil.choseong(name)};
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : entries.size();
+        if (free != null) {
+            entries.set(slot, new Entry(menu, keys));
+        } else {
+            entries.add(new Entry(menu, keys));
+        }
+        slotByMenuId.put(menu.menuId(), slot);
+        for (String key : keys) {
+            for (int i = 0; i < key.length(); i++) {
+                postings.computeIfAbsent(key.substring(i, i + 1), g -> new BitSet())
+                        .set(slot);
+                if (i + 1 < key.length()) {
+                    postings.computeIfAbsent(key.substring(i, i + 2), g -> new BitSet())
+                            .set(slot);
+                }
+            }
+        }
+    }
+
+    private void remove(String menuId) {
+        Integer slot = slotByMenuId.remove(menuId);
+        if (slot == null) {
+            return;
+        }
+        for (String key : entries.get(slot).keys()) {
+            for (int i = 0; i < key.length(); i++) {
+                clear(key.substring(i, i + 1), slot);
+                if (i + 1 < key.length()) {
+                    clear(key.substring(i, i + 2), slot);
+                }
+            }
+        }
+        entries.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private void clear(String gram, int slot) {
+        BitSet posting = postings.get(gram);
+        if (posting != null) {
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // ── 검색 ──────────────────────────────────────────────
+
+    private BitSet candidates(String q) {
+        if (q.length() == 1) {
+            BitSet posting = postings.get(q);
+            return posting == null ? new BitSet() : posting;
+        }
+        BitSet result = null;
+        for (int i = 0; i + 1 < q.length(); i++) {
+            BitSet posting = postings.get(q.substring(i, i + 2));
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 0: 앞부분 일치, 1: 중간 일치, -1: 불일치 (2-gram 교집합의 false positive 제거)
+     */
+    private static int rank(Entry entry, String q, boolean choseong) {
+        String[] keys = entry.keys();
+        int rank = -1;
+        for (int k = choseong ? 2 : 0; k < (choseong ? 3 : 2); k++) {
+            int at = keys[k].indexOf(q);
+            if (at == 0) {
+                return 0;
+            }
+            if (at > 0) {
+                rank = 1;
+            }
+        }
+        return rank;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
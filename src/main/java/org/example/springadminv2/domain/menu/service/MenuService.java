@@ -1,45 +1,182 @@
 package org.example.springadminv2.domain.menu.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.example.springadminv2.domain.menu.dto.MenuCopyRequest;
 import org.example.springadminv2.domain.menu.dto.MenuCreateRequest;
 import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
+import org.example.springadminv2.domain.menu.dto.MenuSortItem;
+import org.example.springadminv2.domain.menu.dto.MenuTreeDelta;
 import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
 import org.example.springadminv2.domain.menu.dto.MenuUpdateRequest;
 import org.example.springadminv2.domain.menu.dto.UserMenuRow;
 import org.example.springadminv2.domain.menu.dto.UserMenuTreeNode;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuClosureMapper;
 import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.example.springadminv2.global.config.CacheNames;
 import org.example.springadminv2.global.exception.BaseException;
 import org.example.springadminv2.global.exception.ErrorType;
 import org.example.springadminv2.global.security.config.SecurityAccessProperties;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.example.springadminv2.global.util.TreeBuilder;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MenuService {
 
     private static final DateTimeFormatter TIMESTAMP_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
+    /** 최상위 메뉴의 PRIOR_MENU_ID 값 */
+    public static final String ROOT_MENU_ID = "ROOT";
+
+    /** IN 절 하나에 넣는 최대 메뉴 수 (Oracle 제한 1000) */
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private static final int MENU_ID_MAX_LENGTH = 40;
+
+    /** prewarm 조회에 쓰는 존재하지 않는 사용자/역할 id */
+    private static final String PREWARM_ID = "__prewarm__";
+
     private final MenuMapper menuMapper;
+    private final MenuClosureMapper menuClosureMapper;
+    private final BatchSqlSession batchSqlSession;
+    private final AuthorityMapper authorityMapper;
     private final SecurityAccessProperties securityAccessProperties;
+    private final MenuTreeCache menuTreeCache;
+    private final MenuSearchIndex menuSearchIndex;
+    /** 캐시된 권한 메뉴 트리 인스턴스 → ETag. 트리가 캐시에서 빠져 GC되면 함께 정리된다. */
+    private final Cache<List<UserMenuTreeNode>, String> treeVersions =
+            Caffeine.newBuilder().weakKeys().build();
+
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 전체 메뉴를 조회하여 트리 구조로 반환한다.
-     * flat list -> priorMenuId 기준 grouping -> 재귀 빌드
+     * 전체 메뉴 트리를 반환한다.
+     * 커밋된 최신 FWK_MENU 기준 스냅샷을 사용하며, 스냅샷이 비어 있을 때만 DB를 조회한다.
      */
-    @Transactional(readOnly = true)
     public List<MenuTreeNode> getMenuTree() {
-        List<MenuResponse> allMenus = menuMapper.selectAllMenus();
-        return buildTree(allMenus);
+        return menuTreeCache.get().tree();
+    }
+
+    /**
+     * 전체 메뉴 트리의 데이터 버전(ETag 값).
+     * 스냅샷의 메뉴 데이터 해시이므로 스냅샷이 적재되어 있으면 DB를 조회하지 않는다.
+     */
+    public String getMenuTreeVersion() {
+        return menuTreeCache.get().fingerprint();
+    }
+
+    /**
+     * since 버전 토큰 이후의 메뉴 트리 변경분.
+     * 최근 변경 로그로 since 이후를 덮을 수 없거나 변경분이 전체 메뉴 수 이상이면 전체 트리를 반환한다.
+     * upserted는 현재 스냅샷에 있는 변경 메뉴의 행(정렬 순서), deleted는 스냅샷에서 사라진 menuId다.
+     */
+    public MenuTreeDelta getMenuTreeDelta(String since) {
+        MenuTreeSnapshot snapshot = menuTreeCache.get();
+        String version = menuTreeCache.versionToken(snapshot.version());
+        Set<String> changed = menuTreeCache.changedSince(since, snapshot.version());
+        if (changed == null || changed.size() >= snapshot.menus().size()) {
+            return MenuTreeDelta.full(version, snapshot.tree());
+        }
+        List<MenuResponse> upserted = snapshot.menus().stream()
+                .filter(m -> changed.contains(m.menuId()))
+                .toList();
+        MenuIndex index = menuTreeCache.index(snapshot);
+        List<String> deleted =
+                changed.stream().filter(menuId -> index.idOf(menuId) < 0).toList();
+        return MenuTreeDelta.changes(version, upserted, deleted);
+    }
+
+    /**
+     * 사용자 권한 메뉴 트리의 데이터 버전(ETag 값).
+     * 트리 내용의 해시이므로 내용이 같으면 노드와 재기동에 관계없이 같은 값이다.
+     * 캐시된 트리 인스턴스마다 한 번만 계산한다.
+     */
+    public String getAuthorizedMenuTreeVersion(List<UserMenuTreeNode> tree) {
+        return treeVersions.get(tree, MenuService::fingerprint);
+    }
+
+    private static String fingerprint(List<UserMenuTreeNode> tree) {
+        MessageDigest digest = MenuTreeCache.sha256();
+        digest(digest, tree);
+        return HexFormat.of().formatHex(digest.digest(), 0, 12);
+    }
+
+    /** 전위 순서로 노드를 기록하고, 하위 목록의 끝을 구분자로 표시한다. */
+    private static void digest(MessageDigest digest, List<UserMenuTreeNode> nodes) {
+        if (nodes == null) {
+            return;
+        }
+        for (UserMenuTreeNode node : nodes) {
+            String row = String.join(
+                    "\u0001",
+                    node.menuId(),
+                    node.priorMenuId(),
+                    String.valueOf(node.sortOrder()),
+                    node.menuName(),
+                    node.menuUrl(),
+                    node.menuImage(),
+                    node.authCode());
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest(digest, node.children());
+            digest.update((byte) 1);
+        }
+    }
+
+    /**
+     * 메뉴 이름(MENU_NAME, MENU_ENG_NAME) 검색. 초성만 입력하면 초성으로 찾는다.
+     */
+    public List<MenuSearchResult> searchMenus(String query, int limit) {
+        return menuSearchIndex.search(query, limit, menuId -> true);
+    }
+
+    /**
+     * 권한 메뉴 트리에 있는 메뉴만 대상으로 하는 메뉴 이름 검색.
+     *
+     * @param authorizedTree {@link #getAuthorizedMenuTree}로 조회한 사용자의 권한 메뉴 트리
+     */
+    public List<MenuSearchResult> searchAuthorizedMenus(
+            String query, int limit, List<UserMenuTreeNode> authorizedTree) {
+        Set<String> authorized = new HashSet<>();
+        List<UserMenuTreeNode> stack = new ArrayList<>(authorizedTree);
+        while (!stack.isEmpty()) {
+            UserMenuTreeNode node = stack.remove(stack.size() - 1);
+            if (authorized.add(node.menuId()) && node.children() != null) {
+                stack.addAll(node.children());
+            }
+        }
+        return menuSearchIndex.search(query, limit, authorized::contains);
     }
 
     /**
@@ -61,15 +198,22 @@ public class MenuService {
     public void createMenu(MenuCreateRequest request, String userId) {
         String now = LocalDateTime.now().format(TIMESTAMP_FMT);
         menuMapper.insertMenu(request, userId, now);
+        menuClosureMapper.insertMenuLinks(request.menuId(), request.priorMenuId());
+        eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.CREATED, request.menuId()));
     }
 
     /**
-     * 메뉴 수정.
+     * 메뉴 수정. 상위 메뉴가 바뀌면 순환을 검증하고 closure도 옮긴다.
      */
     @Transactional
     public void updateMenu(String menuId, MenuUpdateRequest request, String userId) {
+        boolean moved = validateParentChange(menuId, request.priorMenuId(), request.sortOrder());
         String now = LocalDateTime.now().format(TIMESTAMP_FMT);
         menuMapper.updateMenu(menuId, request, userId, now);
+        if (moved) {
+            moveClosure(menuClosureMapper, menuId, request.priorMenuId());
+        }
+        eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, menuId));
     }
 
     /**
@@ -82,26 +226,315 @@ public class MenuService {
             throw new BaseException(ErrorType.INVALID_STATE, "menuId=" + menuId + ", children=" + childCount);
         }
         menuMapper.deleteMenu(menuId);
+        menuClosureMapper.deleteLinks(List.of(menuId));
+        eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.DELETED, menuId));
     }
 
     /**
-     * 메뉴 순서(정렬) 변경.
+     * 메뉴 순서(정렬) 변경. 상위 메뉴가 바뀌면 순환을 검증하고 closure도 옮긴다.
      */
     @Transactional
     public void updateSortOrder(String menuId, int sortOrder, String priorMenuId, String userId) {
+        boolean moved = validateParentChange(menuId, priorMenuId, sortOrder);
         String now = LocalDateTime.now().format(TIMESTAMP_FMT);
         menuMapper.updateSortOrder(menuId, sortOrder, priorMenuId, userId, now);
+        if (moved) {
+            moveClosure(menuClosureMapper, menuId, priorMenuId);
+        }
+        eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.MOVED, menuId));
+    }
+
+    /**
+     * 메뉴 순서/상위 메뉴 일괄 변경.
+     * 변경 후의 전체 트리를 메모리에서 검증(중복, 미존재 메뉴/상위 메뉴, 순환)한 뒤
+     * BATCH executor로 UPDATE를 모아 한 번의 JDBC batch로 반영한다.
+     * <p>
+     * 한 트랜잭션에서 executor 종류를 섞을 수 없으므로 검증용 조회도 BATCH 매퍼로 수행한다.
+     */
+    @Transactional
+    public void updateSortOrders(List<MenuSortItem> items, String userId) {
+        MenuMapper batchMapper = batchSqlSession.getMapper(MenuMapper.class);
+        MenuClosureMapper batchClosureMapper = batchSqlSession.getMapper(MenuClosureMapper.class);
+        List<MenuResponse> menus = batchMapper.selectAllMenus();
+        Map<String, String> parents = validateSortItems(menus, items);
+
+        String now = LocalDateTime.now().format(TIMESTAMP_FMT);
+        for (MenuSortItem item : items) {
+            batchMapper.updateSortOrder(item.menuId(), item.sortOrder(), item.priorMenuId(), userId, now);
+        }
+        // 상위 메뉴가 바뀐 항목만, 최종 트리에서 얕은 것부터 closure를 옮겨야 중간 상태에 순환이 생기지 않는다
+        Map<String, String> currentParents = new HashMap<>();
+        for (MenuResponse menu : menus) {
+            currentParents.put(menu.menuId(), menu.priorMenuId());
+        }
+        items.stream()
+                .filter(item -> !item.priorMenuId().equals(currentParents.get(item.menuId())))
+                .map(MenuSortItem::menuId)
+                .sorted(Comparator.comparingInt(menuId -> depthOf(parents, menuId)))
+                .forEach(menuId -> moveClosure(batchClosureMapper, menuId, parents.get(menuId)));
+        batchSqlSession.flushStatements();
+        eventPublisher.publishEvent(new MenuChangedEvent(
+                MenuChangedEvent.Type.MOVED,
+                items.stream().map(MenuSortItem::menuId).toList()));
+    }
+
+    /**
+     * @return 변경 적용 후의 menuId → priorMenuId
+     */
+    private static Map<String, String> validateSortItems(List<MenuResponse> menus, List<MenuSortItem> items) {
+        Set<String> menuIds = new HashSet<>();
+        for (MenuResponse menu : menus) {
+            menuIds.add(menu.menuId());
+        }
+        Map<String, String> movedParents = new HashMap<>();
+        for (MenuSortItem item : items) {
+            if (movedParents.put(item.menuId(), item.priorMenuId()) != null) {
+                throw new BaseException(ErrorType.INVALID_INPUT, "duplicate menuId=" + item.menuId());
+            }
+            if (!menuIds.contains(item.menuId())) {
+                throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "menuId=" + item.menuId());
+            }
+            if (!ROOT_MENU_ID.equals(item.priorMenuId()) && !menuIds.contains(item.priorMenuId())) {
+                throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "priorMenuId=" + item.priorMenuId());
+            }
+        }
+        TreeBuilder.Result<String> result = TreeBuilder.build(
+                menus,
+                MenuResponse::menuId,
+                menu -> movedParents.getOrDefault(menu.menuId(), menu.priorMenuId()),
+                (menu, children) -> menu.menuId());
+        if (result.hasCycle()) {
+            throw new BaseException(ErrorType.INVALID_INPUT, "priorMenuId cycle: " + result.cycleIds());
+        }
+        Map<String, String> parents = new HashMap<>(menus.size() * 2);
+        for (MenuResponse menu : menus) {
+            parents.put(menu.menuId(), movedParents.getOrDefault(menu.menuId(), menu.priorMenuId()));
+        }
+        return parents;
+    }
+
+    /**
+     * 단건 변경의 상위 메뉴 검증. 상위 메뉴가 그대로면 전체 메뉴를 읽지 않고, 바뀌면 moveSubtree와 같은 검증을 한다.
+     *
+     * @return 상위 메뉴가 바뀌어 closure를 옮겨야 하면 true
+     */
+    private boolean validateParentChange(String menuId, String priorMenuId, int sortOrder) {
+        MenuResponse current = menuMapper.selectMenuById(menuId);
+        if (current == null) {
+            throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "menuId=" + menuId);
+        }
+        if (Objects.equals(current.priorMenuId(), priorMenuId)) {
+            return false;
+        }
+        validateSortItems(menuMapper.selectAllMenus(), List.of(new MenuSortItem(menuId, priorMenuId, sortOrder)));
+        return true;
+    }
+
+    /** 순환이 없는 parents 기준의 깊이 (최상위 0) */
+    private static int depthOf(Map<String, String> parents, String menuId) {
+        int depth = 0;
+        for (String cur = parents.get(menuId); parents.containsKey(cur); cur = parents.get(cur)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static void moveClosure(MenuClosureMapper closureMapper, String menuId, String priorMenuId) {
+        closureMapper.detachSubtree(menuId);
+        closureMapper.attachSubtree(menuId, priorMenuId);
+    }
+
+    /**
+     * 하위 트리 전체 삭제. 메뉴와 해당 메뉴들의 FWK_ROLE_MENU / FWK_USER_MENU 행을 함께 지운다.
+     * 대상 ID는 메모리에서 계산하고, IN 절 DELETE 문을 BATCH executor로 한 번에 전송한다.
+     *
+     * @return 삭제된 메뉴 ID (전위 순서)
+     */
+    @Transactional
+    public List<String> deleteSubtree(String menuId) {
+        MenuMapper batchMapper = batchSqlSession.getMapper(MenuMapper.class);
+        List<String> menuIds = MenuIndex.of(batchMapper.selectAllMenus()).subtreeOf(menuId);
+        if (menuIds.isEmpty()) {
+            throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "menuId=" + menuId);
+        }
+
+        MenuClosureMapper batchClosureMapper = batchSqlSession.getMapper(MenuClosureMapper.class);
+        for (List<String> chunk : chunks(menuIds)) {
+            batchClosureMapper.deleteLinks(chunk);
+            batchMapper.deleteRoleMenusByMenuIds(chunk);
+            batchMapper.deleteUserMenusByMenuIds(chunk);
+            batchMapper.deleteMenus(chunk);
+        }
+        batchSqlSession.flushStatements();
+
+        eventPublisher.publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.DELETED, menuIds));
+        eventPublisher.publishEvent(MenuPermissionChangedEvent.ofRoles());
+        eventPublisher.publishEvent(MenuPermissionChangedEvent.ofUsers());
+        return menuIds;
+    }
+
+    /**
+     * 하위 트리 복사. 복사본의 루트는 targetParentId의 마지막 순서로 붙는다.
+     * 메뉴 ID는 요청의 prefix 규칙으로 바꾸며, 복사는 INSERT ... SELECT 한 문장(IN 절 단위)으로 수행한다.
+     * 권한(FWK_ROLE_MENU / FWK_USER_MENU)은 복사하지 않는다. MENU_URL은 그대로 복사하며(폴더 메뉴의 NULL 포함),
+     * 같은 URL의 복사본은 원본 메뉴에 R 권한이 있는 사용자만 들어갈 수 있다.
+     *
+     * @return 복사된 메뉴 ID (전위 순서, 첫 번째가 복사본 루트)
+     */
+    @Transactional
+    public List<String> copySubtree(String menuId, MenuCopyRequest request, String userId) {
+        MenuMapper batchMapper = batchSqlSession.getMapper(MenuMapper.class);
+        List<MenuResponse> menus = batchMapper.selectAllMenus();
+        MenuIndex index = MenuIndex.of(menus);
+        List<String> sourceIds = index.subtreeOf(menuId);
+        if (sourceIds.isEmpty()) {
+            throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "menuId=" + menuId);
+        }
+        String targetParentId = request.targetParentId();
+        if (!ROOT_MENU_ID.equals(targetParentId) && index.idOf(targetParentId) < 0) {
+            throw new BaseException(ErrorType.RESOURCE_NOT_FOUND, "targetParentId=" + targetParentId);
+        }
+
+        List<String> copiedIds = new ArrayList<>(sourceIds.size());
+        Set<String> seen = new HashSet<>();
+        for (String sourceId : sourceIds) {
+            String copiedId = rewriteMenuId(sourceId, request.fromPrefix(), request.toPrefix());
+            if (copiedId.length() > MENU_ID_MAX_LENGTH) {
+                throw new BaseException(ErrorType.INVALID_INPUT, "menuId too long: " + copiedId);
+            }
+            if (index.idOf(copiedId) >= 0 || !seen.add(copiedId)) {
+                throw new BaseException(ErrorType.DUPLICATE_RESOURCE, "menuId=" + copiedId);
+            }
+            copiedIds.add(copiedId);
+        }
+
+        String now = LocalDateTime.now().format(TIMESTAMP_FMT);
+        int rootSortOrder = nextSortOrder(menus, targetParentId);
+        for (List<String> chunk : chunks(sourceIds)) {
+            batchMapper.copyMenus(
+                    chunk,
+                    menuId,
+                    targetParentId,
+                    rootSortOrder,
+                    request.fromPrefix(),
+                    request.toPrefix(),
+                    userId,
+                    now);
+        }
+        batchSqlSession
+                .getMapper(MenuClosureMapper.class)
+                .copySubtreeLinks(menuId, targetParentId, request.fromPrefix(), request.toPrefix());
+        batchSqlSession.flushStatements();
+
+        eventPublisher.publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.CREATED, copiedIds));
+        return copiedIds;
+    }
+
+    /**
+     * 하위 트리 이동. 인접 리스트 구조이므로 루트 메뉴의 PRIOR_MENU_ID만 바꾸며,
+     * 자기 자신이나 하위 메뉴 아래로 옮기는 요청은 순환으로 거부한다.
+     * sortOrder가 null이면 새 상위 메뉴의 마지막 순서로 붙인다.
+     */
+    @Transactional
+    public void moveSubtree(String menuId, String priorMenuId, Integer sortOrder, String userId) {
+        List<MenuResponse> menus = menuMapper.selectAllMenus();
+        int order = sortOrder != null ? sortOrder : nextSortOrder(menus, priorMenuId);
+        validateSortItems(menus, List.of(new MenuSortItem(menuId, priorMenuId, order)));
+
+        String now = LocalDateTime.now().format(TIMESTAMP_FMT);
+        menuMapper.updateSortOrder(menuId, order, priorMenuId, userId, now);
+        moveClosure(menuClosureMapper, menuId, priorMenuId);
+        eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.MOVED, menuId));
+    }
+
+    /**
+     * 조상 메뉴 ID (최상위부터). FWK_MENU_CLOSURE 인덱스 조회.
+     */
+    @Transactional(readOnly = true)
+    public List<String> getAncestorIds(String menuId) {
+        return menuClosureMapper.selectAncestorIds(menuId);
+    }
+
+    /**
+     * 하위 메뉴 ID (가까운 깊이부터). FWK_MENU_CLOSURE 인덱스 조회.
+     */
+    @Transactional(readOnly = true)
+    public List<String> getDescendantIds(String menuId) {
+        return menuClosureMapper.selectDescendantIds(menuId);
+    }
+
+    /**
+     * FWK_MENU 기준으로 FWK_MENU_CLOSURE 전체를 다시 만든다. 초기 적재나 불일치 복구용.
+     * 순환에 걸린 메뉴는 조상 탐색이 순환 지점에서 멈춘다.
+     *
+     * @return 적재한 연결 수
+     */
+    @Transactional
+    public int rebuildMenuClosure() {
+        MenuMapper batchMapper = batchSqlSession.getMapper(MenuMapper.class);
+        MenuClosureMapper batchClosureMapper = batchSqlSession.getMapper(MenuClosureMapper.class);
+        MenuIndex index = MenuIndex.of(batchMapper.selectAllMenus());
+
+        batchClosureMapper.deleteAllLinks();
+        int links = 0;
+        BitSet visited = new BitSet(index.size());
+        for (int id = 0; id < index.size(); id++) {
+            String menuId = index.menu(id).menuId();
+            visited.clear();
+            int depth = 0;
+            for (int cur = id; cur >= 0 && !visited.get(cur); cur = index.parentOf(cur), depth++) {
+                visited.set(cur);
+                batchClosureMapper.insertLink(index.menu(cur).menuId(), menuId, depth);
+                links++;
+            }
+        }
+        batchSqlSession.flushStatements();
+        return links;
+    }
+
+    /**
+     * 메뉴 ID prefix 치환. MenuMapper.xml(oracle, mysql) copyMenus의 CASE 식과 같은 규칙이어야 한다.
+     */
+    static String rewriteMenuId(String menuId, String fromPrefix, String toPrefix) {
+        return menuId.startsWith(fromPrefix) ? toPrefix + menuId.substring(fromPrefix.length()) : toPrefix + menuId;
+    }
+
+    private static int nextSortOrder(List<MenuResponse> menus, String priorMenuId) {
+        int max = 0;
+        for (MenuResponse menu : menus) {
+            if (priorMenuId.equals(menu.priorMenuId()) && menu.sortOrder() > max) {
+                max = menu.sortOrder();
+            }
+        }
+        return max + 1;
+    }
+
+    private static List<List<String>> chunks(List<String> ids) {
+        List<List<String>> chunks = new ArrayList<>((ids.size() + IN_CLAUSE_CHUNK - 1) / IN_CLAUSE_CHUNK);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_CHUNK)));
+        }
+        return chunks;
     }
 
     /**
      * 사용자 권한 기반 메뉴 트리 조회.
      * authority-source 설정에 따라 FWK_USER_MENU 또는 FWK_ROLE_MENU에서 조회한다.
-     * 계층 조회 + 권한 필터링은 SQL에서 처리하고, Service는 결과를 그대로 전달한다.
+     * menu-tree-strategy가 QUERY이면 계층 조회 + 권한 필터링을 SQL에서 처리하고,
+     * INDEX이면 권한 행만 조회한 뒤 메뉴 인덱스에서 조상 closure를 계산한다.
+     * 결과는 ROLE_MENU 모드는 역할별, USER_MENU 모드는 사용자별로 캐시한다.
      */
+    @Cacheable(value = CacheNames.AUTHORIZED_MENU_TREE, keyGenerator = AuthorizedMenuTreeKeyGenerator.BEAN_NAME)
     @Transactional(readOnly = true)
     public List<UserMenuTreeNode> getAuthorizedMenuTree(String userId, String roleId) {
+        boolean roleMenu = "ROLE_MENU".equals(securityAccessProperties.getAuthoritySource());
         List<UserMenuRow> rows;
-        if ("ROLE_MENU".equals(securityAccessProperties.getAuthoritySource())) {
+        if ("INDEX".equals(securityAccessProperties.getMenuTreeStrategy())) {
+            List<MenuPermission> permissions = roleMenu
+                    ? authorityMapper.selectMenuPermissionsByRoleId(roleId)
+                    : authorityMapper.selectMenuPermissionsByUserId(userId);
+            rows = menuTreeCache.index().authorizedRows(permissions);
+        } else if (roleMenu) {
             rows = menuMapper.selectRoleMenuTree(roleId);
         } else {
             rows = menuMapper.selectUserMenuTree(userId);
@@ -109,52 +542,46 @@ public class MenuService {
         return buildUserTree(rows);
     }
 
-    // ── 트리 빌드 ──────────────────────────────────────────
-
-    private List<MenuTreeNode> buildTree(List<MenuResponse> allMenus) {
-        Set<String> allMenuIds = allMenus.stream().map(MenuResponse::menuId).collect(Collectors.toSet());
-
-        // priorMenuId 기준으로 그룹핑 (순서 유지)
-        Map<String, List<MenuResponse>> childrenMap = allMenus.stream()
-                .collect(Collectors.groupingBy(
-                        m -> m.priorMenuId() == null ? "" : m.priorMenuId(), LinkedHashMap::new, Collectors.toList()));
-
-        // 루트 = 결과 셋 내에서 부모(priorMenuId)가 존재하지 않는 메뉴
-        List<MenuResponse> roots = allMenus.stream()
-                .filter(m -> !allMenuIds.contains(m.priorMenuId()))
+    /**
+     * 기동 직후 prewarm. 권한 메뉴 트리 조회문(QUERY: 계층 조회, INDEX: 권한 행 조회)을 존재하지 않는 id로 캐시 없이 실행하고,
+     * 전체 메뉴를 권한 메뉴로 간주해 사용자 트리 빌더를 한 번 실행한다. 결과는 캐시에 남기지 않는다.
+     *
+     * @return 빌드한 트리의 메뉴 수
+     */
+    @Transactional(readOnly = true)
+    public int prewarmAuthorizedMenuTree() {
+        boolean roleMenu = "ROLE_MENU".equals(securityAccessProperties.getAuthoritySource());
+        if ("INDEX".equals(securityAccessProperties.getMenuTreeStrategy())) {
+            if (roleMenu) {
+                authorityMapper.selectMenuPermissionsByRoleId(PREWARM_ID);
+            } else {
+                authorityMapper.selectMenuPermissionsByUserId(PREWARM_ID);
+            }
+        } else if (roleMenu) {
+            menuMapper.selectRoleMenuTree(PREWARM_ID);
+        } else {
+            menuMapper.selectUserMenuTree(PREWARM_ID);
+        }
+        MenuTreeSnapshot snapshot = menuTreeCache.get();
+        List<MenuPermission> all = snapshot.menus().stream()
+                .map(m -> new MenuPermission(m.menuId(), "W"))
                 .toList();
-
-        return roots.stream().map(r -> toTreeNode(r, childrenMap)).toList();
-    }
-
-    private MenuTreeNode toTreeNode(MenuResponse menu, Map<String, List<MenuResponse>> childrenMap) {
-        List<MenuResponse> childMenus = childrenMap.getOrDefault(menu.menuId(), List.of());
-        List<MenuTreeNode> children =
-                childMenus.stream().map(c -> toTreeNode(c, childrenMap)).toList();
-        return MenuTreeNode.of(menu, children.isEmpty() ? null : children);
+        List<UserMenuRow> rows = menuTreeCache.index(snapshot).authorizedRows(all);
+        buildUserTree(rows);
+        return rows.size();
     }
 
     // ── 사용자 권한 메뉴 트리 빌드 ──────────────────────────────
 
     private List<UserMenuTreeNode> buildUserTree(List<UserMenuRow> allRows) {
-        Set<String> allMenuIds = allRows.stream().map(UserMenuRow::menuId).collect(Collectors.toSet());
-
-        Map<String, List<UserMenuRow>> childrenMap = allRows.stream()
-                .collect(Collectors.groupingBy(
-                        r -> r.priorMenuId() == null ? "" : r.priorMenuId(), LinkedHashMap::new, Collectors.toList()));
-
-        // 루트 = 결과 셋 내에서 부모(priorMenuId)가 존재하지 않는 메뉴
-        List<UserMenuRow> roots = allRows.stream()
-                .filter(r -> !allMenuIds.contains(r.priorMenuId()))
-                .toList();
-
-        return roots.stream().map(r -> toUserTreeNode(r, childrenMap)).toList();
-    }
-
-    private UserMenuTreeNode toUserTreeNode(UserMenuRow row, Map<String, List<UserMenuRow>> childrenMap) {
-        List<UserMenuRow> childRows = childrenMap.getOrDefault(row.menuId(), List.of());
-        List<UserMenuTreeNode> children =
-                childRows.stream().map(c -> toUserTreeNode(c, childrenMap)).toList();
-        return UserMenuTreeNode.of(row, children.isEmpty() ? null : children);
+        TreeBuilder.Result<UserMenuTreeNode> result = TreeBuilder.build(
+                allRows,
+                UserMenuRow::menuId,
+                UserMenuRow::priorMenuId,
+                (row, children) -> UserMenuTreeNode.of(row, children.isEmpty() ? null : children));
+        if (result.hasCycle()) {
+            log.warn("Authorized menu tree has priorMenuId cycles, excluded menus: {}", result.cycleIds());
+        }
+        return result.roots();
     }
 }
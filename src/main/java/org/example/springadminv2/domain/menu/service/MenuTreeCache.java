@@ -0,0 +1,183 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.example.springadminv2.global.util.TreeBuilder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 메뉴 트리 스냅샷 캐시.
+ * <p>
+ * 조회는 lock 없이 volatile 참조만 읽는다. FWK_MENU 변경이 커밋되면 version을 올리고 스냅샷을 비우며,
+ * 다음 조회 1건만 DB를 읽어 새 스냅샷으로 교체한다. 적재와 무효화는 같은 monitor로 직렬화되므로
+ * 커밋 이전 데이터로 만든 스냅샷이 무효화 이후에 남는 일은 없다.
+ * <p>
+ * 무효화 시 변경된 menuId를 {@link MenuChangeLog}에 남겨 delta 조회에 쓴다. 외부에 주는 버전 토큰은
+ * {@code <epoch>.<version>} 형식이며, epoch는 프로세스마다 달라 재기동 전이나 다른 노드의 토큰은 delta 대상이 아니다.
+ * <p>
+ * 스냅샷과 같은 메뉴 목록으로 만든 {@link MenuIndex}를 함께 보관한다. 스냅샷은 서비스 계층에 의존하지 않는 데이터 묶음이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuTreeCache {
+
+    /** 보관하는 최근 변경 건수. 이보다 뒤처진 클라이언트는 전체 트리를 받는다. */
+    static final int CHANGE_LOG_CAPACITY = 256;
+
+    private final MenuMapper menuMapper;
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 16);
+    private final AtomicLong version = new AtomicLong(1);
+    private final MenuChangeLog changeLog = new MenuChangeLog(CHANGE_LOG_CAPACITY, version.get());
+    private volatile Loaded loaded;
+
+    private record Loaded(MenuTreeSnapshot snapshot, MenuIndex index) {}
+
+    public MenuTreeSnapshot get() {
+        return current().snapshot();
+    }
+
+    /**
+     * 현재 스냅샷의 메뉴 인덱스.
+     */
+    public MenuIndex index() {
+        return current().index();
+    }
+
+    /**
+     * 주어진 스냅샷의 메뉴 인덱스. 그 사이 스냅샷이 교체됐으면 스냅샷의 메뉴 목록으로 새로 만든다.
+     */
+    public MenuIndex index(MenuTreeSnapshot snapshot) {
+        Loaded current = current();
+        return current.snapshot() == snapshot ? current.index() : MenuIndex.of(snapshot.menus());
+    }
+
+    private Loaded current() {
+        Loaded current = loaded;
+        return current != null ? current : load();
+    }
+
+    public long currentVersion() {
+        return version.get();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onMenuChanged(MenuChangedEvent event) {
+        long next = version.incrementAndGet();
+        changeLog.append(next, event.menuIds());
+        loaded = null;
+        log.debug("Menu tree snapshot invalidated: version={}, menus={}", next, event.menuIds());
+    }
+
+    /**
+     * 변경 대상을 알 수 없는 무효화. 이전 버전 토큰으로는 delta를 만들 수 없게 된다.
+     */
+    public synchronized void invalidate() {
+        long next = version.incrementAndGet();
+        changeLog.reset(next);
+        loaded = null;
+        log.debug("Menu tree snapshot invalidated: version={}", next);
+    }
+
+    /**
+     * 스냅샷 version의 외부 버전 토큰.
+     */
+    public String versionToken(long snapshotVersion) {
+        return epoch + "." + snapshotVersion;
+    }
+
+    /**
+     * since 토큰 이후 until(스냅샷 version)까지 변경된 menuId.
+     * 토큰 형식이 다르거나, 다른 프로세스의 토큰이거나, 변경 로그가 그만큼 오래된 기록을 갖고 있지 않으면 null.
+     */
+    public synchronized Set<String> changedSince(String sinceToken, long until) {
+        if (sinceToken == null || !sinceToken.startsWith(epoch + ".")) {
+            return null;
+        }
+        try {
+            return changeLog.changedSince(Long.parseLong(sinceToken.substring(epoch.length() + 1)), until);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private synchronized Loaded load() {
+        Loaded current = loaded;
+        if (current != null) {
+            return current;
+        }
+        List<MenuResponse> menus = menuMapper.selectAllMenus();
+        MenuTreeSnapshot snapshot = new MenuTreeSnapshot(version.get(), fingerprint(menus), menus, buildTree(menus));
+        current = new Loaded(snapshot, MenuIndex.of(menus));
+        loaded = current;
+        log.debug("Menu tree snapshot loaded: version={}, menus={}", snapshot.version(), menus.size());
+        return current;
+    }
+
+    // ── 트리 빌드 ──────────────────────────────────────────
+
+    private List<MenuTreeNode> buildTree(List<MenuResponse> allMenus) {
+        TreeBuilder.Result<MenuTreeNode> result = TreeBuilder.build(
+                allMenus,
+                MenuResponse::menuId,
+                MenuResponse::priorMenuId,
+                (menu, children) -> MenuTreeNode.of(menu, children.isEmpty() ? null : children));
+        if (result.hasCycle()) {
+            log.warn("Menu tree has priorMenuId cycles, excluded menus: {}", result.cycleIds());
+        }
+        return result.roots();
+    }
+
+    private static String fingerprint(List<MenuResponse> menus) {
+        MessageDigest digest = sha256();
+        for (MenuResponse m : menus) {
+            String row = String.join(
+                    "\u0001",
+                    m.menuId(),
+                    m.priorMenuId(),
+                    String.valueOf(m.sortOrder()),
+                    m.menuName(),
+                    m.menuUrl(),
+                    m.menuImage(),
+                    m.displayYn(),
+                    m.useYn(),
+                    m.lastUpdateDtime(),
+                    m.lastUpdateUserId(),
+                    m.menuEngName());
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 12);
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BaseException(ErrorType.INTERNAL_ERROR, "SHA-256", e);
+        }
+    }
+}
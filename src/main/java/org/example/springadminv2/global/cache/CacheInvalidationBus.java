@@ -0,0 +1,92 @@
+package org.example.springadminv2.global.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 브로커 없이 공유 저장소({@link CacheVersionStore})만으로 노드 간 캐시 무효화를 전달한다.
+ * <p>
+ * 쓰는 쪽은 원본 데이터와 같은 트랜잭션에서 {@link #publish}로 (region, key) 버전을 올린다.
+ * 각 노드는 주기적으로 버전 합계만 조회하고, 합계가 바뀌었을 때만 전체 버전을 읽어 직전 값과 비교한다.
+ * 바뀐 (region, key)를 영역별로 모아 {@link CacheRegionInvalidatedEvent}로 발행하며, 자기 노드가 마지막으로 올린 행은 건너뛴다.
+ * 같은 행의 갱신은 행 잠금으로 직렬화되므로, 자기 노드의 커밋 이후 무효화가 그 이전 다른 노드의 변경도 이미 덮는다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    /** 영역 전체 변경을 나타내는 key */
+    public static final String ALL_KEYS = "*";
+
+    private final CacheVersionStore store;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 16);
+
+    private Map<String, Long> seen;
+    private long seenSum = -1;
+
+    public CacheInvalidationBus(CacheVersionStore store, ApplicationEventPublisher eventPublisher) {
+        this.store = store;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * (region, key) 변경을 기록한다. 원본 데이터 쓰기와 같은 트랜잭션에서 호출한다.
+     */
+    public void publish(String region, String key) {
+        store.bump(region, key, nodeId);
+    }
+
+    /**
+     * 다른 노드의 변경을 확인한다. 첫 호출은 현재 버전을 기준점으로 삼기만 한다.
+     */
+    @Scheduled(
+            initialDelayString = "${cache.invalidation.poll-interval:5000}",
+            fixedDelayString = "${cache.invalidation.poll-interval:5000}")
+    public synchronized void poll() {
+        try {
+            long sum = store.versionSum();
+            if (sum == seenSum) {
+                return;
+            }
+            List<CacheVersion> versions = store.versions();
+            Map<String, Long> current = new HashMap<>(versions.size() * 2);
+            Map<String, List<String>> changed = new TreeMap<>();
+            long readSum = 0;
+            for (CacheVersion v : versions) {
+                readSum += v.version();
+                String id = v.cacheRegion() + "\u0000" + v.regionKey();
+                current.put(id, v.version());
+                if (seen != null && !nodeId.equals(v.lastUpdateNode()) && v.version() != seen.getOrDefault(id, 0L)) {
+                    changed.computeIfAbsent(v.cacheRegion(), r -> new ArrayList<>())
+                            .add(v.regionKey());
+                }
+            }
+            seen = current;
+            seenSum = readSum;
+            changed.forEach((region, keys) -> {
+                keys.sort(null);
+                log.debug("Remote cache invalidation: region={}, keys={}", region, keys);
+                eventPublisher.publishEvent(new CacheRegionInvalidatedEvent(region, keys));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Cache version poll failed: {}", e.getMessage());
+        }
+    }
+}
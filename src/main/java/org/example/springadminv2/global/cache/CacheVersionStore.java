@@ -0,0 +1,20 @@
+package org.example.springadminv2.global.cache;
+
+import java.util.List;
+
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+
+/**
+ * 노드 간에 공유되는 캐시 영역 버전 저장소.
+ * <p>
+ * bump는 원본 데이터 쓰기와 같은 트랜잭션에서 호출해야 하며, 커밋되어야 다른 노드에 보인다.
+ */
+public interface CacheVersionStore {
+
+    void bump(String region, String key, String nodeId);
+
+    /** 모든 version의 합계 (변경 여부 확인용) */
+    long versionSum();
+
+    List<CacheVersion> versions();
+}
@@ -0,0 +1,47 @@
+package org.example.springadminv2.global.cache;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+import org.example.springadminv2.global.cache.mapper.CacheVersionMapper;
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FWK_CACHE_VERSION 테이블 기반 저장소. 여러 노드가 같은 DB를 바라보는 운영 환경용.
+ * <p>
+ * 현재 트랜잭션이 BATCH executor를 쓰고 있으면 같은 트랜잭션에 섞일 수 있도록 BATCH 매퍼로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache.invalidation.store", havingValue = "DB")
+public class DbCacheVersionStore implements CacheVersionStore {
+
+    private static final DateTimeFormatter TIMESTAMP_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final CacheVersionMapper cacheVersionMapper;
+    private final BatchSqlSession batchSqlSession;
+
+    @Override
+    public void bump(String region, String key, String nodeId) {
+        CacheVersionMapper mapper = batchSqlSession.isBoundToTransaction()
+                ? batchSqlSession.getMapper(CacheVersionMapper.class)
+                : cacheVersionMapper;
+        mapper.bumpVersion(region, key, nodeId, LocalDateTime.now().format(TIMESTAMP_FMT));
+    }
+
+    @Override
+    public long versionSum() {
+        return cacheVersionMapper.selectVersionSum();
+    }
+
+    @Override
+    public List<CacheVersion> versions() {
+        return cacheVersionMapper.selectVersions();
+    }
+}
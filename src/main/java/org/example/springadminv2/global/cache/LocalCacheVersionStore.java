@@ -0,0 +1,54 @@
+package org.example.springadminv2.global.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 기반 저장소. 단일 노드 또는 FWK_CACHE_VERSION이 없는 환경용 대체 구현이다.
+ * <p>
+ * 트랜잭션 안에서 호출되면 커밋 이후에 반영해 DB 구현과 같은 가시성을 갖는다.
+ * 같은 인스턴스를 여러 {@link CacheInvalidationBus}가 공유하면 노드 간 전파를 프로세스 안에서 재현할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.store", havingValue = "LOCAL", matchIfMissing = true)
+public class LocalCacheVersionStore implements CacheVersionStore {
+
+    private final Map<String, CacheVersion> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public void bump(String region, String key, String nodeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(region, key, nodeId);
+                }
+            });
+        } else {
+            apply(region, key, nodeId);
+        }
+    }
+
+    private void apply(String region, String key, String nodeId) {
+        versions.compute(
+                region + "\u0000" + key,
+                (k, v) -> new CacheVersion(region, key, v == null ? 1 : v.version() + 1, nodeId));
+    }
+
+    @Override
+    public long versionSum() {
+        return versions.values().stream().mapToLong(CacheVersion::version).sum();
+    }
+
+    @Override
+    public List<CacheVersion> versions() {
+        return List.copyOf(versions.values());
+    }
+}
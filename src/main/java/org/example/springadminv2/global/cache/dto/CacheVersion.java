@@ -0,0 +1,8 @@
+package org.example.springadminv2.global.cache.dto;
+
+/**
+ * FWK_CACHE_VERSION 행. (cacheRegion, regionKey)가 변경될 때마다 version이 1씩 증가한다.
+ *
+ * @param lastUpdateNode 마지막으로 version을 올린 노드 id
+ */
+public record CacheVersion(String cacheRegion, String regionKey, long version, String lastUpdateNode) {}
@@ -0,0 +1,20 @@
+package org.example.springadminv2.global.cache.event;
+
+import java.util.List;
+
+import org.example.springadminv2.global.cache.CacheInvalidationBus;
+
+/**
+ * 다른 노드에서 커밋된 캐시 영역 변경. {@link org.example.springadminv2.global.cache.CacheInvalidationBus}가 poll로 감지해 발행한다.
+ * keys에 {@link CacheInvalidationBus.ALL_KEYS}가 있으면 영역 전체가 변경된 것이다.
+ */
+public record CacheRegionInvalidatedEvent(String region, List<String> keys) {
+
+    public CacheRegionInvalidatedEvent {
+        keys = List.copyOf(keys);
+    }
+
+    public boolean isAll() {
+        return keys.contains(CacheInvalidationBus.ALL_KEYS);
+    }
+}
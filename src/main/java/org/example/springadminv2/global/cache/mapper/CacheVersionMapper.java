@@ -0,0 +1,27 @@
+package org.example.springadminv2.global.cache.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+
+@Mapper
+public interface CacheVersionMapper {
+
+    /**
+     * (region, key) 행의 VERSION을 1 올린다. 행이 없으면 VERSION 1로 추가한다.
+     */
+    void bumpVersion(
+            @Param("region") String region,
+            @Param("key") String key,
+            @Param("nodeId") String nodeId,
+            @Param("lastUpdateDtime") String dtime);
+
+    /**
+     * 전체 VERSION 합계. 모든 VERSION은 증가만 하므로 합계가 같으면 어떤 행도 바뀌지 않은 것이다.
+     */
+    long selectVersionSum();
+
+    List<CacheVersion> selectVersions();
+}
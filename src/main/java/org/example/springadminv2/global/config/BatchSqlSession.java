@@ -0,0 +1,44 @@
+package org.example.springadminv2.global.config;
+
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.mybatis.spring.SqlSessionHolder;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ExecutorType.BATCH SqlSessionTemplate 래퍼.
+ * <p>
+ * SqlSessionTemplate 타입 빈을 추가로 등록하면 MyBatis 자동 설정의 기본 템플릿이 빠지므로 별도 타입으로 감싼다.
+ * 하나의 트랜잭션에서 executor 종류를 섞을 수 없으므로, BATCH 매퍼를 쓰는 트랜잭션에서는 일반 매퍼를 호출하지 않는다.
+ */
+public class BatchSqlSession {
+
+    private final SqlSessionTemplate sqlSessionTemplate;
+
+    public BatchSqlSession(SqlSessionTemplate sqlSessionTemplate) {
+        this.sqlSessionTemplate = sqlSessionTemplate;
+    }
+
+    public <T> T getMapper(Class<T> type) {
+        return sqlSessionTemplate.getMapper(type);
+    }
+
+    /**
+     * 쌓인 배치 문장을 즉시 실행한다. 호출하지 않으면 커밋 시점에 실행된다.
+     */
+    public List<BatchResult> flushStatements() {
+        return sqlSessionTemplate.flushStatements();
+    }
+
+    /**
+     * 현재 트랜잭션에 BATCH 세션이 이미 묶여 있으면 true. 이때는 일반 매퍼 대신 {@link #getMapper}를 써야 한다.
+     */
+    public boolean isBoundToTransaction() {
+        return TransactionSynchronizationManager.getResource(sqlSessionTemplate.getSqlSessionFactory())
+                        instanceof SqlSessionHolder holder
+                && holder.getExecutorType() == ExecutorType.BATCH;
+    }
+}
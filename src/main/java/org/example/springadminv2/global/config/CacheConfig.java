@@ -0,0 +1,42 @@
+package org.example.springadminv2.global.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caffeine 기반 CacheManager 설정.
+ * 모든 캐시는 recordStats()로 통계를 수집하며, Actuator가 cache.gets(result=hit|miss) 메트릭으로 노출한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                buildCache(CacheNames.AUTHORIZED_MENU_TREE, 60, 1000),
+                buildCache(CacheNames.SERIALIZED_RESPONSE, 60, 200),
+                buildCache(CacheNames.ROLE_AUTHORITIES, 60, 200)));
+        return cacheManager;
+    }
+
+    private CaffeineCache buildCache(String name, int expireMinutes, int maxSize) {
+        return new CaffeineCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                        .maximumSize(maxSize)
+                        .recordStats()
+                        .build());
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.springadminv2.global.config;
+
+/**
+ * 캐시 이름 상수. TTL과 최대 크기는 {@link CacheConfig}에서 설정한다.
+ */
+public final class CacheNames {
+
+    /** 사용자 권한 메뉴 트리 (ROLE_MENU 모드는 역할별, USER_MENU 모드는 사용자별) */
+    public static final String AUTHORIZED_MENU_TREE = "authorizedMenuTree";
+
+    /** 데이터 버전별 직렬화된 API 응답 본문 (SerializedResponseCache) */
+    public static final String SERIALIZED_RESPONSE = "serializedResponse";
+
+    /** 역할별 GrantedAuthority 집합 (ROLE_MENU 모드 로그인, RoleMenuAuthorityProvider) */
+    public static final String ROLE_AUTHORITIES = "roleAuthorities";
+
+    private CacheNames() {}
+}
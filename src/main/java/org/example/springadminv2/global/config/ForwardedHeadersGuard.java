@@ -0,0 +1,41 @@
+package org.example.springadminv2.global.config;
+
+import java.util.Locale;
+
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * X-Forwarded-For 신뢰 설정 검사.
+ * <p>
+ * {@code server.forward-headers-strategy}는 기본 none이다. native를 켜면 Tomcat RemoteIpValve가 신뢰 프록시의
+ * X-Forwarded-For로 클라이언트 IP를 바꾸는데, 기본 신뢰 대역이 사설망 전체라 내부망 클라이언트가 IP를 골라 보낼 수 있다.
+ * 그래서 native는 {@code server.tomcat.remoteip.internal-proxies}를 명시했을 때만 기동을 허용한다.
+ * framework는 보낸 쪽을 가리지 않고 헤더를 믿으므로 허용하지 않는다.
+ */
+@Component
+public class ForwardedHeadersGuard {
+
+    public ForwardedHeadersGuard(
+            @Value("${server.forward-headers-strategy:none}") String strategy,
+            @Value("${server.tomcat.remoteip.internal-proxies:}") String internalProxies) {
+        check(strategy, internalProxies);
+    }
+
+    static void check(String strategy, String internalProxies) {
+        switch (strategy.trim().toLowerCase(Locale.ROOT)) {
+            case "none" -> {}
+            case "native" -> {
+                if (internalProxies.isBlank()) {
+                    throw new BaseException(
+                            ErrorType.INVALID_INPUT,
+                            "server.forward-headers-strategy=native requires server.tomcat.remoteip.internal-proxies");
+                }
+            }
+            default -> throw new BaseException(
+                    ErrorType.INVALID_INPUT, "unsupported server.forward-headers-strategy: " + strategy);
+        }
+    }
+}
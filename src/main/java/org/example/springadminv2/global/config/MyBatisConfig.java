@@ -4,6 +4,9 @@ import java.util.Properties;
 
 import org.apache.ibatis.mapping.DatabaseIdProvider;
 import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,4 +23,12 @@ public class MyBatisConfig {
         provider.setProperties(properties);
         return provider;
     }
+
+    /**
+     * 대량 UPDATE/INSERT용 BATCH executor 세션. JDBC batch로 묶여 한 번의 왕복으로 전송된다.
+     */
+    @Bean
+    public BatchSqlSession batchSqlSession(SqlSessionFactory sqlSessionFactory) {
+        return new BatchSqlSession(new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH));
+    }
 }
@@ -1,24 +1,34 @@
 package org.example.springadminv2.global.security;
 
 import java.util.Collection;
-import java.util.Set;
 
+import org.example.springadminv2.global.security.authority.AuthorityBits;
+import org.example.springadminv2.global.security.authority.AuthorityGrants;
+import org.example.springadminv2.global.security.authority.ResourceAccessLevels;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import lombok.Getter;
 
+/**
+ * 로그인 사용자. 세션에는 id와 권한 버전, 공유 권한 묶음({@link AuthorityGrants}) 참조만 남는다.
+ * 권한 비트셋·리소스별 접근 수준·GrantedAuthority 목록은 권한 집합이 같은 세션끼리 같은 인스턴스를 쓴다.
+ * 비밀번호 해시는 인증이 끝나면 지운다({@link #eraseCredentials()}).
+ */
 @Getter
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private static final int MAX_LOGIN_FAIL_COUNT = 5;
+    /** 이 횟수 이상 연속 실패한 계정은 잠긴다. FWK_USER.LOGIN_FAIL_COUNT는 이 값에서 멈춘다. */
+    public static final int MAX_LOGIN_FAIL_COUNT = 5;
 
     private final String userId;
-    private final String password;
+    private String password;
     private final String roleId;
     private final String userStateCode;
     private final int loginFailCount;
-    private final Set<GrantedAuthority> authorities;
+    private final long authorityVersion;
+    private final AuthorityGrants grants;
 
     public CustomUserDetails(
             String userId,
@@ -26,18 +36,75 @@ public class CustomUserDetails implements UserDetails {
             String roleId,
             String userStateCode,
             int loginFailCount,
-            Set<GrantedAuthority> authorities) {
+            AuthorityGrants grants) {
+        this(userId, password, roleId, userStateCode, loginFailCount, grants, 0L);
+    }
+
+    /**
+     * @param grants           ResourceAuthorityRegistry가 공유하는 권한 묶음
+     * @param authorityVersion 권한을 계산한 시점의 AuthorityVersions 값
+     */
+    public CustomUserDetails(
+            String userId,
+            String password,
+            String roleId,
+            String userStateCode,
+            int loginFailCount,
+            AuthorityGrants grants,
+            long authorityVersion) {
         this.userId = userId;
         this.password = password;
         this.roleId = roleId;
         this.userStateCode = userStateCode;
         this.loginFailCount = loginFailCount;
-        this.authorities = authorities;
+        this.grants = grants;
+        this.authorityVersion = authorityVersion;
+    }
+
+    /**
+     * 비밀번호 해시만 바꾼 사본.
+     */
+    public CustomUserDetails withPassword(String password) {
+        return new CustomUserDetails(userId, password, roleId, userStateCode, loginFailCount, grants, authorityVersion);
+    }
+
+    /**
+     * 권한만 바꾼 사본.
+     */
+    public CustomUserDetails withAuthorities(AuthorityGrants grants, long authorityVersion) {
+        return new CustomUserDetails(userId, password, roleId, userStateCode, loginFailCount, grants, authorityVersion);
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return authorities;
+        return grants.authorities();
+    }
+
+    public AuthorityBits getAuthorityBits() {
+        return grants.bits();
+    }
+
+    public ResourceAccessLevels getAccessLevels() {
+        return grants.accessLevels();
+    }
+
+    public boolean hasAuthority(String authority) {
+        return grants.bits().has(authority);
+    }
+
+    /**
+     * @return "W", "R", or "NONE"
+     */
+    public String getAccessLevel(String resource) {
+        return grants.accessLevels().level(resource);
+    }
+
+    /**
+     * 인증 완료 후 ProviderManager가 호출한다. 세션에는 비밀번호 해시가 남지 않는다.
+     */
+    @Override
+    public void eraseCredentials() {
+        password = null;
     }
 
     @Override
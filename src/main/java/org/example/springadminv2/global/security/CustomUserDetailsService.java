@@ -1,33 +1,44 @@
 package org.example.springadminv2.global.security;
 
-import java.util.Set;
-
+import org.example.springadminv2.global.security.authority.AuthorityVersions;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.example.springadminv2.global.security.dto.AuthenticatedUser;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.example.springadminv2.global.security.provider.AuthorityProvider;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthorityProvider authorityProvider;
     private final AuthorityMapper authorityMapper;
+    private final AuthorityVersions authorityVersions;
+    private final ResourceAuthorityRegistry resourceAuthorityRegistry;
 
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        AuthenticatedUser user = authorityMapper.selectUserById(userId);
-        if (user == null) {
+        // 사용자와 권한을 한 번에 읽으므로 역할을 미리 알 수 없다. 조회 도중 권한이 바뀌었으면
+        // 버전을 UNKNOWN으로 기록해 다음 요청에서 다시 계산되게 한다
+        long sequence = authorityVersions.sequence();
+        UserAuthorities loaded = authorityProvider.loadUserAuthorities(userId);
+        if (loaded == null) {
             throw new UsernameNotFoundException("User not found: " + userId);
         }
-
-        Set<GrantedAuthority> authorities = authorityProvider.getAuthorities(user.userId(), user.roleId());
+        AuthenticatedUser user = loaded.user();
+        long authorityVersion = authorityVersions.current(user.userId(), user.roleId());
+        if (authorityVersions.sequence() != sequence) {
+            authorityVersion = AuthorityVersions.UNKNOWN;
+        }
 
         return new CustomUserDetails(
                 user.userId(),
@@ -35,6 +46,25 @@ public class CustomUserDetailsService implements UserDetailsService {
                 user.roleId(),
                 user.userStateCode(),
                 user.loginFailCount(),
-                authorities);
+                resourceAuthorityRegistry.grants(loaded.authorities()),
+                authorityVersion);
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 cost가 현재 설정보다 낮으면 DaoAuthenticationProvider가 새 해시로 호출한다.
+     * 실패해도 로그인은 계속되도록 기존 사용자 정보를 그대로 반환한다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            int updated = authorityMapper.updatePassword(user.getUsername(), user.getPassword(), newPassword);
+            if (updated == 1 && user instanceof CustomUserDetails details) {
+                log.info("Password rehashed on login: userId={}", user.getUsername());
+                return details.withPassword(newPassword);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Password rehash failed: userId={}", user.getUsername(), e);
+        }
+        return user;
     }
 }
@@ -1,16 +1,39 @@
 package org.example.springadminv2.global.security;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.example.springadminv2.global.security.authority.AuthorityBitsMethodSecurityExpressionHandler;
+import org.example.springadminv2.global.security.authority.AuthorityRefreshFilter;
+import org.example.springadminv2.global.security.authority.AuthorityRefresher;
+import org.example.springadminv2.global.security.authorization.MenuUrlAuthorizationManager;
 import org.example.springadminv2.global.security.handler.CustomAccessDeniedHandler;
 import org.example.springadminv2.global.security.handler.CustomAuthenticationEntryPoint;
+import org.example.springadminv2.global.security.password.BoundedPasswordEncoder;
+import org.example.springadminv2.global.security.password.PasswordVerificationBusyException;
+import org.example.springadminv2.global.security.throttle.LoginThrottle;
+import org.example.springadminv2.global.security.throttle.LoginThrottleFilter;
+import org.example.springadminv2.global.security.throttle.LoginThrottledException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -23,24 +46,86 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        http.authorizeHttpRequests(
-                        auth -> auth.requestMatchers("/login", "/css/**", "/js/**", "/images/**", "/fonts/**")
-                                .permitAll()
-                                .anyRequest()
-                                .authenticated())
-                .formLogin(form ->
-                        form.loginPage("/login").defaultSuccessUrl("/", true).permitAll())
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            ObjectProvider<AuthorityRefresher> authorityRefresher,
+            ObjectProvider<LoginThrottle> loginThrottle,
+            ObjectProvider<MenuUrlAuthorizationManager> menuUrlAuthorization)
+            throws Exception {
+        ExceptionMappingAuthenticationFailureHandler loginFailureHandler = loginFailureHandler();
+        // 메뉴 화면 URL은 해당 메뉴의 R 권한까지 확인 (메뉴 스냅샷이 없는 슬라이스 테스트에서는 인증만 확인)
+        AuthorizationManager<RequestAuthorizationContext> requestAuthorization = menuUrlAuthorization.getIfAvailable();
+        if (requestAuthorization == null) {
+            requestAuthorization = AuthenticatedAuthorizationManager.authenticated();
+        }
+        AuthorizationManager<RequestAuthorizationContext> anyRequest = requestAuthorization;
+        http.authorizeHttpRequests(auth -> auth.requestMatchers(
+                                "/login",
+                                "/css/**",
+                                "/js/**",
+                                "/images/**",
+                                "/fonts/**",
+                                "/actuator/health/liveness",
+                                "/actuator/health/readiness")
+                        .permitAll()
+                        .anyRequest()
+                        .access(anyRequest))
+                .formLogin(form -> form.loginPage("/login")
+                        .defaultSuccessUrl("/", true)
+                        .failureHandler(loginFailureHandler)
+                        .permitAll())
                 .logout(logout -> logout.logoutSuccessUrl("/login?logout").permitAll())
                 .exceptionHandling(ex ->
                         ex.authenticationEntryPoint(authenticationEntryPoint).accessDeniedHandler(accessDeniedHandler))
                 .sessionManagement(session -> session.sessionFixation().migrateSession());
 
+        // 권한 변경을 재로그인 없이 세션에 반영 (AuthorityProvider가 없는 슬라이스 테스트에서는 생략)
+        authorityRefresher.ifAvailable(refresher ->
+                http.addFilterAfter(new AuthorityRefreshFilter(refresher), SecurityContextHolderFilter.class));
+
+        // 로그인 실패가 임계치를 넘은 사용자/IP는 BCrypt 검증 전에 거절
+        loginThrottle.ifAvailable(throttle -> http.addFilterBefore(
+                new LoginThrottleFilter(throttle, loginFailureHandler), UsernamePasswordAuthenticationFilter.class));
+
         return http.build();
     }
 
+    /**
+     * {@code @PreAuthorize("hasAuthority(...)")}를 CustomUserDetails의 권한 비트셋으로 판정한다.
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new AuthorityBitsMethodSecurityExpressionHandler();
+    }
+
+    /**
+     * 비밀번호 검증 단계가 포화되었거나 반복 실패로 차단된 로그인은 자격 증명 오류와 구분해 안내한다.
+     */
+    private static ExceptionMappingAuthenticationFailureHandler loginFailureHandler() {
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setDefaultFailureUrl("/login?error");
+        handler.setExceptionMappings(Map.of(
+                PasswordVerificationBusyException.class.getName(), "/login?busy",
+                LoginThrottledException.class.getName(), "/login?blocked"));
+        return handler;
+    }
+
+    /**
+     * BCrypt 검증을 동시 실행 수·대기열이 제한된 단계에서 수행한다.
+     * cost를 올리면 기존 해시는 다음 로그인 성공 시 새 cost로 다시 저장된다 (CustomUserDetailsService.updatePassword).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.max-concurrent:4}") int maxConcurrent,
+            @Value("${security.password.max-queue:32}") int maxQueue,
+            @Value("${security.password.queue-timeout:2s}") Duration queueTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength),
+                maxConcurrent,
+                maxQueue,
+                queueTimeout,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 }
@@ -0,0 +1,124 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * ResourceAuthorityRegistry id 기반의 불변 권한 비트셋.
+ * 권한 확인은 id 조회와 비트 연산만 하므로 할당이 없다.
+ * id는 레지스트리마다 다르므로 직렬화할 때는 권한 이름으로 기록하고, 역직렬화하면 분리된 새 레지스트리에 다시 등록한다.
+ */
+public final class AuthorityBits implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final transient ResourceAuthorityRegistry registry;
+    private final transient long[] words;
+
+    private AuthorityBits(ResourceAuthorityRegistry registry, long[] words) {
+        this.registry = registry;
+        this.words = words;
+    }
+
+    public static AuthorityBits of(
+            ResourceAuthorityRegistry registry, Collection<? extends GrantedAuthority> authorities) {
+        long[] words = new long[0];
+        for (GrantedAuthority authority : authorities) {
+            int id = registry.register(authority.getAuthority());
+            int index = id >>> 6;
+            if (index >= words.length) {
+                words = Arrays.copyOf(words, index + 1);
+            }
+            words[index] |= 1L << id;
+        }
+        return new AuthorityBits(registry, words);
+    }
+
+    ResourceAuthorityRegistry registry() {
+        return registry;
+    }
+
+    public boolean has(int id) {
+        int index = id >>> 6;
+        return id >= 0 && index < words.length && (words[index] & (1L << id)) != 0;
+    }
+
+    public boolean has(String authority) {
+        return words.length != 0 && has(registry.idOf(authority));
+    }
+
+    public boolean hasAny(String... authorities) {
+        for (String authority : authorities) {
+            if (has(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * 공유 GrantedAuthority 인스턴스 목록 (id 순).
+     */
+    public List<GrantedAuthority> toAuthorities() {
+        List<GrantedAuthority> result = new ArrayList<>(size());
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result.add(registry.get((i << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 같은 레지스트리에서 만든 비트셋끼리만 같을 수 있다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AuthorityBits other && registry == other.registry && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    private Object writeReplace() {
+        List<GrantedAuthority> authorities = toAuthorities();
+        String[] names = new String[authorities.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = authorities.get(i).getAuthority();
+        }
+        return new SerializedForm(names);
+    }
+
+    /**
+     * 직렬화 형식: 권한 이름 목록.
+     */
+    private record SerializedForm(String[] names) implements Serializable {
+
+        private Object readResolve() {
+            List<GrantedAuthority> authorities = new ArrayList<>(names.length);
+            for (String name : names) {
+                authorities.add(new SimpleGrantedAuthority(name));
+            }
+            return AuthorityBits.of(new ResourceAuthorityRegistry(), authorities);
+        }
+    }
+}
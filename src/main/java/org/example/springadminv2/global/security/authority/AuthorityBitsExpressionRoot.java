@@ -0,0 +1,120 @@
+package org.example.springadminv2.global.security.authority;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * {@code hasAuthority}/{@code hasAnyAuthority}를 CustomUserDetails의 권한 비트셋으로 판정하는 메서드 보안 표현식 루트.
+ * 그 외 표현식과 CustomUserDetails가 아닌 principal은 기본 루트에 위임한다.
+ */
+class AuthorityBitsExpressionRoot implements MethodSecurityExpressionOperations {
+
+    private final MethodSecurityExpressionOperations delegate;
+
+    AuthorityBitsExpressionRoot(MethodSecurityExpressionOperations delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasAuthority(String authority) {
+        AuthorityBits bits = bits();
+        return bits != null ? bits.has(authority) : delegate.hasAuthority(authority);
+    }
+
+    @Override
+    public boolean hasAnyAuthority(String... authorities) {
+        AuthorityBits bits = bits();
+        return bits != null ? bits.hasAny(authorities) : delegate.hasAnyAuthority(authorities);
+    }
+
+    private AuthorityBits bits() {
+        Authentication auth = delegate.getAuthentication();
+        return auth != null && auth.getPrincipal() instanceof CustomUserDetails user ? user.getAuthorityBits() : null;
+    }
+
+    public Object getPrincipal() {
+        Authentication auth = delegate.getAuthentication();
+        return auth != null ? auth.getPrincipal() : null;
+    }
+
+    @Override
+    public Authentication getAuthentication() {
+        return delegate.getAuthentication();
+    }
+
+    @Override
+    public boolean hasRole(String role) {
+        return delegate.hasRole(role);
+    }
+
+    @Override
+    public boolean hasAnyRole(String... roles) {
+        return delegate.hasAnyRole(roles);
+    }
+
+    @Override
+    public boolean permitAll() {
+        return delegate.permitAll();
+    }
+
+    @Override
+    public boolean denyAll() {
+        return delegate.denyAll();
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        return delegate.isAnonymous();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return delegate.isAuthenticated();
+    }
+
+    @Override
+    public boolean isRememberMe() {
+        return delegate.isRememberMe();
+    }
+
+    @Override
+    public boolean isFullyAuthenticated() {
+        return delegate.isFullyAuthenticated();
+    }
+
+    @Override
+    public boolean hasPermission(Object target, Object permission) {
+        return delegate.hasPermission(target, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Object targetId, String targetType, Object permission) {
+        return delegate.hasPermission(targetId, targetType, permission);
+    }
+
+    @Override
+    public void setFilterObject(Object filterObject) {
+        delegate.setFilterObject(filterObject);
+    }
+
+    @Override
+    public Object getFilterObject() {
+        return delegate.getFilterObject();
+    }
+
+    @Override
+    public void setReturnObject(Object returnObject) {
+        delegate.setReturnObject(returnObject);
+    }
+
+    @Override
+    public Object getReturnObject() {
+        return delegate.getReturnObject();
+    }
+
+    @Override
+    public Object getThis() {
+        return delegate.getThis();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * {@code @PreAuthorize}의 권한 확인을 권한 비트셋으로 처리하는 표현식 핸들러.
+ * 기본 평가 컨텍스트를 만든 뒤 루트 객체만 {@link AuthorityBitsExpressionRoot}로 감싼다.
+ */
+public class AuthorityBitsMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
+        StandardEvaluationContext context =
+                (StandardEvaluationContext) super.createEvaluationContext(authentication, mi);
+        MethodSecurityExpressionOperations root =
+                (MethodSecurityExpressionOperations) context.getRootObject().getValue();
+        context.setRootObject(new AuthorityBitsExpressionRoot(root));
+        return context;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 한 권한 집합의 비트셋·리소스별 접근 수준·GrantedAuthority 목록 묶음. 세션들이 공유한다.
+ * <p>
+ * {@link ResourceAuthorityRegistry#grants}가 같은 권한 집합이면 같은 인스턴스를 돌려주므로, 역할이 같은 사용자 세션은
+ * 권한 표를 하나만 참조한다. 직렬화하면 비트셋은 권한 이름으로 기록되고, 역직렬화된 묶음은 레지스트리와 분리된 사본이다.
+ */
+public final class AuthorityGrants implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final AuthorityBits bits;
+    private final ResourceAccessLevels accessLevels;
+    private transient volatile List<GrantedAuthority> authorities;
+
+    AuthorityGrants(AuthorityBits bits, ResourceAccessLevels accessLevels) {
+        this.bits = bits;
+        this.accessLevels = accessLevels;
+    }
+
+    public AuthorityBits bits() {
+        return bits;
+    }
+
+    public ResourceAccessLevels accessLevels() {
+        return accessLevels;
+    }
+
+    /**
+     * 레지스트리의 공유 GrantedAuthority 인스턴스 목록 (불변, id 순).
+     */
+    public List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> current = authorities;
+        if (current == null) {
+            current = bits.toAuthorities();
+            authorities = current;
+        }
+        return current;
+    }
+}
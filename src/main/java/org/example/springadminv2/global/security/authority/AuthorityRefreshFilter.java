@@ -0,0 +1,46 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.io.IOException;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 세션 권한 버전을 확인하고, 바뀌었으면 새 Authentication을 SecurityContext와 세션에 반영한다.
+ * 권한이 바뀐 사용자도 재로그인 없이 다음 요청부터 새 권한으로 인가된다.
+ */
+public class AuthorityRefreshFilter extends OncePerRequestFilter {
+
+    private final AuthorityRefresher authorityRefresher;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    public AuthorityRefreshFilter(AuthorityRefresher authorityRefresher) {
+        this.authorityRefresher = authorityRefresher;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication refreshed = authorityRefresher.refresh(
+                securityContextHolderStrategy.getContext().getAuthentication());
+        if (refreshed != null) {
+            SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+            context.setAuthentication(refreshed);
+            securityContextHolderStrategy.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.util.Set;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.provider.AuthorityProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 권한 버전이 바뀐 세션의 Authentication을 다시 만든다.
+ * 권한은 AuthorityProvider로 다시 계산하므로 ROLE_MENU 모드에서는 역할별 권한 캐시를 그대로 재사용한다.
+ * 역직렬화된 세션처럼 레지스트리의 공유 묶음이 아닌 권한도 다시 계산해 공유 묶음으로 바꾼다.
+ */
+@Slf4j
+@Component
+public class AuthorityRefresher {
+
+    private final AuthorityProvider authorityProvider;
+    private final AuthorityVersions authorityVersions;
+    private final ResourceAuthorityRegistry resourceAuthorityRegistry;
+    private final Counter refreshCounter;
+
+    public AuthorityRefresher(
+            AuthorityProvider authorityProvider,
+            AuthorityVersions authorityVersions,
+            ResourceAuthorityRegistry resourceAuthorityRegistry,
+            MeterRegistry meterRegistry) {
+        this.authorityProvider = authorityProvider;
+        this.authorityVersions = authorityVersions;
+        this.resourceAuthorityRegistry = resourceAuthorityRegistry;
+        this.refreshCounter = Counter.builder("security.authority.refresh").register(meterRegistry);
+    }
+
+    /**
+     * @return 권한을 다시 계산한 Authentication. 최신이거나 CustomUserDetails 세션이 아니면 null
+     */
+    public Authentication refresh(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails user)) {
+            return null;
+        }
+        long current = authorityVersions.current(user.getUserId(), user.getRoleId());
+        if (current == user.getAuthorityVersion() && resourceAuthorityRegistry.owns(user.getGrants())) {
+            return null;
+        }
+        Set<GrantedAuthority> authorities = authorityProvider.getAuthorities(user.getUserId(), user.getRoleId());
+        CustomUserDetails refreshed = user.withAuthorities(resourceAuthorityRegistry.grants(authorities), current);
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+                refreshed, authentication.getCredentials(), refreshed.getAuthorities());
+        token.setDetails(authentication.getDetails());
+        refreshCounter.increment();
+        log.debug("Authorities refreshed: user={} version={}", user.getUserId(), current);
+        return token;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 역할/사용자별 권한 버전. 로그인 시점의 버전을 CustomUserDetails에 기록해 두고, 요청마다 현재 버전과 비교해
+ * 권한이 바뀐 세션만 다시 계산한다.
+ * <p>
+ * 버전은 전체·역할·사용자 카운터의 합이다. 카운터는 증가만 하므로 어느 하나라도 바뀌면 합도 바뀐다.
+ * 역할 권한 캐시를 비운 뒤에 올리도록 기본(가장 낮은) 우선순위로 커밋 이후에 처리한다.
+ * <p>
+ * {@link #sequence()}는 어떤 범위든 변경될 때마다 카운터보다 먼저 증가한다. 역할을 모르는 채로 사용자와 권한을 함께
+ * 읽는 로그인 경로는 조회 전후의 sequence가 같을 때만 버전을 신뢰하고, 다르면 {@link #UNKNOWN}을 기록한다.
+ */
+@Component
+public class AuthorityVersions {
+
+    /** 현재 버전과 절대 같지 않은 값. 다음 요청에서 권한을 다시 계산하게 한다. */
+    public static final long UNKNOWN = -1L;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<String, Long> roleVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> userVersions = new ConcurrentHashMap<>();
+
+    public long current(String userId, String roleId) {
+        long version = globalVersion.get();
+        if (roleId != null) {
+            version += roleVersions.getOrDefault(roleId, 0L);
+        }
+        if (userId != null) {
+            version += userVersions.getOrDefault(userId, 0L);
+        }
+        return version;
+    }
+
+    public long sequence() {
+        return sequence.get();
+    }
+
+    public void bumpAll() {
+        sequence.incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuPermissionChanged(MenuPermissionChangedEvent event) {
+        if (event.isAll()) {
+            bumpAll();
+            return;
+        }
+        sequence.incrementAndGet();
+        Map<String, Long> versions =
+                event.scope() == MenuPermissionChangedEvent.Scope.ROLE ? roleVersions : userVersions;
+        event.ids().forEach(id -> versions.merge(id, 1L, Long::sum));
+    }
+}
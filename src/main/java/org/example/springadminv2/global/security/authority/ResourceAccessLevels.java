@@ -0,0 +1,66 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 리소스 코드 → 접근 수준(W/R/NONE) 표. 사용자 권한이 정해질 때 한 번 만들고, 화면에서는 해시 조회만 한다.
+ * <p>
+ * "RESOURCE:W"가 있으면 W, 그 외 "RESOURCE:*"가 있으면 R, 없으면 NONE.
+ */
+public final class ResourceAccessLevels implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String WRITE = "W";
+    public static final String READ = "R";
+    public static final String NONE = "NONE";
+
+    public static final ResourceAccessLevels EMPTY = new ResourceAccessLevels(Map.of());
+
+    private final Map<String, String> levels;
+
+    private ResourceAccessLevels(Map<String, String> levels) {
+        this.levels = levels;
+    }
+
+    public static ResourceAccessLevels of(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, String> levels = new HashMap<>();
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            int colon = name.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String level = name.length() == colon + 2 && name.charAt(colon + 1) == 'W' ? WRITE : READ;
+            levels.merge(name.substring(0, colon), level, (a, b) -> WRITE.equals(a) ? a : b);
+        }
+        return new ResourceAccessLevels(Map.copyOf(levels));
+    }
+
+    /**
+     * @return "W", "R", or "NONE"
+     */
+    public String level(String resource) {
+        return levels.getOrDefault(resource, NONE);
+    }
+
+    public boolean canRead(String resource) {
+        return levels.containsKey(resource);
+    }
+
+    public boolean canWrite(String resource) {
+        return WRITE.equals(levels.get(resource));
+    }
+
+    public int size() {
+        return levels.size();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.springadminv2.global.security.authority;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 권한 문자열마다 int id와 공유 GrantedAuthority 인스턴스를 부여하고, 세션들이 공유하는 권한 묶음({@link AuthorityGrants})을 관리한다.
+ * <p>
+ * id는 등록 순서대로 0부터 증가하며 이 레지스트리 안에서만 의미가 있다(append-only). 세션 직렬화에는 id 대신 권한 이름을 쓰므로
+ * 노드나 재시작에 따라 id가 달라도 된다. 조회는 잠금 없이 동작하고 등록만 동기화한다.
+ * 어떤 세션도 참조하지 않는 권한 묶음은 GC가 정리한다.
+ */
+@Component
+public class ResourceAuthorityRegistry {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Cache<AuthorityBits, AuthorityGrants> shared =
+            Caffeine.newBuilder().weakValues().build();
+    private volatile GrantedAuthority[] authorities = new GrantedAuthority[0];
+
+    public ResourceAuthorityRegistry() {}
+
+    @Autowired
+    public ResourceAuthorityRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("security.authority.grants.shared", this, ResourceAuthorityRegistry::sharedCount)
+                .description("Distinct authority sets referenced by sessions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 권한의 id를 반환한다. 없으면 새로 부여한다.
+     */
+    public int register(String authority) {
+        Integer id = ids.get(authority);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(authority);
+            if (id != null) {
+                return id;
+            }
+            GrantedAuthority[] current = authorities;
+            GrantedAuthority[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = new SimpleGrantedAuthority(authority);
+            authorities = next;
+            ids.put(authority, current.length);
+            return current.length;
+        }
+    }
+
+    /**
+     * 권한의 공유 인스턴스를 반환한다. 없으면 등록한다.
+     */
+    public GrantedAuthority intern(String authority) {
+        return get(register(authority));
+    }
+
+    /**
+     * 등록된 권한의 id. 등록되지 않았으면 -1 (새로 등록하지 않는다).
+     */
+    public int idOf(String authority) {
+        Integer id = ids.get(authority);
+        return id == null ? -1 : id;
+    }
+
+    public GrantedAuthority get(int id) {
+        return authorities[id];
+    }
+
+    public int size() {
+        return authorities.length;
+    }
+
+    /**
+     * 권한 집합의 공유 묶음. 같은 권한 집합이면 같은 인스턴스를 돌려준다.
+     */
+    public AuthorityGrants grants(Collection<? extends GrantedAuthority> authorities) {
+        return shared.get(
+                AuthorityBits.of(this, authorities),
+                bits -> new AuthorityGrants(bits, ResourceAccessLevels.of(authorities)));
+    }
+
+    /**
+     * 이 레지스트리가 만든 묶음인지. 역직렬화된 세션의 묶음은 false이므로 다시 계산해 공유 묶음으로 바꾼다.
+     */
+    public boolean owns(AuthorityGrants grants) {
+        return grants.bits().registry() == this;
+    }
+
+    /**
+     * 현재 공유 중인 권한 묶음 수 (추정치).
+     */
+    public long sharedCount() {
+        return shared.estimatedSize();
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.springadminv2.global.security.authorization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MENU_URL 경로 세그먼트 trie. 요청 경로를 세그먼트 단위로 한 번 훑어 가장 깊게 일치한 메뉴를 찾는다.
+ * <p>
+ * "/system/menu" 메뉴는 "/system/menu"와 "/system/menu/..." 요청에 일치하고 "/system/menus"에는 일치하지 않는다.
+ * 같은 URL을 가진 메뉴가 여러 개면 모두 반환한다. 쿼리 문자열과 빈 세그먼트는 무시한다.
+ */
+public final class MenuPathTrie {
+
+    public static final MenuPathTrie EMPTY = new MenuPathTrie(new Node(), 0, -1);
+
+    private final Node root;
+    private final int size;
+    private final long version;
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private String[] menuIds;
+    }
+
+    private MenuPathTrie(Node root, int size, long version) {
+        this.root = root;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * @param urls    menuId → MENU_URL
+     * @param version 원본 메뉴 스냅샷 버전
+     */
+    public static MenuPathTrie compile(Map<String, String> urls, long version) {
+        Node root = new Node();
+        int size = 0;
+        for (Map.Entry<String, String> entry : urls.entrySet()) {
+            List<String> segments = segments(entry.getValue());
+            if (segments.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            node.menuIds = node.menuIds == null ? new String[] {entry.getKey()} : append(node.menuIds, entry.getKey());
+            size++;
+        }
+        return new MenuPathTrie(root, size, version);
+    }
+
+    /**
+     * @return 가장 깊게 일치한 메뉴 id 배열 (공유 인스턴스, 수정 금지). 일치하는 메뉴가 없으면 null
+     */
+    public String[] resolve(String path) {
+        Node node = root;
+        String[] found = null;
+        int length = path.length();
+        int i = 0;
+        while (i < length && node != null) {
+            char c = path.charAt(i);
+            if (c == '?' || c == '#' || c == ';') {
+                break;
+            }
+            if (c == '/') {
+                i++;
+                continue;
+            }
+            int end = segmentEnd(path, i);
+            node = node.children.get(path.substring(i, end));
+            if (node != null && node.menuIds != null) {
+                found = node.menuIds;
+            }
+            i = end;
+        }
+        return found;
+    }
+
+    /** 등록된 메뉴 URL 수 */
+    public int size() {
+        return size;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private static int segmentEnd(String path, int from) {
+        int i = from;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '/' || c == '?' || c == '#' || c == ';') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static List<String> segments(String url) {
+        List<String> segments = new ArrayList<>();
+        if (url == null || url.contains("://")) {
+            return segments;
+        }
+        int i = 0;
+        while (i < url.length()) {
+            char c = url.charAt(i);
+            if (c == '?' || c == '#' || c == ';') {
+                break;
+            }
+            if (c == '/') {
+                i++;
+                continue;
+            }
+            int end = segmentEnd(url, i);
+            segments.add(url.substring(i, end));
+            i = end;
+        }
+        return segments;
+    }
+
+    private static String[] append(String[] ids, String id) {
+        String[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.springadminv2.global.security.authorization;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
+import org.example.springadminv2.domain.menu.service.MenuTreeCache;
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.config.MenuResourcePermissions;
+import org.example.springadminv2.global.security.constant.MenuAccessLevel;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메뉴 화면 URL 직접 접근 인가. FWK_MENU.MENU_URL로 만든 {@link MenuPathTrie}에서 요청 메뉴를 찾고,
+ * 그 메뉴의 R 권한(MenuResourcePermissions)을 모두 가진 사용자만 허용한다.
+ * <p>
+ * 경로는 Spring MVC 핸들러 매핑과 같은 디코딩된 경로({@link UrlPathHelper#getPathWithinApplication})로 찾는다.
+ * 같은 URL의 메뉴가 여러 개면 그중 한 메뉴라도 읽을 수 있으면 허용하며, 사용하지 않는 메뉴(USE_YN=N)는 판정에서 뺀다.
+ * 리소스 매핑이 없는 메뉴(화면에서 새로 만들거나 복사한 메뉴 등)만 걸리면 인증과 컨트롤러의 {@code @PreAuthorize}에
+ * 맡기고, WARN 로그(메뉴당 한 번)와 {@code security.menu_url.unmapped} 메트릭을 남긴다.
+ * 사용하지 않는 메뉴만 걸리면 거부한다. 메뉴 URL이 아닌 경로는 인증만 확인한다.
+ * trie는 메뉴 스냅샷 버전이 바뀌면 (메뉴 변경 커밋 또는 다른 노드의 변경 수신) 다음 요청에서 다시 만들고,
+ * 리소스 권한은 요청 시점의 매핑을 쓴다.
+ */
+@Slf4j
+@Component
+public class MenuUrlAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final MenuTreeCache menuTreeCache;
+    private final MenuResourcePermissions menuResourcePermissions;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final Counter denied;
+    private final Counter unmapped;
+    private final Set<String> warnedUnmappedMenuIds = ConcurrentHashMap.newKeySet();
+    private volatile CompiledMenus compiled = new CompiledMenus(MenuPathTrie.EMPTY, Set.of());
+
+    /**
+     * @param unusedMenuIds USE_YN=N 메뉴 (URL은 trie에 남겨 두고 항상 거부)
+     */
+    private record CompiledMenus(MenuPathTrie trie, Set<String> unusedMenuIds) {}
+
+    public MenuUrlAuthorizationManager(
+            MenuTreeCache menuTreeCache, MenuResourcePermissions menuResourcePermissions, MeterRegistry meterRegistry) {
+        this.menuTreeCache = menuTreeCache;
+        this.menuResourcePermissions = menuResourcePermissions;
+        this.denied = Counter.builder("security.menu_url.denied")
+                .description("Direct menu URL requests denied for missing menu read authorities")
+                .register(meterRegistry);
+        this.unmapped = Counter.builder("security.menu_url.unmapped")
+                .description("Direct menu URL requests for menus without resource permission mappings")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated() || trustResolver.isAnonymous(current)) {
+            return DENIED;
+        }
+        CompiledMenus menus = compiled();
+        String[] menuIds = menus.trie().resolve(pathWithinApplication(context.getRequest()));
+        if (menuIds == null) {
+            return GRANTED;
+        }
+        boolean used = false;
+        boolean mapped = false;
+        for (String menuId : menuIds) {
+            if (menus.unusedMenuIds().contains(menuId)) {
+                continue;
+            }
+            used = true;
+            List<GrantedAuthority> required =
+                    menuResourcePermissions.getGrantedAuthorities(menuId, MenuAccessLevel.READ);
+            if (required.isEmpty()) {
+                continue;
+            }
+            mapped = true;
+            if (hasAll(current, required)) {
+                return GRANTED;
+            }
+        }
+        if (!used || mapped) {
+            denied.increment();
+            return DENIED;
+        }
+        unmapped.increment();
+        for (String menuId : menuIds) {
+            if (warnedUnmappedMenuIds.add(menuId)) {
+                log.warn(
+                        "Menu {} has no resource permission mapping, its URL falls back to authentication only",
+                        menuId);
+            }
+        }
+        return GRANTED;
+    }
+
+    /**
+     * 현재 메뉴 스냅샷으로 trie를 만든다 (기동 시 prewarm, 스냅샷 버전 변경 시).
+     *
+     * @return 등록된 메뉴 URL 수
+     */
+    public int compile() {
+        return compiled().trie().size();
+    }
+
+    private CompiledMenus compiled() {
+        MenuTreeSnapshot snapshot = menuTreeCache.get();
+        CompiledMenus current = compiled;
+        if (current.trie().version() == snapshot.version()) {
+            return current;
+        }
+        return recompile(snapshot);
+    }
+
+    private synchronized CompiledMenus recompile(MenuTreeSnapshot snapshot) {
+        CompiledMenus current = compiled;
+        if (current.trie().version() == snapshot.version()) {
+            return current;
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        Set<String> unusedMenuIds = new HashSet<>();
+        for (MenuResponse menu : snapshot.menus()) {
+            if (menu.menuUrl() != null && !menu.menuUrl().isBlank()) {
+                urls.put(menu.menuId(), menu.menuUrl());
+                if ("N".equals(menu.useYn())) {
+                    unusedMenuIds.add(menu.menuId());
+                }
+            }
+        }
+        MenuPathTrie trie = MenuPathTrie.compile(urls, snapshot.version());
+        CompiledMenus next = new CompiledMenus(trie, Set.copyOf(unusedMenuIds));
+        compiled = next;
+        log.debug("Menu URL trie compiled: version={}, urls={}", trie.version(), trie.size());
+        return next;
+    }
+
+    private static boolean hasAll(Authentication authentication, List<GrantedAuthority> required) {
+        for (GrantedAuthority authority : required) {
+            if (!hasAuthority(authentication, authority.getAuthority())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String authority) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.hasAuthority(authority);
+        }
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컨텍스트 경로를 뺀 디코딩·정규화된 경로 (세미콜론 파라미터 제거, 중복 슬래시 정리).
+     */
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+}
@@ -1,43 +1,138 @@
 package org.example.springadminv2.global.security.config;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.example.springadminv2.global.security.constant.MenuAccessLevel;
+import org.example.springadminv2.global.security.dto.MenuAuthorityChange;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+/**
+ * 메뉴별 리소스 권한 매핑 (menu-resource-permissions.yml).
+ * <p>
+ * 바인딩 시점에 콤마 구분 문자열을 메뉴·접근 레벨별 불변 권한 목록으로 한 번만 컴파일한다.
+ * 같은 권한 문자열은 모든 메뉴에서 같은 GrantedAuthority 인스턴스를 공유하며, 목록은 중복이 없다.
+ * WRITE 목록은 READ 권한을 포함한다.
+ * <p>
+ * 원본 매핑과 컴파일 결과는 한 참조로 함께 교체되므로, 조회하는 쪽은 재적재({@link #reload}) 도중에도
+ * 이전 또는 새 매핑 중 하나만 본다.
+ */
 @ConfigurationProperties(prefix = "menu-resource")
 public class MenuResourcePermissions {
 
-    private Map<String, Map<String, String>> permissions = Collections.emptyMap();
+    private static final MenuAuthorities NONE = new MenuAuthorities(List.of(), List.of());
+
+    private volatile State state = new State(Collections.emptyMap(), Collections.emptyMap());
+
+    private record State(Map<String, Map<String, String>> permissions, Map<String, MenuAuthorities> compiled) {}
+
+    /**
+     * @param read  R 권한
+     * @param write R + W 권한
+     */
+    private record MenuAuthorities(List<GrantedAuthority> read, List<GrantedAuthority> write) {
+
+        List<GrantedAuthority> get(MenuAccessLevel level) {
+            return level == MenuAccessLevel.WRITE ? write : read;
+        }
+    }
 
     public Map<String, Map<String, String>> getPermissions() {
-        return permissions;
+        return state.permissions();
     }
 
     public void setPermissions(Map<String, Map<String, String>> permissions) {
-        this.permissions = permissions;
+        reload(permissions);
     }
 
-    public Set<String> getDerivedResourceAuthorities(String menuId, MenuAccessLevel level) {
-        Map<String, String> entry = permissions.getOrDefault(menuId, Collections.emptyMap());
+    /**
+     * 새 매핑을 컴파일해 한 번에 교체하고, 메뉴·접근 레벨별로 바뀐 권한을 반환한다 (바뀐 것이 없으면 빈 목록).
+     */
+    public synchronized List<MenuAuthorityChange> reload(Map<String, Map<String, String>> permissions) {
+        Map<String, MenuAuthorities> previous = state.compiled();
+        Map<String, MenuAuthorities> compiled = compile(permissions);
+        state = new State(permissions, compiled);
+        return diff(previous, compiled);
+    }
+
+    /**
+     * 메뉴·접근 레벨의 권한 목록. 반환 목록과 원소는 공유되는 불변 인스턴스이다.
+     */
+    public List<GrantedAuthority> getGrantedAuthorities(String menuId, MenuAccessLevel level) {
+        return state.compiled().getOrDefault(menuId, NONE).get(level);
+    }
 
+    public Set<String> getDerivedResourceAuthorities(String menuId, MenuAccessLevel level) {
         Set<String> authorities = new LinkedHashSet<>();
-        authorities.addAll(splitAuthorities(entry.getOrDefault("R", "")));
-        if (level == MenuAccessLevel.WRITE) {
-            authorities.addAll(splitAuthorities(entry.getOrDefault("W", "")));
+        for (GrantedAuthority authority : getGrantedAuthorities(menuId, level)) {
+            authorities.add(authority.getAuthority());
         }
-
         return authorities;
     }
 
-    private Set<String> splitAuthorities(String value) {
+    private static Map<String, MenuAuthorities> compile(Map<String, Map<String, String>> permissions) {
+        Map<String, GrantedAuthority> interned = new HashMap<>();
+        Map<String, MenuAuthorities> result = new HashMap<>(permissions.size() * 2);
+        permissions.forEach((menuId, entry) -> {
+            Set<GrantedAuthority> read = new LinkedHashSet<>();
+            split(entry.get(MenuAccessLevel.READ.getCode()))
+                    .forEach(a -> read.add(interned.computeIfAbsent(a, SimpleGrantedAuthority::new)));
+            Set<GrantedAuthority> write = new LinkedHashSet<>(read);
+            split(entry.get(MenuAccessLevel.WRITE.getCode()))
+                    .forEach(a -> write.add(interned.computeIfAbsent(a, SimpleGrantedAuthority::new)));
+            result.put(menuId, new MenuAuthorities(List.copyOf(read), List.copyOf(write)));
+        });
+        return Map.copyOf(result);
+    }
+
+    private static List<MenuAuthorityChange> diff(
+            Map<String, MenuAuthorities> previous, Map<String, MenuAuthorities> current) {
+        Set<String> menuIds = new TreeSet<>(previous.keySet());
+        menuIds.addAll(current.keySet());
+        List<MenuAuthorityChange> changes = new ArrayList<>();
+        for (String menuId : menuIds) {
+            MenuAuthorities before = previous.getOrDefault(menuId, NONE);
+            MenuAuthorities after = current.getOrDefault(menuId, NONE);
+            for (MenuAccessLevel level : MenuAccessLevel.values()) {
+                Set<String> beforeNames = names(before.get(level));
+                Set<String> afterNames = names(after.get(level));
+                if (!beforeNames.equals(afterNames)) {
+                    changes.add(new MenuAuthorityChange(
+                            menuId,
+                            level.getCode(),
+                            List.copyOf(minus(afterNames, beforeNames)),
+                            List.copyOf(minus(beforeNames, afterNames))));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static Set<String> names(List<GrantedAuthority> authorities) {
+        Set<String> names = new TreeSet<>();
+        authorities.forEach(authority -> names.add(authority.getAuthority()));
+        return names;
+    }
+
+    private static Set<String> minus(Set<String> left, Set<String> right) {
+        Set<String> result = new TreeSet<>(left);
+        result.removeAll(right);
+        return result;
+    }
+
+    private static List<String> split(String value) {
         if (value == null || value.isBlank()) {
-            return Collections.emptySet();
+            return List.of();
         }
-        Set<String> result = new LinkedHashSet<>();
+        List<String> result = new ArrayList<>();
         for (String token : value.split(",")) {
             String trimmed = token.trim();
             if (!trimmed.isEmpty()) {
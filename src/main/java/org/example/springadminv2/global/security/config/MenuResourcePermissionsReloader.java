@@ -0,0 +1,184 @@
+package org.example.springadminv2.global.security.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.cache.CacheInvalidationBus;
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.example.springadminv2.global.security.dto.MenuAuthorityChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시작 없이 메뉴 리소스 권한 매핑을 다시 읽어 {@link MenuResourcePermissions}를 교체한다.
+ * <p>
+ * 매핑이 바뀌면 역할·사용자 권한 변경 이벤트를 발행해 역할 권한 캐시와 권한 버전을 갱신하므로,
+ * 로그인 중인 사용자의 권한도 다음 요청에서 다시 계산된다.
+ * <p>
+ * jar 안의 classpath 위치는 바뀌지 않으므로, 운영에서는 모든 노드가 같은 내용을 읽는 {@code file:} 위치
+ * (MENU_RESOURCE_PERMISSIONS_LOCATION)를 지정해야 한다. 파일 위치면 수정 시각을 주기적으로 확인해 노드마다 스스로 다시 읽고,
+ * {@link #reload()}(관리 API)는 {@link CacheInvalidationBus}로 다른 노드에도 재적재를 알린다.
+ */
+@Slf4j
+@Component
+public class MenuResourcePermissionsReloader {
+
+    /** 노드 간 재적재 알림 영역 */
+    public static final String REGION_MENU_RESOURCE = "MENU_RESOURCE";
+
+    private static final String PERMISSIONS_PROPERTY = "menu-resource.permissions";
+
+    private static final Bindable<Map<String, Map<String, String>>> PERMISSIONS_TYPE =
+            Bindable.of(ResolvableType.forClassWithGenerics(
+                    Map.class,
+                    ResolvableType.forClass(String.class),
+                    ResolvableType.forClassWithGenerics(Map.class, String.class, String.class)));
+
+    private final MenuResourcePermissions menuResourcePermissions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Resource resource;
+    private final MeterRegistry meterRegistry;
+    private volatile long lastModified;
+
+    public MenuResourcePermissionsReloader(
+            MenuResourcePermissions menuResourcePermissions,
+            ResourceLoader resourceLoader,
+            ApplicationEventPublisher eventPublisher,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${security.menu-resource.location:classpath:menu-resource-permissions.yml}") String location) {
+        this.menuResourcePermissions = menuResourcePermissions;
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.resource = resourceLoader.getResource(location);
+        this.meterRegistry = meterRegistry;
+        this.lastModified = lastModified();
+        if (!resource.isFile()) {
+            log.warn(
+                    "Menu resource permissions location {} is not a file, reload only re-reads the packaged mapping;"
+                            + " set MENU_RESOURCE_PERMISSIONS_LOCATION to a shared file: location",
+                    location);
+        }
+    }
+
+    /**
+     * 설정 위치에서 매핑을 다시 읽어 교체하고, 다른 노드에도 재적재를 알린다. 바뀐 권한 목록(이 노드 기준)을 반환한다.
+     * 읽기에 실패하거나 매핑이 비어 있으면 기존 매핑을 유지하고 알리지 않는다.
+     */
+    public List<MenuAuthorityChange> reload() {
+        List<MenuAuthorityChange> changes = reloadLocal();
+        cacheInvalidationBus.publish(REGION_MENU_RESOURCE, CacheInvalidationBus.ALL_KEYS);
+        return changes;
+    }
+
+    /**
+     * 다른 노드의 재적재 알림을 받으면 이 노드도 다시 읽는다.
+     */
+    @EventListener
+    public void onRemoteInvalidation(CacheRegionInvalidatedEvent event) {
+        if (!REGION_MENU_RESOURCE.equals(event.region())) {
+            return;
+        }
+        try {
+            reloadLocal();
+        } catch (RuntimeException e) {
+            log.warn("Menu resource permissions remote reload failed, keeping current mapping: {}", e.getMessage());
+        }
+    }
+
+    private synchronized List<MenuAuthorityChange> reloadLocal() {
+        long modified = lastModified();
+        Map<String, Map<String, String>> permissions;
+        try {
+            permissions = read();
+        } catch (RuntimeException e) {
+            count("failed");
+            throw e;
+        }
+        List<MenuAuthorityChange> changes = apply(permissions);
+        lastModified = modified;
+        return changes;
+    }
+
+    private List<MenuAuthorityChange> apply(Map<String, Map<String, String>> permissions) {
+        List<MenuAuthorityChange> changes = menuResourcePermissions.reload(permissions);
+        if (changes.isEmpty()) {
+            count("unchanged");
+            return changes;
+        }
+        eventPublisher.publishEvent(MenuPermissionChangedEvent.ofRoles());
+        eventPublisher.publishEvent(MenuPermissionChangedEvent.ofUsers());
+        count("changed");
+        log.info("Menu resource permissions reloaded: {} change(s)", changes.size());
+        changes.forEach(change -> log.info(
+                "  {} [{}] added={} removed={}", change.menuId(), change.level(), change.added(), change.removed()));
+        return changes;
+    }
+
+    /**
+     * 파일의 수정 시각이 바뀌었으면 다시 읽는다. jar 내부 등 파일이 아닌 위치는 건너뛴다.
+     */
+    @Scheduled(
+            initialDelayString = "${security.menu-resource.poll-interval:30000}",
+            fixedDelayString = "${security.menu-resource.poll-interval:30000}")
+    public void reloadIfModified() {
+        if (!resource.isFile() || lastModified() == lastModified) {
+            return;
+        }
+        try {
+            reloadLocal();
+        } catch (RuntimeException e) {
+            log.warn("Menu resource permissions reload failed, keeping current mapping: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Map<String, String>> read() {
+        try {
+            Binder binder = new Binder(ConfigurationPropertySources.from(
+                    new YamlPropertySourceLoader().load(resource.getDescription(), resource)));
+            Map<String, Map<String, String>> permissions =
+                    binder.bind(PERMISSIONS_PROPERTY, PERMISSIONS_TYPE).orElse(Map.of());
+            if (permissions.isEmpty()) {
+                throw new BaseException(ErrorType.INVALID_INPUT, "empty " + PERMISSIONS_PROPERTY + " in " + resource);
+            }
+            return permissions;
+        } catch (IOException e) {
+            throw new BaseException(ErrorType.INTERNAL_ERROR, "read " + resource, e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("security.menu_resource.reload")
+                .description("Menu resource permission reloads")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
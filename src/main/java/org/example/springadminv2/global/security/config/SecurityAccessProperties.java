@@ -15,4 +15,10 @@ public class SecurityAccessProperties {
 
     @NotNull
     private String authoritySource;
+
+    /**
+     * 권한 메뉴 트리 계산 방식.
+     * QUERY: 계층 SQL(CONNECT BY / WITH RECURSIVE), INDEX: 메뉴 인덱스 + 권한 행으로 Java에서 계산
+     */
+    private String menuTreeStrategy = "QUERY";
 }
@@ -8,7 +8,6 @@ import org.example.springadminv2.global.security.config.MenuResourcePermissions;
 import org.example.springadminv2.global.security.constant.MenuAccessLevel;
 import org.example.springadminv2.global.security.dto.MenuPermission;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -26,10 +25,7 @@ public class AuthorityConverter {
             MenuAccessLevel level = MenuAccessLevel.fromCode(permission.authCode());
             String menuId = permission.menuId();
 
-            Set<String> derivedResources = menuResourcePermissions.getDerivedResourceAuthorities(menuId, level);
-            for (String resource : derivedResources) {
-                authorities.add(new SimpleGrantedAuthority(resource));
-            }
+            authorities.addAll(menuResourcePermissions.getGrantedAuthorities(menuId, level));
         }
 
         return authorities;
@@ -0,0 +1,12 @@
+package org.example.springadminv2.global.security.dto;
+
+import java.util.List;
+
+/**
+ * 메뉴 리소스 권한 매핑 재적재 시 메뉴·접근 레벨별로 바뀐 권한.
+ *
+ * @param level   "R" 또는 "W" (W는 R 권한을 포함한 목록 기준)
+ * @param added   새로 생긴 권한 (이름순)
+ * @param removed 없어진 권한 (이름순)
+ */
+public record MenuAuthorityChange(String menuId, String level, List<String> added, List<String> removed) {}
@@ -0,0 +1,10 @@
+package org.example.springadminv2.global.security.dto;
+
+import java.util.Set;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 로그인 시 한 번에 읽은 사용자와 권한.
+ */
+public record UserAuthorities(AuthenticatedUser user, Set<GrantedAuthority> authorities) {}
@@ -0,0 +1,32 @@
+package org.example.springadminv2.global.security.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그인용 사용자 + 메뉴 권한 조인 결과의 한 행 (권한 하나당 한 행).
+ * 권한이 없는 사용자는 LEFT JOIN으로 menuId/authCode가 null인 행 하나만 반환된다.
+ */
+public record UserPermissionRow(
+        String userId,
+        String password,
+        String roleId,
+        String userStateCode,
+        int loginFailCount,
+        String menuId,
+        String authCode) {
+
+    public AuthenticatedUser toUser() {
+        return new AuthenticatedUser(userId, password, roleId, userStateCode, loginFailCount);
+    }
+
+    public static List<MenuPermission> permissionsOf(List<UserPermissionRow> rows) {
+        List<MenuPermission> permissions = new ArrayList<>(rows.size());
+        for (UserPermissionRow row : rows) {
+            if (row.menuId() != null) {
+                permissions.add(new MenuPermission(row.menuId(), row.authCode()));
+            }
+        }
+        return permissions;
+    }
+}
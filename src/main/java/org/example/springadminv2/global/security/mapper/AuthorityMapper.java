@@ -3,8 +3,10 @@ package org.example.springadminv2.global.security.mapper;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.example.springadminv2.global.security.dto.AuthenticatedUser;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserPermissionRow;
 
 @Mapper
 public interface AuthorityMapper {
@@ -14,4 +16,39 @@ public interface AuthorityMapper {
     List<MenuPermission> selectMenuPermissionsByRoleId(String roleId);
 
     AuthenticatedUser selectUserById(String userId);
+
+    /**
+     * 사용자와 FWK_USER_MENU 권한을 한 번에 조회한다. 사용자가 없으면 빈 목록.
+     */
+    List<UserPermissionRow> selectUserWithUserMenus(String userId);
+
+    /**
+     * 저장된 해시가 oldPassword와 같을 때만 newPassword로 바꾼다 (로그인 시 rehash).
+     */
+    int updatePassword(
+            @Param("userId") String userId,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword);
+
+    /**
+     * 로그인 실패 횟수를 delta만큼 올리고 마지막 실패 시각을 기록한다 (maxCount에서 멈춤).
+     *
+     * @param maxCount  잠금 기준 횟수 ({@code CustomUserDetails.MAX_LOGIN_FAIL_COUNT})
+     * @param failDtime YYYYMMDDHH24MISS
+     */
+    int addLoginFailCount(
+            @Param("userId") String userId,
+            @Param("delta") int delta,
+            @Param("maxCount") int maxCount,
+            @Param("failDtime") String failDtime);
+
+    /**
+     * 로그인 성공 시 실패 횟수를 0으로 되돌린다. 이미 0이면 행을 건드리지 않는다.
+     */
+    int resetLoginFailCount(String userId);
+
+    /**
+     * 마지막 실패가 expiredBefore(YYYYMMDDHH24MISS)보다 오래된 계정의 실패 횟수를 0으로 되돌린다 (잠금 만료).
+     */
+    int resetExpiredLoginFailCounts(String expiredBefore);
 }
@@ -0,0 +1,148 @@
+package org.example.springadminv2.global.security.password;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 동시 실행 수와 대기열을 제한한 PasswordEncoder.
+ * <p>
+ * BCrypt 검증은 요청 스레드에서 CPU를 오래 점유하므로, 로그인이 몰리면 최대 {@code maxConcurrent}개만 동시에
+ * 실행하고 나머지는 최대 {@code maxQueue}개까지 FIFO로 기다린다. 대기열이 가득 찼거나 {@code queueTimeout} 안에 차례가
+ * 오지 않으면 {@link PasswordVerificationBusyException}으로 바로 거절해 일반 화면 요청용 스레드와 CPU를 남겨 둔다.
+ * <ul>
+ *   <li>{@code security.password.verify{result=match|mismatch}}: 검증 소요 시간</li>
+ *   <li>{@code security.password.queue.wait}: 대기 시간</li>
+ *   <li>{@code security.password.rejected{reason=queue_full|timeout}}: 거절 수</li>
+ *   <li>{@code security.password.active} / {@code security.password.waiting}: 실행·대기 중인 요청 수</li>
+ * </ul>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+    private final Timer encodeTimer;
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int maxConcurrent,
+            int maxQueue,
+            Duration queueTimeout,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        this.matchTimer =
+                Timer.builder("security.password.verify").tag("result", "match").register(meterRegistry);
+        this.mismatchTimer = Timer.builder("security.password.verify")
+                .tag("result", "mismatch")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("security.password.encode").register(meterRegistry);
+        this.waitTimer = Timer.builder("security.password.queue.wait").register(meterRegistry);
+        this.queueFullCounter = Counter.builder("security.password.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("security.password.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("security.password.active", permits, p -> maxConcurrent - p.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("security.password.waiting", waiting, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bounded(() -> {
+            long start = System.nanoTime();
+            String encoded = delegate.encode(rawPassword);
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return encoded;
+        });
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bounded(() -> {
+            long start = System.nanoTime();
+            boolean matched = delegate.matches(rawPassword, encodedPassword);
+            (matched ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return matched;
+        });
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정보다 낮으면 true. 로그인 성공 시 UserDetailsPasswordService로 다시 해시된다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private <T> T bounded(Supplier<T> work) {
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        // 공정 세마포어이므로 대기 중인 요청이 있으면 새 요청이 앞지르지 않는다
+        if (tryAcquire(0)) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            queueFullCounter.increment();
+            throw new PasswordVerificationBusyException("Password verification queue is full");
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = tryAcquire(queueTimeoutNanos);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new PasswordVerificationBusyException("Password verification timed out in queue");
+        }
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
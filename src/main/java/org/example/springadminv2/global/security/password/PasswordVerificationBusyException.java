@@ -0,0 +1,13 @@
+package org.example.springadminv2.global.security.password;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 단계가 포화 상태라 로그인 요청을 받지 않았음을 나타낸다. 자격 증명 오류와 구분해 안내한다.
+ */
+public class PasswordVerificationBusyException extends AuthenticationServiceException {
+
+    public PasswordVerificationBusyException(String message) {
+        super(message);
+    }
+}
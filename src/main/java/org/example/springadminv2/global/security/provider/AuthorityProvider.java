@@ -2,8 +2,16 @@ package org.example.springadminv2.global.security.provider;
 
 import java.util.Set;
 
+import org.example.springadminv2.global.security.dto.UserAuthorities;
 import org.springframework.security.core.GrantedAuthority;
 
 public interface AuthorityProvider {
     Set<GrantedAuthority> getAuthorities(String userId, String roleId);
+
+    /**
+     * 로그인용. 사용자와 권한을 DB 한 번 왕복으로 읽는다.
+     *
+     * @return 사용자가 없으면 null
+     */
+    UserAuthorities loadUserAuthorities(String userId);
 }
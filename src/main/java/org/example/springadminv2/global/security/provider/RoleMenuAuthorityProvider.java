@@ -3,15 +3,36 @@ package org.example.springadminv2.global.security.provider;
 import java.util.List;
 import java.util.Set;
 
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.config.CacheNames;
 import org.example.springadminv2.global.security.converter.AuthorityConverter;
+import org.example.springadminv2.global.security.dto.AuthenticatedUser;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * ROLE_MENU 모드 권한 제공자. 같은 역할의 사용자는 같은 권한을 가지므로 역할별 불변 권한 집합을 캐시해
+ * 로그인마다 반복되던 FWK_ROLE_MENU 조회와 권한 변환을 생략한다.
+ * <p>
+ * 로그인은 사용자 한 행(selectUserById)만 읽고, 역할 권한은 캐시에 없을 때만 캐시 로더에서 조회한다.
+ * 캐시 적중 한 번이 FWK_ROLE_MENU 조회 한 번을 아낀 것이므로, 절감량은
+ * {@code cache.gets{cache=roleAuthorities,result=hit}} 메트릭으로 확인한다.
+ * FWK_ROLE_MENU 변경(MenuPermissionChangedEvent, ROLE)은 커밋 이후 해당 역할만 무효화한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "security.access.authority-source", havingValue = "ROLE_MENU")
@@ -19,10 +40,52 @@ public class RoleMenuAuthorityProvider implements AuthorityProvider {
 
     private final AuthorityMapper authorityMapper;
     private final AuthorityConverter authorityConverter;
+    private final CacheManager cacheManager;
 
     @Override
     public Set<GrantedAuthority> getAuthorities(String userId, String roleId) {
-        List<MenuPermission> permissions = authorityMapper.selectMenuPermissionsByRoleId(roleId);
-        return authorityConverter.convert(permissions);
+        if (roleId == null) {
+            return load(null);
+        }
+        return cache().get(roleId, () -> load(roleId));
+    }
+
+    @Override
+    public UserAuthorities loadUserAuthorities(String userId) {
+        AuthenticatedUser user = authorityMapper.selectUserById(userId);
+        if (user == null) {
+            return null;
+        }
+        if (user.roleId() == null) {
+            return new UserAuthorities(user, toAuthorities(List.of()));
+        }
+        return new UserAuthorities(user, cache().get(user.roleId(), () -> load(user.roleId())));
+    }
+
+    private Set<GrantedAuthority> load(String roleId) {
+        return toAuthorities(authorityMapper.selectMenuPermissionsByRoleId(roleId));
+    }
+
+    private Set<GrantedAuthority> toAuthorities(List<MenuPermission> permissions) {
+        return Set.copyOf(authorityConverter.convert(permissions));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuPermissionChanged(MenuPermissionChangedEvent event) {
+        if (event.scope() != MenuPermissionChangedEvent.Scope.ROLE) {
+            return;
+        }
+        Cache cache = cache();
+        if (event.isAll()) {
+            cache.clear();
+        } else {
+            event.ids().forEach(cache::evict);
+        }
+        log.debug("Role authority cache evicted: {}", event.isAll() ? "all" : event.ids());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.ROLE_AUTHORITIES);
     }
 }
@@ -5,6 +5,8 @@ import java.util.Set;
 
 import org.example.springadminv2.global.security.converter.AuthorityConverter;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
+import org.example.springadminv2.global.security.dto.UserPermissionRow;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,4 +27,14 @@ public class UserMenuAuthorityProvider implements AuthorityProvider {
         List<MenuPermission> permissions = authorityMapper.selectMenuPermissionsByUserId(userId);
         return authorityConverter.convert(permissions);
     }
+
+    @Override
+    public UserAuthorities loadUserAuthorities(String userId) {
+        List<UserPermissionRow> rows = authorityMapper.selectUserWithUserMenus(userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return new UserAuthorities(
+                rows.get(0).toUser(), authorityConverter.convert(UserPermissionRow.permissionsOf(rows)));
+    }
 }
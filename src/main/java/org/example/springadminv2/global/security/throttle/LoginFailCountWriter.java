@@ -0,0 +1,147 @@
+package org.example.springadminv2.global.security.throttle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 실패/성공을 사용자별로 모아 FWK_USER.LOGIN_FAIL_COUNT를 주기적으로 갱신한다.
+ * <p>
+ * 실패마다 UPDATE하지 않고 주기 동안의 증가분을 합쳐 사용자당 UPDATE 한 번으로 줄이고, 한 번의 JDBC batch로 보낸다.
+ * 주기 안에 성공이 있으면 그 이전 실패는 버리고 0으로 되돌린다. 노드가 내려가면 마지막 주기의 증가분은 유실될 수 있다.
+ * <p>
+ * 실패를 반영할 때 마지막 실패 시각(LOGIN_FAIL_DTIME)도 기록하고, 마지막 실패 후 lock-duration이 지난 계정은
+ * 주기적으로 실패 횟수를 0으로 되돌린다. 실패 5회 잠금(CustomUserDetails.isAccountNonLocked)은 그 시간이 지나면 풀린다.
+ */
+@Slf4j
+@Component
+public class LoginFailCountWriter {
+
+    /** 0이면 성공(초기화), 양수면 실패 증가분 */
+    private static final int RESET = 0;
+
+    private static final int MAX_PENDING_USERS = 10_000;
+
+    private static final DateTimeFormatter DTIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final BatchSqlSession batchSqlSession;
+    private final Duration lockDuration;
+    private final Clock clock;
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+    private final Counter dropped;
+    private final Counter written;
+
+    @Autowired
+    public LoginFailCountWriter(
+            BatchSqlSession batchSqlSession,
+            MeterRegistry meterRegistry,
+            @Value("${security.login-throttle.lock-duration:30m}") Duration lockDuration) {
+        this(batchSqlSession, meterRegistry, lockDuration, Clock.systemDefaultZone());
+    }
+
+    public LoginFailCountWriter(
+            BatchSqlSession batchSqlSession, MeterRegistry meterRegistry, Duration lockDuration, Clock clock) {
+        this.batchSqlSession = batchSqlSession;
+        this.lockDuration = lockDuration;
+        this.clock = clock;
+        this.dropped = Counter.builder("security.login.fail_count.dropped")
+                .description("Fail-count updates dropped because the pending buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("security.login.fail_count.written")
+                .description("Coalesced FWK_USER fail-count updates sent")
+                .register(meterRegistry);
+        Gauge.builder("security.login.fail_count.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void recordFailure(String userId) {
+        if (pending.size() >= MAX_PENDING_USERS && !pending.containsKey(userId)) {
+            dropped.increment();
+            return;
+        }
+        pending.merge(userId, 1, Integer::sum);
+    }
+
+    public void recordSuccess(String userId) {
+        pending.put(userId, RESET);
+    }
+
+    /**
+     * 모인 변경을 한 트랜잭션·한 batch로 반영한다. 실패하면 증가분을 다시 합쳐 다음 주기에 재시도한다.
+     */
+    @Scheduled(
+            initialDelayString = "${security.login-throttle.flush-interval:5000}",
+            fixedDelayString = "${security.login-throttle.flush-interval:5000}")
+    @Transactional
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Integer>> drained = new ArrayList<>(pending.size());
+        for (String userId : pending.keySet()) {
+            Integer delta = pending.remove(userId);
+            if (delta != null) {
+                drained.add(Map.entry(userId, delta));
+            }
+        }
+        try {
+            AuthorityMapper mapper = batchSqlSession.getMapper(AuthorityMapper.class);
+            String now = dtime(LocalDateTime.now(clock));
+            for (Map.Entry<String, Integer> entry : drained) {
+                if (entry.getValue() == RESET) {
+                    mapper.resetLoginFailCount(entry.getKey());
+                } else {
+                    mapper.addLoginFailCount(
+                            entry.getKey(), entry.getValue(), CustomUserDetails.MAX_LOGIN_FAIL_COUNT, now);
+                }
+            }
+            batchSqlSession.flushStatements();
+            written.increment(drained.size());
+        } catch (RuntimeException e) {
+            log.warn("Login fail-count flush failed, retrying next cycle: users={}", drained.size(), e);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            // 한 값으로는 "초기화 후 N회 실패"를 표현할 수 없으므로 초기화가 끼어 있으면 초기화로 합친다
+            drained.forEach(entry -> pending.merge(
+                    entry.getKey(),
+                    entry.getValue(),
+                    (current, failed) -> current == RESET || failed == RESET ? RESET : current + failed));
+        }
+    }
+
+    /**
+     * 마지막 실패 후 lock-duration이 지난 계정의 실패 횟수를 0으로 되돌려 잠금을 푼다.
+     * 모든 노드에서 실행돼도 같은 결과인 조건부 UPDATE 한 번이다.
+     */
+    @Scheduled(
+            initialDelayString = "${security.login-throttle.unlock-interval:60000}",
+            fixedDelayString = "${security.login-throttle.unlock-interval:60000}")
+    @Transactional
+    public void resetExpiredLocks() {
+        String expiredBefore = dtime(LocalDateTime.now(clock).minus(lockDuration));
+        batchSqlSession.getMapper(AuthorityMapper.class).resetExpiredLoginFailCounts(expiredBefore);
+        batchSqlSession.flushStatements();
+    }
+
+    private static String dtime(LocalDateTime time) {
+        return DTIME_FORMAT.format(time);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.springadminv2.global.security.throttle;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 사용자별·IP별 로그인 실패 슬라이딩 윈도우.
+ * <p>
+ * 임계치를 넘은 사용자/IP의 로그인은 {@link LoginThrottleFilter}가 사용자 조회와 BCrypt 검증 전에 거절한다.
+ * 실패는 자격 증명 오류(없는 사용자 포함)만 센다. 사용자 실패 횟수는 {@link LoginFailCountWriter}로 모아
+ * FWK_USER.LOGIN_FAIL_COUNT에 주기적으로 반영한다. 윈도우는 노드 메모리에만 있으므로 노드별로 계산된다.
+ * <p>
+ * IP는 {@code request.getRemoteAddr()}이다. 로드밸런서 뒤에서는 server.forward-headers-strategy=native와
+ * server.tomcat.remoteip.internal-proxies를 함께 설정해야 클라이언트 IP가 되며, 설정하지 않으면 모든 요청이 프록시 IP 하나로 묶인다.
+ * <p>
+ * 임계치가 0이면 그 범위(사용자/IP)의 제한을 끈다. 음수는 기동 시 거부한다.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int MAX_TRACKED_KEYS = 100_000;
+
+    private final int userMaxFailures;
+    private final int ipMaxFailures;
+    private final long userWindowNanos;
+    private final long ipWindowNanos;
+    private final Cache<String, SlidingWindow> userWindows;
+    private final Cache<String, SlidingWindow> ipWindows;
+    private final LoginFailCountWriter failCountWriter;
+    private final LongSupplier nanoTime;
+    private final Counter failures;
+    private final Counter blockedByUser;
+    private final Counter blockedByIp;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${security.login-throttle.user-max-failures:5}") int userMaxFailures,
+            @Value("${security.login-throttle.user-window:15m}") Duration userWindow,
+            @Value("${security.login-throttle.ip-max-failures:50}") int ipMaxFailures,
+            @Value("${security.login-throttle.ip-window:5m}") Duration ipWindow,
+            LoginFailCountWriter failCountWriter,
+            MeterRegistry meterRegistry) {
+        this(userMaxFailures, userWindow, ipMaxFailures, ipWindow, failCountWriter, meterRegistry, System::nanoTime);
+    }
+
+    public LoginThrottle(
+            int userMaxFailures,
+            Duration userWindow,
+            int ipMaxFailures,
+            Duration ipWindow,
+            LoginFailCountWriter failCountWriter,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoTime) {
+        if (userMaxFailures < 0 || ipMaxFailures < 0) {
+            throw new BaseException(
+                    ErrorType.INVALID_INPUT,
+                    "security.login-throttle max-failures must be >= 0: user=" + userMaxFailures + ", ip="
+                            + ipMaxFailures);
+        }
+        this.userMaxFailures = userMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        this.userWindowNanos = userWindow.toNanos();
+        this.ipWindowNanos = ipWindow.toNanos();
+        this.userWindows = windows(userWindow);
+        this.ipWindows = windows(ipWindow);
+        this.failCountWriter = failCountWriter;
+        this.nanoTime = nanoTime;
+        this.failures = Counter.builder("security.login.failures")
+                .description("Bad-credential login attempts")
+                .register(meterRegistry);
+        this.blockedByUser = blocked(meterRegistry, "user");
+        this.blockedByIp = blocked(meterRegistry, "ip");
+        Gauge.builder("security.login.throttle.tracked", userWindows, Cache::estimatedSize)
+                .tag("scope", "user")
+                .register(meterRegistry);
+        Gauge.builder("security.login.throttle.tracked", ipWindows, Cache::estimatedSize)
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 차단 대상이면 거절 메트릭을 올리고 예외를 던진다.
+     */
+    public void check(String username, String clientIp) {
+        long now = nanoTime.getAsLong();
+        if (isFull(ipWindows, clientIp, now, ipWindowNanos)) {
+            blockedByIp.increment();
+            throw new LoginThrottledException("Too many failed logins from " + clientIp);
+        }
+        if (isFull(userWindows, username, now, userWindowNanos)) {
+            blockedByUser.increment();
+            throw new LoginThrottledException("Too many failed logins for " + username);
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long now = nanoTime.getAsLong();
+        failures.increment();
+        if (clientIp != null && ipMaxFailures > 0) {
+            ipWindows.get(clientIp, k -> new SlidingWindow(ipMaxFailures)).record(now);
+        }
+        if (username != null && !username.isEmpty()) {
+            if (userMaxFailures > 0) {
+                userWindows
+                        .get(username, k -> new SlidingWindow(userMaxFailures))
+                        .record(now);
+            }
+            failCountWriter.recordFailure(username);
+        }
+    }
+
+    public void recordSuccess(String username) {
+        userWindows.invalidate(username);
+        failCountWriter.recordSuccess(username);
+    }
+
+    @EventListener
+    public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+        Authentication authentication = event.getAuthentication();
+        recordFailure(authentication.getName(), clientIp(authentication));
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        recordSuccess(event.getAuthentication().getName());
+    }
+
+    private static boolean isFull(Cache<String, SlidingWindow> windows, String key, long now, long windowNanos) {
+        if (key == null) {
+            return false;
+        }
+        SlidingWindow window = windows.getIfPresent(key);
+        return window != null && window.isFull(now, windowNanos);
+    }
+
+    private static String clientIp(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+    }
+
+    private static Cache<String, SlidingWindow> windows(Duration window) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(window)
+                .maximumSize(MAX_TRACKED_KEYS)
+                .build();
+    }
+
+    private static Counter blocked(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("security.login.blocked")
+                .description("Login attempts rejected before password verification")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.springadminv2.global.security.throttle;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 로그인 처리(POST /login) 앞에서 차단된 사용자/IP를 거절한다.
+ * 사용자 조회와 BCrypt 검증까지 가지 않고 로그인 실패 핸들러로 바로 보낸다.
+ */
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginThrottle loginThrottle;
+    private final AuthenticationFailureHandler failureHandler;
+    private final RequestMatcher loginRequest = new AntPathRequestMatcher("/login", HttpMethod.POST.name());
+
+    public LoginThrottleFilter(LoginThrottle loginThrottle, AuthenticationFailureHandler failureHandler) {
+        this.loginThrottle = loginThrottle;
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !loginRequest.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            loginThrottle.check(
+                    request.getParameter(UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY),
+                    request.getRemoteAddr());
+        } catch (LoginThrottledException e) {
+            failureHandler.onAuthenticationFailure(request, response, e);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
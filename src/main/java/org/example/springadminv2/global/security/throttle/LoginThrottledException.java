@@ -0,0 +1,13 @@
+package org.example.springadminv2.global.security.throttle;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 사용자 또는 IP의 최근 로그인 실패가 임계치를 넘어 비밀번호 검증 전에 거절된 로그인.
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    public LoginThrottledException(String msg) {
+        super(msg);
+    }
+}
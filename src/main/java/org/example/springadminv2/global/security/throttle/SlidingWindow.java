@@ -0,0 +1,35 @@
+package org.example.springadminv2.global.security.throttle;
+
+/**
+ * 최근 limit개의 실패 시각만 보관하는 슬라이딩 윈도우 (ring buffer).
+ * limit개가 모두 window 안에 있으면 차단 상태다. 키 하나당 long 배열 하나만 쓴다.
+ */
+final class SlidingWindow {
+
+    private final long[] times;
+    private int next;
+    private int count;
+
+    SlidingWindow(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        this.times = new long[limit];
+    }
+
+    synchronized void record(long now) {
+        times[next] = now;
+        next = (next + 1) % times.length;
+        if (count < times.length) {
+            count++;
+        }
+    }
+
+    /**
+     * @return window 안의 실패가 limit에 도달했으면 true
+     */
+    synchronized boolean isFull(long now, long windowNanos) {
+        // 가득 찼을 때 next가 가장 오래된 항목을 가리킨다
+        return count == times.length && now - times[next] < windowNanos;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.springadminv2.global.startup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.example.springadminv2.domain.menu.service.MenuService;
+import org.example.springadminv2.global.security.authorization.MenuUrlAuthorizationManager;
+import org.example.springadminv2.global.security.config.MenuResourcePermissions;
+import org.example.springadminv2.global.security.converter.AuthorityConverter;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 직후 첫 로그인/첫 메뉴 조회가 치르는 cold start 비용(MyBatis 문장 첫 실행, 계층 조회, 트리 빌더 JIT)을 미리 치른다.
+ * <p>
+ * ApplicationReadyEvent에서 동기로 실행한다. Spring Boot는 이 이벤트의 리스너가 모두 끝난 뒤 readiness를
+ * ACCEPTING_TRAFFIC으로 바꾸므로, prewarm이 끝나기 전에는 readiness probe가 트래픽을 받지 않는다.
+ * 단계가 실패해도 기동은 계속하며, 단계별 소요 시간을 로그와 {@code startup.prewarm} 타이머로 남긴다.
+ */
+@Slf4j
+@Component
+public class StartupPrewarmer {
+
+    static final String TIMER_NAME = "startup.prewarm";
+
+    private static final String PREWARM_USER_ID = "__prewarm__";
+
+    private final MenuService menuService;
+    private final MenuResourcePermissions menuResourcePermissions;
+    private final AuthorityConverter authorityConverter;
+    private final MenuUrlAuthorizationManager menuUrlAuthorizationManager;
+    private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public StartupPrewarmer(
+            MenuService menuService,
+            MenuResourcePermissions menuResourcePermissions,
+            AuthorityConverter authorityConverter,
+            MenuUrlAuthorizationManager menuUrlAuthorizationManager,
+            UserDetailsService userDetailsService,
+            MeterRegistry meterRegistry,
+            @Value("${startup.prewarm.enabled:true}") boolean enabled) {
+        this.menuService = menuService;
+        this.menuResourcePermissions = menuResourcePermissions;
+        this.authorityConverter = authorityConverter;
+        this.menuUrlAuthorizationManager = menuUrlAuthorizationManager;
+        this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param name     단계 이름
+     * @param count    처리한 항목 수 (실패 시 -1)
+     * @param duration 소요 시간
+     */
+    public record PhaseResult(String name, int count, Duration duration) {}
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<PhaseResult> results = prewarm();
+        log.info(report(event.getTimeTaken(), results));
+    }
+
+    /**
+     * 모든 단계를 순서대로 실행한다.
+     */
+    public List<PhaseResult> prewarm() {
+        List<PhaseResult> results = new ArrayList<>();
+        results.add(phase("menuSnapshot", () -> menuService.getMenuTree().size()));
+        results.add(phase(
+                "menuSearchIndex", () -> menuService.searchMenus("prewarm", 1).size()));
+        results.add(phase("authorizedMenuTree", menuService::prewarmAuthorizedMenuTree));
+        results.add(phase("menuResourcePermissions", this::prewarmMenuResourcePermissions));
+        results.add(phase("menuUrlAuthorization", menuUrlAuthorizationManager::compile));
+        results.add(phase("loginQuery", this::prewarmLoginQuery));
+        return results;
+    }
+
+    private PhaseResult phase(String name, IntSupplier work) {
+        long start = System.nanoTime();
+        int count;
+        try {
+            count = work.getAsInt();
+        } catch (RuntimeException e) {
+            count = -1;
+            log.warn("Startup prewarm phase failed: {}", name, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder(TIMER_NAME).tag("phase", name).register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        return new PhaseResult(name, count, Duration.ofNanos(elapsed));
+    }
+
+    /** 매핑된 모든 메뉴를 W 권한으로 변환해 파생 권한 계산 경로를 실행한다. */
+    private int prewarmMenuResourcePermissions() {
+        List<MenuPermission> all = menuResourcePermissions.getPermissions().keySet().stream()
+                .map(menuId -> new MenuPermission(menuId, "W"))
+                .toList();
+        return authorityConverter.convert(all).size();
+    }
+
+    /** 로그인 사용자 조회문을 존재하지 않는 id로 실행한다. */
+    private int prewarmLoginQuery() {
+        try {
+            userDetailsService.loadUserByUsername(PREWARM_USER_ID);
+            return 1;
+        } catch (UsernameNotFoundException e) {
+            return 0;
+        }
+    }
+
+    static String report(Duration readyTime, List<PhaseResult> results) {
+        StringBuilder sb = new StringBuilder("Startup timing: jvmUptime=")
+                .append(ManagementFactory.getRuntimeMXBean().getUptime())
+                .append("ms, ready=")
+                .append(readyTime == null ? "?" : readyTime.toMillis())
+                .append("ms, prewarm=");
+        long total = results.stream().mapToLong(r -> r.duration().toMillis()).sum();
+        sb.append(total).append("ms [");
+        for (int i = 0; i < results.size(); i++) {
+            PhaseResult r = results.get(i);
+            sb.append(i == 0 ? "" : ", ")
+                    .append(r.name())
+                    .append('=')
+                    .append(r.duration().toMillis())
+                    .append("ms(")
+                    .append(r.count() < 0 ? "failed" : r.count())
+                    .append(')');
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.springadminv2.global.util;
+
+/**
+ * 한글 검색용 문자열 유틸.
+ * <p>
+ * 완성형 음절(가~힣)의 초성은 호환 자모(ㄱ~ㅎ)로 변환한다. 초성 검색은 검색어가 호환 자모 자음으로만 이루어졌을 때 적용한다.
+ */
+public final class HangulUtil {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    /** 초성 하나당 음절 수 (중성 21 × 종성 28) */
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 호환 자모 자음(ㄱ~ㅎ) 여부.
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다. 예: "메뉴 관리" → "ㅁㄴ ㄱㄹ"
+     */
+    public static String choseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = CHOSEONG[(chars[i] - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 비어 있지 않고 모든 문자가 호환 자모 자음이면 true.
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isConsonant(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
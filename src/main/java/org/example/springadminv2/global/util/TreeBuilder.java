@@ -0,0 +1,145 @@
+package org.example.springadminv2.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * flat 목록(id, parentId)을 트리로 변환하는 반복(iterative) O(n) 빌더.
+ * <p>
+ * 재귀와 노드별 stream을 쓰지 않으므로 깊은 트리에서도 StackOverflowError가 나지 않는다.
+ * 형제 순서는 입력 순서를 유지하며, 입력 목록 안에 부모가 없는 항목이 루트가 된다.
+ * 순환(priorMenuId가 서로를 가리키는 경우)에 걸려 루트에서 도달할 수 없는 항목은 버리지 않고 {@link Result#cycleIds()}로 보고한다.
+ */
+public final class TreeBuilder {
+
+    private static final int NONE = -1;
+
+    private TreeBuilder() {}
+
+    /**
+     * @param roots    루트 노드 목록
+     * @param cycleIds 순환에 포함되거나 순환 아래에 있어 트리에 포함되지 못한 항목 id (입력 순서)
+     */
+    public record Result<N>(List<N> roots, List<String> cycleIds) {
+
+        public boolean hasCycle() {
+            return !cycleIds.isEmpty();
+        }
+    }
+
+    /**
+     * @param items       flat 목록 (형제 순서대로 정렬되어 있어야 한다)
+     * @param idOf        항목 id 추출
+     * @param parentIdOf  부모 id 추출 (null 허용)
+     * @param nodeFactory 항목과 자식 노드 목록(자식이 없으면 빈 목록)으로 노드를 만든다
+     */
+    public static <T, N> Result<N> build(
+            List<T> items,
+            Function<? super T, String> idOf,
+            Function<? super T, String> parentIdOf,
+            BiFunction<? super T, List<N>, N> nodeFactory) {
+        int n = items.size();
+        Map<String, Integer> indexById = new HashMap<>(Math.max(16, (int) (n / 0.75f) + 1));
+        for (int i = 0; i < n; i++) {
+            indexById.putIfAbsent(idOf.apply(items.get(i)), i);
+        }
+
+        // 부모 포인터 + 부모별 자식 수
+        int[] parent = new int[n];
+        int[] childCount = new int[n];
+        int rootCount = 0;
+        for (int i = 0; i < n; i++) {
+            String parentId = parentIdOf.apply(items.get(i));
+            Integer p = parentId == null ? null : indexById.get(parentId);
+            if (p == null) {
+                parent[i] = NONE;
+                rootCount++;
+            } else {
+                parent[i] = p;
+                childCount[p]++;
+            }
+        }
+
+        // CSR(compressed sparse row) 형태의 자식 배열: children[childStart[p] .. childStart[p + 1])
+        int[] childStart = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            childStart[i + 1] = childStart[i] + childCount[i];
+        }
+        int[] children = new int[childStart[n]];
+        int[] fill = new int[n];
+        int[] roots = new int[rootCount];
+        int r = 0;
+        for (int i = 0; i < n; i++) {
+            int p = parent[i];
+            if (p == NONE) {
+                roots[r++] = i;
+            } else {
+                children[childStart[p] + fill[p]++] = i;
+            }
+        }
+
+        // 루트에서 전위 순회 → 부모가 항상 자식보다 앞에 오는 순서
+        int[] order = new int[n];
+        int visited = 0;
+        int[] stack = new int[n];
+        int top = 0;
+        for (int i = rootCount - 1; i >= 0; i--) {
+            stack[top++] = roots[i];
+        }
+        boolean[] reached = new boolean[n];
+        while (top > 0) {
+            int cur = stack[--top];
+            reached[cur] = true;
+            order[visited++] = cur;
+            for (int c = childStart[cur + 1] - 1; c >= childStart[cur]; c--) {
+                stack[top++] = children[c];
+            }
+        }
+
+        // 역순으로 처리하면 자식 노드가 부모보다 먼저 만들어진다
+        Object[] nodes = new Object[n];
+        for (int k = visited - 1; k >= 0; k--) {
+            int cur = order[k];
+            int from = childStart[cur];
+            int to = childStart[cur + 1];
+            List<N> childNodes;
+            if (from == to) {
+                childNodes = List.of();
+            } else {
+                List<N> list = new ArrayList<>(to - from);
+                for (int c = from; c < to; c++) {
+                    list.add(nodeAt(nodes, children[c]));
+                }
+                childNodes = Collections.unmodifiableList(list);
+            }
+            nodes[cur] = nodeFactory.apply(items.get(cur), childNodes);
+        }
+
+        List<N> rootNodes = new ArrayList<>(rootCount);
+        for (int root : roots) {
+            rootNodes.add(nodeAt(nodes, root));
+        }
+
+        List<String> cycleIds = List.of();
+        if (visited < n) {
+            List<String> unreached = new ArrayList<>(n - visited);
+            for (int i = 0; i < n; i++) {
+                if (!reached[i]) {
+                    unreached.add(idOf.apply(items.get(i)));
+                }
+            }
+            cycleIds = List.copyOf(unreached);
+        }
+        return new Result<>(Collections.unmodifiableList(rootNodes), cycleIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N> N nodeAt(Object[] nodes, int index) {
+        return (N) nodes[index];
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.springadminv2.global.web;
 
 import org.example.springadminv2.global.security.CustomUserDetails;
-import org.springframework.security.core.GrantedAuthority;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -19,6 +18,7 @@ public abstract class BaseViewController {
     /**
      * 특정 리소스에 대한 사용자의 접근 수준을 결정한다.
      * authorities에 "RESOURCE:W"가 있으면 "W", "RESOURCE:R"이 있으면 "R", 없으면 "NONE".
+     * 로그인 시 만든 리소스별 표를 조회하므로 권한 목록을 순회하지 않는다.
      * @param user 인증된 사용자
      * @param resource 리소스 코드
      * @return "W", "R", or "NONE"
@@ -27,11 +27,6 @@ public abstract class BaseViewController {
         if (user == null) {
             return "NONE";
         }
-        return user.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .filter(a -> a.startsWith(resource + ":"))
-                .map(a -> a.substring(a.indexOf(':') + 1))
-                .reduce((a, b) -> "W".equals(a) || "W".equals(b) ? "W" : "R")
-                .orElse("NONE");
+        return user.getAccessLevel(resource);
     }
 }
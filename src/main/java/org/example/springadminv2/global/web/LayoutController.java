@@ -3,16 +3,23 @@ package org.example.springadminv2.global.web;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
 import org.example.springadminv2.domain.menu.dto.UserMenuTreeNode;
+import org.example.springadminv2.domain.menu.service.MenuEventBroadcaster;
 import org.example.springadminv2.domain.menu.service.MenuService;
 import org.example.springadminv2.global.dto.ApiResponse;
 import org.example.springadminv2.global.security.CustomUserDetails;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class LayoutController {
 
     private final MenuService menuService;
+    private final MenuEventBroadcaster menuEventBroadcaster;
 
     /**
      * 메인 셸 진입.
@@ -42,10 +50,40 @@ public class LayoutController {
     /**
      * 메뉴 트리 API. 사이드바에서 호출 (새로고침용).
      * 사용자에게 권한이 있는 메뉴만 트리 구조로 반환한다.
+     * 트리 내용의 해시를 strong ETag로 내려주며, If-None-Match가 일치하면 본문 없이 304를 반환한다.
+     * 트리는 캐시에서 읽고 해시도 트리마다 한 번만 계산하므로 304 응답에도 DB 조회나 직렬화가 없다.
      */
     @GetMapping("/api/user-menus/tree")
     @ResponseBody
-    public ApiResponse<List<UserMenuTreeNode>> menuTree(@AuthenticationPrincipal CustomUserDetails user) {
-        return ApiResponse.success(menuService.getAuthorizedMenuTree(user.getUserId(), user.getRoleId()));
+    public ResponseEntity<ApiResponse<List<UserMenuTreeNode>>> menuTree(
+            @AuthenticationPrincipal CustomUserDetails user, WebRequest webRequest) {
+        List<UserMenuTreeNode> tree = menuService.getAuthorizedMenuTree(user.getUserId(), user.getRoleId());
+        String version = menuService.getAuthorizedMenuTreeVersion(tree);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(version).body(ApiResponse.success(tree));
+    }
+
+    /**
+     * 사이드바 메뉴 검색. 사용자에게 권한이 있는 메뉴 중 이름(영문 이름, 초성 포함)이 일치하는 메뉴를 반환한다.
+     */
+    @GetMapping("/api/user-menus/search")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<MenuSearchResult>>> searchMenus(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<UserMenuTreeNode> tree = menuService.getAuthorizedMenuTree(user.getUserId(), user.getRoleId());
+        return ResponseEntity.ok(ApiResponse.success(menuService.searchAuthorizedMenus(q, limit, tree)));
+    }
+
+    /**
+     * 메뉴/권한 변경 알림 스트림(SSE). 사이드바가 구독하며, menu-changed 이벤트를 받으면 메뉴 트리를 다시 조회한다.
+     */
+    @GetMapping(value = "/api/user-menus/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter menuEvents(@AuthenticationPrincipal CustomUserDetails user) {
+        return menuEventBroadcaster.subscribe(user.getUserId(), user.getRoleId());
     }
 }
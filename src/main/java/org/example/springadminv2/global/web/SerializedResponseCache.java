@@ -0,0 +1,156 @@
+package org.example.springadminv2.global.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.example.springadminv2.global.config.CacheNames;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 읽기 전용 API 응답 본문을 데이터 버전별로 직렬화해 보관하는 캐시.
+ * <p>
+ * 같은 (name, version)이면 Jackson 직렬화를 다시 하지 않고 UTF-8 JSON 바이트(또는 gzip 바이트)를 그대로 쓴다.
+ * version은 데이터가 바뀌면 반드시 달라지는 값(ETag와 같은 값)이어야 하며, 이전 버전 항목은 TTL/크기 제한으로 정리된다.
+ * gzip 표현은 별도 ETag({@code <version>-gzip})를 사용하므로 strong ETag 규칙을 지킨다.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final boolean gzipEnabled;
+
+    public SerializedResponseCache(
+            ObjectMapper objectMapper,
+            CacheManager cacheManager,
+            @Value("${web.serialized-response.gzip-enabled:true}") boolean gzipEnabled) {
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * @param json UTF-8 JSON 바이트
+     * @param gzip json의 gzip 압축본 (gzip 비활성화 시 null)
+     */
+    public record SerializedBody(byte[] json, byte[] gzip) {}
+
+    /**
+     * 조건부 GET을 포함한 200/304 응답을 만든다.
+     * If-None-Match가 일치하면 body를 만들지 않고 304를 반환하고(null 반환), 아니면 캐시된 바이트를 본문으로 쓴다.
+     *
+     * @param name    응답 종류 (예: "menuTree")
+     * @param version 데이터 버전
+     * @param body    캐시에 없을 때만 호출되는 응답 객체 공급자
+     */
+    public ResponseEntity<byte[]> respond(String name, String version, Supplier<?> body, WebRequest webRequest) {
+        boolean gzip = gzipEnabled && acceptsGzip(webRequest);
+        String etag = gzip ? version + "-" + GZIP : version;
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        SerializedBody serialized = get(name, version, body);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(serialized.gzip());
+        }
+        return builder.body(serialized.json());
+    }
+
+    /**
+     * (name, version)의 직렬화 결과를 반환한다. 없으면 body를 직렬화해 저장한다.
+     */
+    public SerializedBody get(String name, String version, Supplier<?> body) {
+        try {
+            return cache().get(name + ":" + version, () -> serialize(body.get()));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SerializedBody serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedBody(json, gzipEnabled ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorType.INTERNAL_ERROR, "response serialization", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new BaseException(ErrorType.INTERNAL_ERROR, "response gzip", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(WebRequest webRequest) {
+        return acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지. gzip 항목이 있으면 그 q 값을, 없으면 {@code *} 항목의 q 값을 따르며
+     * q=0은 거부다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQ = -1;
+        double wildcardQ = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP)) {
+                gzipQ = qValue(parts);
+            } else if (coding.equals("*")) {
+                wildcardQ = qValue(parts);
+            }
+        }
+        return gzipQ >= 0 ? gzipQ > 0 : wildcardQ > 0;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.SERIALIZED_RESPONSE);
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.springadminv2.global.web;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionIdListener;
+import jakarta.servlet.http.HttpSessionListener;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 살아 있는 HTTP 세션의 속성 크기를 주기적으로 재서 {@code web.session.size} 게이지로 노출한다.
+ * <p>
+ * 크기는 속성별 Java 직렬화 바이트 수의 합이다. 힙 사용량 그 자체는 아니지만 세션에 무엇이 얼마나 쌓이는지의 추정치로 쓴다.
+ * 여러 세션이 공유하는 객체(예: AuthorityGrants)도 세션마다 더해지므로 실제 힙보다 크게 나온다.
+ * 측정은 스케줄러 스레드에서만 하며 요청 경로에는 비용이 없다.
+ */
+@Slf4j
+@Component
+public class SessionSizeMonitor implements HttpSessionListener, HttpSessionIdListener {
+
+    private final Map<String, HttpSession> sessions = new ConcurrentHashMap<>();
+    private volatile Sample last = new Sample(0, 0L, 0L);
+
+    /**
+     * @param sessions 측정한 세션 수
+     * @param total    전체 세션 크기 (bytes)
+     * @param max      가장 큰 세션 크기 (bytes)
+     */
+    public record Sample(int sessions, long total, long max) {
+
+        public long average() {
+            return sessions == 0 ? 0L : total / sessions;
+        }
+    }
+
+    public SessionSizeMonitor(MeterRegistry meterRegistry) {
+        Gauge.builder("web.session.active", sessions, Map::size)
+                .description("Live HTTP sessions")
+                .register(meterRegistry);
+        gauge(meterRegistry, "total", () -> last.total());
+        gauge(meterRegistry, "max", () -> last.max());
+        gauge(meterRegistry, "average", () -> last.average());
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String stat, Supplier<Number> value) {
+        Gauge.builder("web.session.size", value)
+                .description("Serialized size of HTTP session attributes")
+                .baseUnit("bytes")
+                .tag("stat", stat)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        sessions.put(event.getSession().getId(), event.getSession());
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        sessions.remove(event.getSession().getId());
+    }
+
+    @Override
+    public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+        sessions.remove(oldSessionId);
+        sessions.put(event.getSession().getId(), event.getSession());
+    }
+
+    public Sample last() {
+        return last;
+    }
+
+    /**
+     * 모든 세션의 크기를 다시 잰다. 측정 중 무효화된 세션은 건너뛴다.
+     */
+    @Scheduled(
+            initialDelayString = "${web.session-size.sample-interval:60000}",
+            fixedDelayString = "${web.session-size.sample-interval:60000}")
+    public Sample sample() {
+        int count = 0;
+        long total = 0L;
+        long max = 0L;
+        for (HttpSession session : sessions.values()) {
+            long size;
+            try {
+                size = sizeOf(session);
+            } catch (IllegalStateException e) {
+                continue;
+            }
+            count++;
+            total += size;
+            max = Math.max(max, size);
+        }
+        Sample sample = new Sample(count, total, max);
+        last = sample;
+        return sample;
+    }
+
+    static long sizeOf(HttpSession session) {
+        long size = 0L;
+        for (String name : Collections.list(session.getAttributeNames())) {
+            size += sizeOf(name, session.getAttribute(name));
+        }
+        return size;
+    }
+
+    private static long sizeOf(String name, Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            log.debug("Session attribute not serializable: {} ({})", name, e.getMessage());
+            return 0L;
+        }
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.springadminv2.global.web;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAccessLevels;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thymeleaf에서 현재 사용자의 리소스 접근 수준을 조회하는 빈 ({@code sec:authorize} 대용).
+ * <p>
+ * 예: {@code th:if="${@access.canWrite('MENU')}"}, {@code th:attr="data-access=${@access.level('MENU')}"}
+ */
+@Component("access")
+public class ViewAccess {
+
+    public String level(String resource) {
+        return levels().level(resource);
+    }
+
+    public boolean canRead(String resource) {
+        return levels().canRead(resource);
+    }
+
+    public boolean canWrite(String resource) {
+        return levels().canWrite(resource);
+    }
+
+    private static ResourceAccessLevels levels() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getAccessLevels();
+        }
+        return ResourceAccessLevels.EMPTY;
+    }
+}
@@ -38,6 +38,9 @@
         return (window.SpiderI18n && SpiderI18n.t) ? SpiderI18n.t(key) : key;
     }
 
+    /** url → { etag, body } (getJsonConditional 용) */
+    const etagCache = new Map();
+
     /**
      * Fetch wrapper with CSRF, JSON handling, and auth redirect
      */
@@ -64,7 +67,7 @@
                 SpiderToast.error(t('common.forbidden'));
                 throw new Error('Forbidden');
             }
-            if (!resp.ok) {
+            if (!resp.ok && resp.status !== 304) {
                 const body = await resp.json().catch(() => ({}));
                 const msg = (body.error && body.error.message) || resp.statusText;
                 throw new Error(msg);
@@ -78,6 +81,30 @@
             return resp.json();
         },
 
+        /**
+         * ETag 기반 조건부 GET. 마지막 응답의 ETag를 If-None-Match로 보내고,
+         * 304이면 보관해 둔 JSON을 그대로 반환한다 (본문 전송 없음).
+         */
+        async getJsonConditional(url, params) {
+            const query = params ? '?' + new URLSearchParams(params).toString() : '';
+            const key = url + query;
+            const cached = etagCache.get(key);
+            const resp = await this.request(key, {
+                headers: cached ? { 'If-None-Match': cached.etag } : {},
+            });
+            if (resp.status === 304 && cached) {
+                return cached.body;
+            }
+            const body = await resp.json();
+            const etag = resp.headers.get('ETag');
+            if (etag) {
+                etagCache.set(key, { etag, body });
+            } else {
+                etagCache.delete(key);
+            }
+            return body;
+        },
+
         async postJson(url, data) {
             const resp = await this.request(url, {
                 method: 'POST',
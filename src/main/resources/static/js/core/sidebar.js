@@ -11,6 +11,8 @@
     const STORAGE_KEY_COLLAPSED = 'spider-sidebar-collapsed';
     const STORAGE_KEY_CATEGORIES = 'spider-sidebar-categories';
     const DEBOUNCE_MS = 200;
+    const REFRESH_DEBOUNCE_MS = 300;
+    const SEARCH_LIMIT = 100;
 
     // ── SVG Icon Map (viewBox="0 0 16 16", stroke, no fill) ──
     const ICON_MAP = {
@@ -151,15 +153,42 @@
         }));
     }
 
+    // ── Server-side menu search ──
+    function searchMenus(term) {
+        const query = term.trim();
+        if (!query) {
+            filterMenus('');
+            return;
+        }
+        api.getJson(((window.SpiderConfig && SpiderConfig.contextPath) || '') + '/api/user-menus/search',
+            { q: query, limit: SEARCH_LIMIT })
+            .then(function (resp) {
+                if (searchInput.value.trim() !== query) return; // stale response
+                const ids = new Set((resp.data || []).map(function (m) { return m.menuId; }));
+                filterMenus(query, ids);
+            })
+            .catch(function () {
+                filterMenus(query);
+            });
+    }
+
     // ── Search / filter (infinite depth) ──
-    function filterMenus(term) {
+    // matchedIds: server search result (name, English name, choseong). Falls back to text match when absent.
+    function filterMenus(term, matchedIds) {
         const normalizedTerm = term.toLowerCase().trim();
 
         // 1) Show/hide all leaf items
         const allItems = qsa('.menu-item', menuTreeEl);
         for (let i = 0; i < allItems.length; i++) {
-            const name = allItems[i].textContent.toLowerCase();
-            allItems[i].style.display = (!normalizedTerm || name.indexOf(normalizedTerm) !== -1) ? '' : 'none';
+            let matched;
+            if (!normalizedTerm) {
+                matched = true;
+            } else if (matchedIds) {
+                matched = matchedIds.has(allItems[i].getAttribute('data-menu-id'));
+            } else {
+                matched = allItems[i].textContent.toLowerCase().indexOf(normalizedTerm) !== -1;
+            }
+            allItems[i].style.display = matched ? '' : 'none';
         }
 
         // 2) Bottom-up: show/hide categories based on visible descendants
@@ -223,6 +252,21 @@
         if (expandIcon) expandIcon.style.display = collapsed ? '' : 'none';
     }
 
+    // ── Live menu updates (SSE) ──
+    function subscribeMenuEvents() {
+        if (!window.EventSource) return;
+        const url = ((window.SpiderConfig && SpiderConfig.contextPath) || '') + '/api/user-menus/events';
+        const source = new EventSource(url);
+        let refreshTimer = null;
+        // EventSource reconnects by itself; coalesce bursts of notices into one refresh
+        source.addEventListener('menu-changed', function () {
+            if (refreshTimer) clearTimeout(refreshTimer);
+            refreshTimer = setTimeout(function () {
+                SpiderSidebar.refresh();
+            }, REFRESH_DEBOUNCE_MS);
+        });
+    }
+
     // ── Public API ──
     window.SpiderSidebar = {
         /**
@@ -262,7 +306,7 @@
                 searchInput.addEventListener('input', function () {
                     if (debounceTimer) clearTimeout(debounceTimer);
                     debounceTimer = setTimeout(function () {
-                        filterMenus(searchInput.value);
+                        searchMenus(searchInput.value);
                     }, DEBOUNCE_MS);
                 });
             }
@@ -273,6 +317,8 @@
                     SpiderSidebar.toggle();
                 });
             }
+
+            subscribeMenuEvents();
         },
 
         /**
@@ -327,7 +373,7 @@
          * Re-fetch the menu tree from the server and re-render.
          */
         refresh: function () {
-            api.getJson(((window.SpiderConfig && SpiderConfig.contextPath) || '') + '/api/user-menus/tree')
+            api.getJsonConditional(((window.SpiderConfig && SpiderConfig.contextPath) || '') + '/api/user-menus/tree')
                 .then(function (resp) {
                     const tree = resp.data || [];
                     if (window.SpiderConfig) {
@@ -66,7 +66,7 @@
     // ── Functions ──
 
     function loadTree() {
-        api.getJson(API_BASE + '/tree')
+        api.getJsonConditional(API_BASE + '/tree')
             .then(function (resp) {
                 if (resp.success) {
                     allMenus = flattenTree(resp.data);
@@ -283,23 +283,35 @@
     }
 
     function handleDrop(dragNode, dropNode, position) {
-        if (!dragNode || !dropNode) return;
+        if (!dragNode || !dropNode || dragNode.menuId === dropNode.menuId) return;
 
-        const data = {
-            sortOrder: dropNode.sortOrder || 0,
-            priorMenuId: position === 'inside' ? dropNode.menuId : (dropNode.priorMenuId || 'ROOT')
-        };
+        const priorMenuId = position === 'inside' ? dropNode.menuId : (dropNode.priorMenuId || 'ROOT');
+
+        // Rebuild the sibling order under the target parent and send it in one request
+        const siblings = siblingsOf(priorMenuId).filter(function (m) { return m.menuId !== dragNode.menuId; });
+        let index = siblings.length;
+        if (position !== 'inside') {
+            index = siblings.findIndex(function (m) { return m.menuId === dropNode.menuId; });
+            if (position === 'after') index++;
+        }
+        siblings.splice(index, 0, dragNode);
+
+        const items = siblings.map(function (m, i) {
+            return { menuId: m.menuId, priorMenuId: priorMenuId, sortOrder: i + 1 };
+        });
 
-        api.request(API_BASE + '/' + dragNode.menuId + '/sort', {
+        api.request(API_BASE + '/sort', {
             method: 'PUT',
             headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify(data)
+            body: JSON.stringify({ items: items })
         }).then(function (r) { return r.json(); })
           .then(function (resp) {
               if (resp.success) {
                   loadTree();
               } else {
-                  SpiderToast.error(SpiderI18n.t('toast.saveFail'));
+                  const msg = (resp.error && resp.error.message) || SpiderI18n.t('toast.saveFail');
+                  SpiderToast.error(msg);
+                  loadTree(); // Reload to reset positions
               }
           })
           .catch(function (err) {
@@ -308,6 +320,14 @@
           });
     }
 
+    function siblingsOf(priorMenuId) {
+        if (priorMenuId === 'ROOT') {
+            return allMenus.filter(function (m) { return !m.priorMenuId || m.priorMenuId === 'ROOT'; });
+        }
+        const parent = allMenus.find(function (m) { return m.menuId === priorMenuId; });
+        return (parent && parent.children) ? parent.children.slice() : [];
+    }
+
     // Apply permission visibility
     SpiderPermission.apply(container, RESOURCE);
 
@@ -0,0 +1,78 @@
+package org.example.springadminv2.cache;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.example.springadminv2.global.cache.dto.CacheVersion;
+import org.example.springadminv2.global.cache.mapper.CacheVersionMapper;
+import org.example.springadminv2.testcontainer.OracleContainerConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.testcontainers.containers.OracleContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("docker")
+@DisplayName("CacheVersionMapper — Oracle 통합 테스트")
+class CacheVersionMapperOracleTest {
+
+    @Container
+    private static final OracleContainer ORACLE = OracleContainerConfig.ORACLE;
+
+    private static CacheVersionMapper mapper;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        DataSource ds = new SimpleDriverDataSource(
+                new oracle.jdbc.OracleDriver(), ORACLE.getJdbcUrl(), ORACLE.getUsername(), ORACLE.getPassword());
+
+        // DDL
+        try (var conn = ds.getConnection();
+                var stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE FWK_CACHE_VERSION ("
+                    + "CACHE_REGION VARCHAR2(40) NOT NULL, REGION_KEY VARCHAR2(100) NOT NULL,"
+                    + "VERSION NUMBER(19,0) NOT NULL, LAST_UPDATE_NODE VARCHAR2(40), LAST_UPDATE_DTIME VARCHAR2(14),"
+                    + "PRIMARY KEY (CACHE_REGION, REGION_KEY))");
+        }
+
+        // MyBatis
+        SqlSessionFactoryBean fb = new SqlSessionFactoryBean();
+        fb.setDataSource(ds);
+        fb.setMapperLocations(new PathMatchingResourcePatternResolver()
+                .getResources("classpath:mapper/oracle/cache/CacheVersionMapper.xml"));
+        org.apache.ibatis.session.Configuration config = new org.apache.ibatis.session.Configuration();
+        config.setMapUnderscoreToCamelCase(true);
+        fb.setConfiguration(config);
+        SqlSessionFactory sf = fb.getObject();
+
+        MapperFactoryBean<CacheVersionMapper> mfb = new MapperFactoryBean<>(CacheVersionMapper.class);
+        mfb.setSqlSessionFactory(sf);
+        mapper = mfb.getObject();
+    }
+
+    @Test
+    @DisplayName("bumpVersion — 없으면 1로 추가하고, 있으면 1 증가시키며 합계에 반영된다")
+    void bump_inserts_then_increments() {
+        long before = mapper.selectVersionSum();
+
+        mapper.bumpVersion("MENU", "SYS", "node-a", "20260101000000");
+        mapper.bumpVersion("MENU", "SYS", "node-b", "20260101000001");
+        mapper.bumpVersion("ROLE_MENU", "ADMIN", "node-a", "20260101000002");
+
+        assertThat(mapper.selectVersionSum()).isEqualTo(before + 3);
+        assertThat(mapper.selectVersions())
+                .filteredOn(v -> v.cacheRegion().equals("MENU") && v.regionKey().equals("SYS"))
+                .singleElement()
+                .extracting(CacheVersion::version, CacheVersion::lastUpdateNode)
+                .containsExactly(2L, "node-b");
+    }
+}
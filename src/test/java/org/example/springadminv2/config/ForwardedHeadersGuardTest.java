@@ -0,0 +1,37 @@
+package org.example.springadminv2.config;
+
+import org.example.springadminv2.global.config.ForwardedHeadersGuard;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ForwardedHeadersGuardTest {
+
+    @Test
+    @DisplayName("기본값 none이면 신뢰 프록시 설정 없이 기동한다")
+    void none_is_allowed() {
+        assertThatCode(() -> new ForwardedHeadersGuard("none", "")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("native는 internal-proxies를 명시했을 때만 허용한다")
+    void native_requires_internal_proxies() {
+        assertThatCode(() -> new ForwardedHeadersGuard("native", "10\\.1\\.0\\.5"))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> new ForwardedHeadersGuard("native", " "))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("보낸 쪽을 가리지 않는 framework 전략은 거부한다")
+    void framework_is_rejected() {
+        assertThatThrownBy(() -> new ForwardedHeadersGuard("framework", "10\\.1\\.0\\.5"))
+                .isInstanceOf(BaseException.class);
+    }
+}
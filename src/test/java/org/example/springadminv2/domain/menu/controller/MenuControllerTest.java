@@ -1,22 +1,34 @@
 package org.example.springadminv2.domain.menu.controller;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import org.example.springadminv2.domain.menu.dto.MenuBulkSortRequest;
+import org.example.springadminv2.domain.menu.dto.MenuCopyRequest;
 import org.example.springadminv2.domain.menu.dto.MenuCreateRequest;
 import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSortItem;
 import org.example.springadminv2.domain.menu.dto.MenuSortUpdateRequest;
+import org.example.springadminv2.domain.menu.dto.MenuTreeDelta;
 import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
 import org.example.springadminv2.domain.menu.dto.MenuUpdateRequest;
 import org.example.springadminv2.domain.menu.service.MenuService;
+import org.example.springadminv2.global.config.CacheConfig;
 import org.example.springadminv2.global.exception.BaseException;
 import org.example.springadminv2.global.exception.ErrorType;
 import org.example.springadminv2.global.exception.GlobalExceptionHandler;
 import org.example.springadminv2.global.log.listener.SecurityLogEventListener;
 import org.example.springadminv2.global.security.CustomUserDetails;
 import org.example.springadminv2.global.security.SecurityConfig;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.example.springadminv2.global.security.config.MenuResourcePermissionsReloader;
+import org.example.springadminv2.global.security.dto.MenuAuthorityChange;
 import org.example.springadminv2.global.security.handler.CustomAccessDeniedHandler;
 import org.example.springadminv2.global.security.handler.CustomAuthenticationEntryPoint;
+import org.example.springadminv2.global.web.SerializedResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,22 +40,29 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,10 +72,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     CustomAuthenticationEntryPoint.class,
     CustomAccessDeniedHandler.class,
     SecurityLogEventListener.class,
-    GlobalExceptionHandler.class
+    GlobalExceptionHandler.class,
+    CacheConfig.class,
+    SerializedResponseCache.class
 })
 class MenuControllerTest {
 
+    private static final ResourceAuthorityRegistry REGISTRY = new ResourceAuthorityRegistry();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -66,6 +89,9 @@ class MenuControllerTest {
     @MockBean
     private MenuService menuService;
 
+    @MockBean
+    private MenuResourcePermissionsReloader menuResourcePermissionsReloader;
+
     // ── 테스트 픽스처 ──────────────────────────────────────────
 
     private static CustomUserDetails mockUser(String... authorities) {
@@ -73,7 +99,7 @@ class MenuControllerTest {
         for (String a : authorities) {
             auths.add(new SimpleGrantedAuthority(a));
         }
-        return new CustomUserDetails("testuser", "password", "ROLE01", "1", 0, Set.copyOf(auths));
+        return new CustomUserDetails("testuser", "password", "ROLE01", "1", 0, REGISTRY.grants(Set.copyOf(auths)));
     }
 
     private static final CustomUserDetails RW_USER = mockUser("MENU:R", "MENU:W");
@@ -81,7 +107,7 @@ class MenuControllerTest {
 
     private static MenuResponse sampleMenu() {
         return new MenuResponse(
-                "MENU001", "ROOT", 1, "시스템관리", "/system", "icon-system", "Y", "Y", "20260226120000", "admin");
+                "MENU001", "ROOT", 1, "시스템관리", "/system", "icon-system", "Y", "Y", "20260226120000", "admin", null);
     }
 
     private static MenuTreeNode sampleTreeNode() {
@@ -112,6 +138,7 @@ class MenuControllerTest {
         @WithMockUser(authorities = {"MENU:R", "MENU:W"})
         void returns_menu_tree() throws Exception {
             // given
+            given(menuService.getMenuTreeVersion()).willReturn("tree-v1");
             given(menuService.getMenuTree()).willReturn(List.of(sampleTreeNode()));
 
             // when & then
@@ -122,6 +149,109 @@ class MenuControllerTest {
                     .andExpect(jsonPath("$.data[0].menuId").value("MENU001"))
                     .andExpect(jsonPath("$.data[0].children[0].menuId").value("MENU002"));
         }
+
+        @Test
+        @DisplayName("메뉴 데이터 버전을 strong ETag로 내려준다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void returns_etag() throws Exception {
+            // given
+            given(menuService.getMenuTreeVersion()).willReturn("abc123");
+            given(menuService.getMenuTree()).willReturn(List.of(sampleTreeNode()));
+
+            // when & then
+            mockMvc.perform(get("/api/menus/tree"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc123\""));
+        }
+
+        @Test
+        @DisplayName("같은 버전이면 직렬화된 본문을 재사용하여 트리를 다시 조회하지 않는다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void reuses_serialized_body_for_same_version() throws Exception {
+            // given
+            given(menuService.getMenuTreeVersion()).willReturn("tree-v2");
+            given(menuService.getMenuTree()).willReturn(List.of(sampleTreeNode()));
+
+            // when
+            mockMvc.perform(get("/api/menus/tree")).andExpect(status().isOk());
+            mockMvc.perform(get("/api/menus/tree"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].menuId").value("MENU001"));
+
+            // then
+            then(menuService).should(times(1)).getMenuTree();
+        }
+
+        @Test
+        @DisplayName("gzip을 허용하면 압축된 본문과 gzip 전용 ETag를 반환한다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void returns_gzip_body_with_distinct_etag() throws Exception {
+            // given
+            given(menuService.getMenuTreeVersion()).willReturn("tree-v3");
+            given(menuService.getMenuTree()).willReturn(List.of(sampleTreeNode()));
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/menus/tree").header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("ETag", "\"tree-v3-gzip\""))
+                    .andReturn();
+
+            // then
+            try (GZIPInputStream in = new GZIPInputStream(
+                    new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+                String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(json).contains("\"menuId\":\"MENU001\"");
+            }
+        }
+
+        @Test
+        @DisplayName("gzip;q=0이면 압축하지 않은 본문과 기본 ETag를 반환한다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void returns_plain_body_when_gzip_refused() throws Exception {
+            // given
+            given(menuService.getMenuTreeVersion()).willReturn("tree-v3");
+            given(menuService.getMenuTree()).willReturn(List.of(sampleTreeNode()));
+
+            // when & then
+            mockMvc.perform(get("/api/menus/tree").header("Accept-Encoding", "gzip;q=0, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(header().string("ETag", "\"tree-v3\""))
+                    .andExpect(jsonPath("$.data[0].menuId").value("MENU001"));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 버전과 같으면 트리를 조회하지 않고 304를 반환한다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void returns_not_modified_when_etag_matches() throws Exception {
+            // given
+            given(menuService.getMenuTreeVersion()).willReturn("abc123");
+
+            // when & then
+            mockMvc.perform(get("/api/menus/tree").header("If-None-Match", "\"abc123\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            then(menuService).should(never()).getMenuTree();
+        }
+
+        @Test
+        @DisplayName("since가 있으면 변경분을 반환한다")
+        @WithMockUser(authorities = {"MENU:R"})
+        void returns_delta_when_since_given() throws Exception {
+            // given
+            given(menuService.getMenuTreeDelta("a1.3"))
+                    .willReturn(MenuTreeDelta.changes("a1.5", List.of(sampleMenu()), List.of("OLD")));
+
+            // when & then
+            mockMvc.perform(get("/api/menus/tree").param("since", "a1.3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.version").value("a1.5"))
+                    .andExpect(jsonPath("$.data.full").value(false))
+                    .andExpect(jsonPath("$.data.upserted[0].menuId").value("MENU001"))
+                    .andExpect(jsonPath("$.data.deleted[0]").value("OLD"));
+            then(menuService).should(never()).getMenuTree();
+        }
     }
 
     // ── 메뉴 상세 조회 ─────────────────────────────────────────
@@ -297,6 +427,156 @@ class MenuControllerTest {
         }
     }
 
+    // ── 메뉴 순서 일괄 변경 ────────────────────────────────────
+
+    @Nested
+    @DisplayName("PUT /api/menus/sort - 메뉴 순서 일괄 변경")
+    class UpdateSortOrders {
+
+        @Test
+        @DisplayName("항목 목록을 받아 한 번에 변경하고 200을 반환한다")
+        void updates_sort_orders_returns_200() throws Exception {
+            // given
+            List<MenuSortItem> items =
+                    List.of(new MenuSortItem("MENU002", "SYS", 1), new MenuSortItem("MENU001", "SYS", 2));
+
+            // when & then
+            mockMvc.perform(put("/api/menus/sort")
+                            .with(user(RW_USER))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new MenuBulkSortRequest(items))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+
+            then(menuService).should().updateSortOrders(items, "testuser");
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 400을 반환한다")
+        void empty_items_returns_400() throws Exception {
+            // when & then
+            mockMvc.perform(put("/api/menus/sort")
+                            .with(user(RW_USER))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"items\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            then(menuService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("READ 권한만 보유 → 403")
+        void read_only_user_cannot_reorder() throws Exception {
+            // when & then
+            mockMvc.perform(put("/api/menus/sort")
+                            .with(user(READ_ONLY_USER))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"items\":[{\"menuId\":\"MENU001\",\"priorMenuId\":\"ROOT\",\"sortOrder\":1}]}"))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    // ── 하위 트리 작업 ─────────────────────────────────────────
+
+    @Nested
+    @DisplayName("하위 트리 삭제 / 복사 / 이동")
+    class SubtreeOperations {
+
+        @Test
+        @DisplayName("DELETE /{menuId}/subtree는 삭제된 메뉴 ID를 반환한다")
+        void delete_subtree_returns_deleted_ids() throws Exception {
+            // given
+            given(menuService.deleteSubtree("MENU001")).willReturn(List.of("MENU001", "MENU002"));
+
+            // when & then
+            mockMvc.perform(delete("/api/menus/MENU001/subtree")
+                            .with(user(RW_USER))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[1]").value("MENU002"));
+        }
+
+        @Test
+        @DisplayName("GET /{menuId}/ancestors는 closure 조회 결과를 반환한다")
+        void get_ancestors() throws Exception {
+            // given
+            given(menuService.getAncestorIds("MENU002")).willReturn(List.of("MENU001"));
+
+            // when & then
+            mockMvc.perform(get("/api/menus/MENU002/ancestors").with(user(READ_ONLY_USER)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0]").value("MENU001"));
+        }
+
+        @Test
+        @DisplayName("POST /{menuId}/copy는 201과 복사된 메뉴 ID를 반환한다")
+        void copy_subtree_returns_201() throws Exception {
+            // given
+            MenuCopyRequest request = new MenuCopyRequest("ROOT", "MENU", "COPY");
+            given(menuService.copySubtree(eq("MENU001"), eq(request), anyString()))
+                    .willReturn(List.of("COPY001", "COPY002"));
+
+            // when & then
+            mockMvc.perform(post("/api/menus/MENU001/copy")
+                            .with(user(RW_USER))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data[0]").value("COPY001"));
+        }
+
+        @Test
+        @DisplayName("PUT /{menuId}/move는 sortOrder 없이도 200을 반환한다")
+        void move_subtree_returns_200() throws Exception {
+            // when & then
+            mockMvc.perform(put("/api/menus/MENU002/move")
+                            .with(user(RW_USER))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"priorMenuId\":\"ROOT\"}"))
+                    .andExpect(status().isOk());
+
+            then(menuService).should().moveSubtree("MENU002", "ROOT", null, "testuser");
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/menus/resource-permissions/reload - 리소스 권한 매핑 재적재")
+    class ReloadResourcePermissions {
+
+        @Test
+        @DisplayName("메뉴별 변경 권한 목록을 반환한다")
+        void returns_changes() throws Exception {
+            // given
+            given(menuResourcePermissionsReloader.reload())
+                    .willReturn(List.of(new MenuAuthorityChange("MENU001", "R", List.of("CODE:R"), List.of())));
+
+            // when & then
+            mockMvc.perform(post("/api/menus/resource-permissions/reload")
+                            .with(user(RW_USER))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].menuId").value("MENU001"))
+                    .andExpect(jsonPath("$.data[0].added[0]").value("CODE:R"));
+        }
+
+        @Test
+        @DisplayName("READ 권한만 보유 → 403")
+        void read_only_user_forbidden() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/menus/resource-permissions/reload")
+                            .with(user(READ_ONLY_USER))
+                            .with(csrf()))
+                    .andExpect(status().isForbidden());
+
+            then(menuResourcePermissionsReloader).should(never()).reload();
+        }
+    }
+
     // ── 권한 검증 ──────────────────────────────────────────────
 
     @Nested
@@ -0,0 +1,141 @@
+package org.example.springadminv2.domain.menu.mapper;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.example.springadminv2.testcontainer.OracleContainerConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.testcontainers.containers.OracleContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("docker")
+@DisplayName("MenuClosureMapper — Oracle 통합 테스트")
+class MenuClosureMapperOracleTest {
+
+    @Container
+    private static final OracleContainer ORACLE = OracleContainerConfig.ORACLE;
+
+    private static MenuClosureMapper mapper;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        DataSource ds = new SimpleDriverDataSource(
+                new oracle.jdbc.OracleDriver(), ORACLE.getJdbcUrl(), ORACLE.getUsername(), ORACLE.getPassword());
+
+        // DDL
+        try (var conn = ds.getConnection();
+                var stmt = conn.createStatement()) {
+            executeSafe(
+                    stmt,
+                    "CREATE TABLE FWK_MENU_CLOSURE ("
+                            + "ANCESTOR_ID VARCHAR2(40) NOT NULL, DESCENDANT_ID VARCHAR2(40) NOT NULL,"
+                            + "DEPTH NUMBER(3,0) NOT NULL, PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID))");
+        }
+
+        // MyBatis
+        SqlSessionFactoryBean fb = new SqlSessionFactoryBean();
+        fb.setDataSource(ds);
+        fb.setMapperLocations(new PathMatchingResourcePatternResolver()
+                .getResources("classpath:mapper/oracle/menu/MenuClosureMapper.xml"));
+        org.apache.ibatis.session.Configuration config = new org.apache.ibatis.session.Configuration();
+        config.setMapUnderscoreToCamelCase(true);
+        fb.setConfiguration(config);
+        SqlSessionFactory sf = fb.getObject();
+
+        MapperFactoryBean<MenuClosureMapper> mfb = new MapperFactoryBean<>(MenuClosureMapper.class);
+        mfb.setSqlSessionFactory(sf);
+        mapper = mfb.getObject();
+    }
+
+    private static void executeSafe(java.sql.Statement stmt, String sql) {
+        try {
+            stmt.execute(sql);
+        } catch (java.sql.SQLException e) {
+            if (!e.getMessage().contains("already exists") && !e.getMessage().contains("ORA-00955")) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        mapper.deleteAllLinks();
+        // SYS ─ MENU ─ LOG, MON (ROOT은 FWK_MENU 행이 없으므로 연결도 없다)
+        mapper.insertMenuLinks("SYS", "ROOT");
+        mapper.insertMenuLinks("MENU", "SYS");
+        mapper.insertMenuLinks("LOG", "MENU");
+        mapper.insertMenuLinks("MON", "ROOT");
+    }
+
+    @Test
+    @DisplayName("insertMenuLinks — 조상은 최상위부터, 자손은 가까운 깊이부터 조회된다")
+    void insert_and_select_links() {
+        assertThat(mapper.selectAncestorIds("LOG")).containsExactly("SYS", "MENU");
+        assertThat(mapper.selectDescendantIds("SYS")).containsExactly("MENU", "LOG");
+        assertThat(mapper.selectAncestorIds("SYS")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("detachSubtree + attachSubtree — 하위 트리째 새 상위 메뉴 아래로 옮긴다")
+    void move_subtree() {
+        mapper.detachSubtree("MENU");
+        mapper.attachSubtree("MENU", "MON");
+
+        assertThat(mapper.selectAncestorIds("LOG")).containsExactly("MON", "MENU");
+        assertThat(mapper.selectDescendantIds("MON")).containsExactly("MENU", "LOG");
+        assertThat(mapper.selectDescendantIds("SYS")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("attachSubtree — 자기 하위 메뉴 아래로는 연결하지 않는다")
+    void attach_into_own_subtree_is_ignored() {
+        mapper.detachSubtree("SYS");
+        mapper.attachSubtree("SYS", "LOG");
+
+        assertThat(mapper.selectAncestorIds("SYS")).isEmpty();
+        assertThat(mapper.selectAncestorIds("LOG")).containsExactly("SYS", "MENU");
+    }
+
+    @Test
+    @DisplayName("copySubtreeLinks — ID prefix를 바꿔 하위 트리 연결을 복사하고 대상 상위 메뉴에 붙인다")
+    void copy_subtree_links() {
+        mapper.copySubtreeLinks("SYS", "MON", "SYS", "OPS");
+
+        assertThat(mapper.selectAncestorIds("OPSLOG")).containsExactly("MON", "OPS", "OPSMENU");
+        assertThat(mapper.selectDescendantIds("OPS")).containsExactly("OPSMENU", "OPSLOG");
+        assertThat(mapper.selectDescendantIds("SYS")).containsExactly("MENU", "LOG");
+    }
+
+    @Test
+    @DisplayName("deleteLinks — 지정한 메뉴들의 연결을 모두 지운다")
+    void delete_links() {
+        mapper.deleteLinks(List.of("MENU", "LOG"));
+
+        assertThat(mapper.selectDescendantIds("SYS")).isEmpty();
+        assertThat(mapper.selectAncestorIds("LOG")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("insertLink — 재구성용 단건 연결을 추가한다")
+    void insert_link() {
+        mapper.deleteAllLinks();
+        mapper.insertLink("SYS", "SYS", 0);
+        mapper.insertLink("SYS", "MENU", 1);
+        mapper.insertLink("MENU", "MENU", 0);
+
+        assertThat(mapper.selectAncestorIds("MENU")).containsExactly("SYS");
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.springadminv2.domain.menu.mapper;
+
+import java.util.List;
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.UserMenuRow;
+import org.example.springadminv2.domain.menu.service.MenuIndex;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.testcontainer.MySqlContainerConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("docker")
+@DisplayName("MenuMapper — MySQL 통합 테스트")
+class MenuMapperMySqlTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = MySqlContainerConfig.MYSQL;
+
+    private static MenuMapper mapper;
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        DataSource ds = new SimpleDriverDataSource(
+                new com.mysql.cj.jdbc.Driver(), MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbc = new JdbcTemplate(ds);
+
+        // DDL
+        jdbc.execute("CREATE TABLE IF NOT EXISTS FWK_MENU ("
+                + "MENU_ID VARCHAR(40) PRIMARY KEY, PRIOR_MENU_ID VARCHAR(40) NOT NULL,"
+                + "SORT_ORDER DECIMAL(3,0) DEFAULT 0 NOT NULL, MENU_NAME VARCHAR(100) NOT NULL,"
+                + "MENU_URL VARCHAR(200), MENU_IMAGE VARCHAR(50),"
+                + "DISPLAY_YN VARCHAR(1) DEFAULT 'Y' NOT NULL, USE_YN VARCHAR(1) DEFAULT 'Y' NOT NULL,"
+                + "LAST_UPDATE_DTIME VARCHAR(14) NOT NULL, LAST_UPDATE_USER_ID VARCHAR(20),"
+                + "WEB_APP_ID VARCHAR(70), MENU_ENG_NAME VARCHAR(200))");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS FWK_ROLE_MENU ("
+                + "ROLE_ID VARCHAR(10), MENU_ID VARCHAR(40), AUTH_CODE VARCHAR(1) NOT NULL,"
+                + "PRIMARY KEY (ROLE_ID, MENU_ID))");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS FWK_USER_MENU ("
+                + "USER_ID VARCHAR(20), MENU_ID VARCHAR(40), AUTH_CODE VARCHAR(1) NOT NULL,"
+                + "LAST_UPDATE_DTIME VARCHAR(14) NOT NULL, LAST_UPDATE_USER_ID VARCHAR(20) NOT NULL,"
+                + "FAVOR_MENU_ORDER DECIMAL(3,0) DEFAULT 0 NOT NULL,"
+                + "PRIMARY KEY (USER_ID, MENU_ID))");
+
+        // MyBatis
+        SqlSessionFactoryBean fb = new SqlSessionFactoryBean();
+        fb.setDataSource(ds);
+        fb.setMapperLocations(
+                new PathMatchingResourcePatternResolver().getResources("classpath:mapper/mysql/menu/MenuMapper.xml"));
+        org.apache.ibatis.session.Configuration config = new org.apache.ibatis.session.Configuration();
+        config.setMapUnderscoreToCamelCase(true);
+        fb.setConfiguration(config);
+        SqlSessionFactory sf = fb.getObject();
+
+        MapperFactoryBean<MenuMapper> mfb = new MapperFactoryBean<>(MenuMapper.class);
+        mfb.setSqlSessionFactory(sf);
+        mapper = mfb.getObject();
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbc.execute("DELETE FROM FWK_MENU");
+        jdbc.execute("DELETE FROM FWK_ROLE_MENU");
+        jdbc.execute("DELETE FROM FWK_USER_MENU");
+        // SYS(폴더, URL 없음) ─ SYS_MENU ─ SYS_MENU_LOG, MON
+        insertMenu("SYS", "ROOT", 1, null);
+        insertMenu("SYS_MENU", "SYS", 1, "/sys/menus");
+        insertMenu("SYS_MENU_LOG", "SYS_MENU", 2, "/sys/menus/logs");
+        insertMenu("MON", "ROOT", 2, "/mon");
+        for (String menuId : List.of("SYS_MENU", "MON")) {
+            jdbc.update("INSERT INTO FWK_ROLE_MENU (ROLE_ID, MENU_ID, AUTH_CODE) VALUES ('ADMIN', ?, 'W')", menuId);
+        }
+        for (String menuId : List.of("SYS_MENU_LOG", "MON")) {
+            jdbc.update(
+                    "INSERT INTO FWK_USER_MENU (USER_ID, MENU_ID, AUTH_CODE, LAST_UPDATE_DTIME, LAST_UPDATE_USER_ID)"
+                            + " VALUES ('user1', ?, 'R', '20260226120000', 'admin')",
+                    menuId);
+        }
+    }
+
+    private static void insertMenu(String menuId, String priorMenuId, int sortOrder, String menuUrl) {
+        insertMenu(menuId, priorMenuId, sortOrder, menuUrl, "Y", "N");
+    }
+
+    private static void insertMenu(
+            String menuId, String priorMenuId, int sortOrder, String menuUrl, String useYn, String displayYn) {
+        jdbc.update(
+                "INSERT INTO FWK_MENU (MENU_ID, PRIOR_MENU_ID, SORT_ORDER, MENU_NAME, MENU_URL, MENU_IMAGE,"
+                        + " DISPLAY_YN, USE_YN, LAST_UPDATE_DTIME, LAST_UPDATE_USER_ID, WEB_APP_ID, MENU_ENG_NAME)"
+                        + " VALUES (?, ?, ?, ?, ?, 'icon', ?, ?, '20260226120000', 'admin', 'web', ?)",
+                menuId,
+                priorMenuId,
+                sortOrder,
+                menuId + " 메뉴",
+                menuUrl,
+                displayYn,
+                useYn,
+                menuId + " Menu");
+    }
+
+    @Test
+    @DisplayName("copyMenus — ID prefix를 바꾸고 루트만 대상 상위 메뉴의 지정 순서로 붙이며 나머지 컬럼은 그대로 복사한다")
+    void copy_menus() {
+        mapper.copyMenus(
+                List.of("SYS_MENU", "SYS_MENU_LOG"), "SYS_MENU", "MON", 3, "SYS", "OPS", "copier", "20261018090000");
+
+        MenuResponse root = mapper.selectMenuById("OPS_MENU");
+        assertThat(root.priorMenuId()).isEqualTo("MON");
+        assertThat(root.sortOrder()).isEqualTo(3);
+        assertThat(root.menuUrl()).isEqualTo("/sys/menus");
+        assertThat(root.menuName()).isEqualTo("SYS_MENU 메뉴");
+        assertThat(root.menuImage()).isEqualTo("icon");
+        assertThat(root.displayYn()).isEqualTo("N");
+        assertThat(root.menuEngName()).isEqualTo("SYS_MENU Menu");
+        assertThat(root.lastUpdateUserId()).isEqualTo("copier");
+        assertThat(root.lastUpdateDtime()).isEqualTo("20261018090000");
+
+        MenuResponse child = mapper.selectMenuById("OPS_MENU_LOG");
+        assertThat(child.priorMenuId()).isEqualTo("OPS_MENU");
+        assertThat(child.sortOrder()).isEqualTo(2);
+        assertThat(child.menuUrl()).isEqualTo("/sys/menus/logs");
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM FWK_ROLE_MENU WHERE MENU_ID LIKE 'OPS%'", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("copyMenus — prefix가 맞지 않는 ID는 toPrefix를 앞에 붙인다")
+    void copy_menus_prepends_prefix() {
+        mapper.copyMenus(List.of("MON"), "MON", "SYS", 2, "SYS", "COPY_", "copier", "20261018090000");
+
+        MenuResponse copied = mapper.selectMenuById("COPY_MON");
+        assertThat(copied.priorMenuId()).isEqualTo("SYS");
+        assertThat(copied.menuUrl()).isEqualTo("/mon");
+    }
+
+    @Test
+    @DisplayName("copyMenus — URL이 없는 폴더 메뉴는 복사본도 URL이 없다")
+    void copy_folder_menu() {
+        mapper.copyMenus(
+                List.of("SYS", "SYS_MENU", "SYS_MENU_LOG"), "SYS", "ROOT", 3, "SYS", "OPS", "copier", "20261018090000");
+
+        assertThat(mapper.selectMenuById("OPS").menuUrl()).isNull();
+        assertThat(mapper.selectMenuById("OPS_MENU").priorMenuId()).isEqualTo("OPS");
+        assertThat(mapper.selectMenuById("OPS_MENU").menuUrl()).isEqualTo("/sys/menus");
+    }
+
+    @Test
+    @DisplayName("deleteMenus / deleteRoleMenusByMenuIds / deleteUserMenusByMenuIds — 하위 트리의 메뉴와 권한만 지운다")
+    void delete_subtree() {
+        List<String> subtree = List.of("SYS_MENU", "SYS_MENU_LOG");
+
+        mapper.deleteRoleMenusByMenuIds(subtree);
+        mapper.deleteUserMenusByMenuIds(subtree);
+        mapper.deleteMenus(subtree);
+
+        assertThat(mapper.selectAllMenus()).extracting(MenuResponse::menuId).containsExactly("SYS", "MON");
+        assertThat(jdbc.queryForList("SELECT MENU_ID FROM FWK_ROLE_MENU", String.class))
+                .containsExactly("MON");
+        assertThat(jdbc.queryForList("SELECT MENU_ID FROM FWK_USER_MENU", String.class))
+                .containsExactly("MON");
+    }
+
+    @Test
+    @DisplayName("selectRoleMenuTree / selectUserMenuTree — 숨긴 중간 조상에서 멈추며 INDEX 전략(MenuIndex)과 같은 행을 반환한다")
+    void authorized_menu_tree_matches_index_strategy() {
+        // TOP ─ MID(숨김) ─ LEAF(R), TOP ─ VIS(W), TOP ─ OFF(사용 안 함, W)
+        insertMenu("TOP", "ROOT", 10, "/top", "Y", "Y");
+        insertMenu("MID", "TOP", 11, "/top/mid", "Y", "N");
+        insertMenu("LEAF", "MID", 12, "/top/mid/leaf", "Y", "Y");
+        insertMenu("VIS", "TOP", 13, "/top/vis", "Y", "Y");
+        insertMenu("OFF", "TOP", 14, "/top/off", "N", "Y");
+        List<MenuPermission> permissions = List.of(
+                new MenuPermission("LEAF", "R"), new MenuPermission("VIS", "W"), new MenuPermission("OFF", "W"));
+        for (MenuPermission permission : permissions) {
+            jdbc.update(
+                    "INSERT INTO FWK_ROLE_MENU (ROLE_ID, MENU_ID, AUTH_CODE) VALUES ('VIEWER', ?, ?)",
+                    permission.menuId(),
+                    permission.authCode());
+            jdbc.update(
+                    "INSERT INTO FWK_USER_MENU (USER_ID, MENU_ID, AUTH_CODE, LAST_UPDATE_DTIME, LAST_UPDATE_USER_ID)"
+                            + " VALUES ('viewer', ?, ?, '20260226120000', 'admin')",
+                    permission.menuId(),
+                    permission.authCode());
+        }
+
+        List<UserMenuRow> query = mapper.selectRoleMenuTree("VIEWER");
+        List<UserMenuRow> index = MenuIndex.of(mapper.selectAllMenus()).authorizedRows(permissions);
+
+        assertThat(query).extracting(UserMenuRow::menuId).containsExactly("TOP", "LEAF", "VIS");
+        assertThat(query).extracting(UserMenuRow::authCode).containsExactly(null, "R", "W");
+        assertThat(index).isEqualTo(query);
+        assertThat(mapper.selectUserMenuTree("viewer")).isEqualTo(query);
+    }
+}
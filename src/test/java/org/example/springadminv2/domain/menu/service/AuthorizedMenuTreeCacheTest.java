@@ -0,0 +1,190 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+
+import org.example.springadminv2.domain.menu.dto.UserMenuRow;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuClosureMapper;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.example.springadminv2.global.config.CacheConfig;
+import org.example.springadminv2.global.config.CacheNames;
+import org.example.springadminv2.global.security.config.SecurityAccessProperties;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@SpringJUnitConfig({
+    CacheConfig.class,
+    MenuService.class,
+    MenuTreeCache.class,
+    MenuSearchIndex.class,
+    AuthorizedMenuTreeKeyGenerator.class,
+    AuthorizedMenuTreeCacheEvictor.class
+})
+class AuthorizedMenuTreeCacheTest {
+
+    @MockBean
+    MenuMapper menuMapper;
+
+    @MockBean
+    MenuClosureMapper menuClosureMapper;
+
+    @MockBean
+    BatchSqlSession batchSqlSession;
+
+    @MockBean
+    AuthorityMapper authorityMapper;
+
+    @MockBean
+    SecurityAccessProperties securityAccessProperties;
+
+    @Autowired
+    MenuService menuService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private final List<UserMenuRow> rows = List.of(new UserMenuRow("SYS", "ROOT", 1, "시스템관리", null, null, null));
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheNames.AUTHORIZED_MENU_TREE).clear();
+    }
+
+    private CacheStats stats() {
+        return ((CaffeineCache) cacheManager.getCache(CacheNames.AUTHORIZED_MENU_TREE))
+                .getNativeCache()
+                .stats();
+    }
+
+    @Nested
+    @DisplayName("ROLE_MENU 모드")
+    class RoleMenuMode {
+
+        @BeforeEach
+        void setUp() {
+            given(securityAccessProperties.getAuthoritySource()).willReturn("ROLE_MENU");
+            given(menuMapper.selectRoleMenuTree("ROLE01")).willReturn(rows);
+        }
+
+        @Test
+        @DisplayName("같은 역할의 사용자는 캐시된 트리를 공유한다")
+        void shares_tree_by_role() {
+            // given
+            long hitsBefore = stats().hitCount();
+
+            // when
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+            menuService.getAuthorizedMenuTree("user2", "ROLE01");
+
+            // then
+            then(menuMapper).should(times(1)).selectRoleMenuTree("ROLE01");
+            assertThat(stats().hitCount() - hitsBefore).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("역할 권한 변경 이벤트는 해당 역할 키만 무효화한다")
+        void role_permission_change_evicts_role_key() {
+            // given
+            given(menuMapper.selectRoleMenuTree("ROLE02")).willReturn(rows);
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+            menuService.getAuthorizedMenuTree("user2", "ROLE02");
+
+            // when
+            eventPublisher.publishEvent(MenuPermissionChangedEvent.ofRoles("ROLE01"));
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+            menuService.getAuthorizedMenuTree("user2", "ROLE02");
+
+            // then
+            then(menuMapper).should(times(2)).selectRoleMenuTree("ROLE01");
+            then(menuMapper).should(times(1)).selectRoleMenuTree("ROLE02");
+        }
+
+        @Test
+        @DisplayName("트리 버전(ETag)은 트리 내용의 해시라 내용이 바뀔 때만 바뀐다")
+        void version_is_hash_of_tree() {
+            // given
+            given(menuMapper.selectRoleMenuTree("ROLE02")).willReturn(rows);
+            String role01Before =
+                    menuService.getAuthorizedMenuTreeVersion(menuService.getAuthorizedMenuTree("user1", "ROLE01"));
+            String role02 =
+                    menuService.getAuthorizedMenuTreeVersion(menuService.getAuthorizedMenuTree("user2", "ROLE02"));
+            given(menuMapper.selectRoleMenuTree("ROLE01"))
+                    .willReturn(List.of(new UserMenuRow("SYS", "ROOT", 1, "시스템관리", null, null, "W")));
+
+            // when
+            eventPublisher.publishEvent(MenuPermissionChangedEvent.ofRoles("ROLE01", "ROLE02"));
+            String role01After =
+                    menuService.getAuthorizedMenuTreeVersion(menuService.getAuthorizedMenuTree("user1", "ROLE01"));
+            String role02After =
+                    menuService.getAuthorizedMenuTreeVersion(menuService.getAuthorizedMenuTree("user2", "ROLE02"));
+
+            // then
+            assertThat(role02).isEqualTo(role01Before);
+            assertThat(role01After).isNotEqualTo(role01Before);
+            assertThat(role02After).isEqualTo(role02);
+        }
+
+        @Test
+        @DisplayName("메뉴 변경 이벤트는 캐시 전체를 무효화한다")
+        void menu_change_clears_all() {
+            // given
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+
+            // when
+            eventPublisher.publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "SYS"));
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+
+            // then
+            then(menuMapper).should(times(2)).selectRoleMenuTree("ROLE01");
+        }
+    }
+
+    @Nested
+    @DisplayName("USER_MENU 모드")
+    class UserMenuMode {
+
+        @BeforeEach
+        void setUp() {
+            given(securityAccessProperties.getAuthoritySource()).willReturn("USER_MENU");
+            given(menuMapper.selectUserMenuTree("user1")).willReturn(rows);
+        }
+
+        @Test
+        @DisplayName("사용자별로 캐시하고 사용자 권한 변경 이벤트로 무효화한다")
+        void caches_by_user_and_evicts_on_user_permission_change() {
+            // given
+            long missesBefore = stats().missCount();
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+
+            // when
+            eventPublisher.publishEvent(MenuPermissionChangedEvent.ofUsers("user1"));
+            menuService.getAuthorizedMenuTree("user1", "ROLE01");
+
+            // then
+            then(menuMapper).should(times(2)).selectUserMenuTree("user1");
+            assertThat(stats().missCount() - missesBefore).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.cache.CacheInvalidationBus;
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCacheInvalidationRelayTest {
+
+    @Mock
+    CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    MenuCacheInvalidationRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Nested
+    @DisplayName("보내기")
+    class Outbound {
+
+        @Test
+        @DisplayName("트랜잭션 안의 메뉴 변경은 menuId별로 MENU 영역 버전을 올린다")
+        void records_menu_ids_in_transaction() {
+            // given
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+
+            // when
+            relay.onMenuChanged(new MenuChangedEvent(MenuChangedEvent.Type.DELETED, List.of("A", "B")));
+
+            // then
+            then(cacheInvalidationBus).should().publish("MENU", "A");
+            then(cacheInvalidationBus).should().publish("MENU", "B");
+        }
+
+        @Test
+        @DisplayName("범위 전체 권한 변경은 * 키로 기록한다")
+        void records_all_keys() {
+            // given
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+
+            // when
+            relay.onMenuPermissionChanged(MenuPermissionChangedEvent.ofUsers());
+
+            // then
+            then(cacheInvalidationBus).should().publish("USER_MENU", CacheInvalidationBus.ALL_KEYS);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖(다른 노드에서 받은 이벤트)은 다시 기록하지 않는다")
+        void ignores_events_outside_transaction() {
+            // when
+            relay.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "A"));
+            relay.onMenuPermissionChanged(MenuPermissionChangedEvent.ofRoles("ADMIN"));
+
+            // then
+            then(cacheInvalidationBus).should(never()).publish(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("받기")
+    class Inbound {
+
+        @Test
+        @DisplayName("MENU 영역 변경은 MenuChangedEvent로 다시 발행한다")
+        void republishes_menu_change() {
+            // when
+            relay.onRemoteInvalidation(new CacheRegionInvalidatedEvent("MENU", List.of("A", "B")));
+
+            // then
+            then(eventPublisher)
+                    .should()
+                    .publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.UPDATED, List.of("A", "B")));
+        }
+
+        @Test
+        @DisplayName("역할 영역 변경은 역할 권한 이벤트로, * 키는 전체 변경으로 다시 발행한다")
+        void republishes_permission_change() {
+            // when
+            relay.onRemoteInvalidation(new CacheRegionInvalidatedEvent("ROLE_MENU", List.of("ADMIN")));
+            relay.onRemoteInvalidation(new CacheRegionInvalidatedEvent("USER_MENU", List.of("u1", "*")));
+
+            // then
+            then(eventPublisher).should().publishEvent(MenuPermissionChangedEvent.ofRoles("ADMIN"));
+            then(eventPublisher).should().publishEvent(MenuPermissionChangedEvent.ofUsers());
+        }
+
+        @Test
+        @DisplayName("메뉴와 무관한 영역은 무시한다")
+        void ignores_other_regions() {
+            // when
+            relay.onRemoteInvalidation(new CacheRegionInvalidatedEvent("CODE", List.of("G1")));
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.UserMenuRow;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuIndexTest {
+
+    private MenuResponse menu(String menuId, String priorMenuId, String useYn, String displayYn) {
+        return new MenuResponse(menuId, priorMenuId, 1, menuId, null, null, displayYn, useYn, null, null, null);
+    }
+
+    private MenuResponse menu(String menuId, String priorMenuId) {
+        return menu(menuId, priorMenuId, "Y", "Y");
+    }
+
+    @Nested
+    @DisplayName("subtreeOf")
+    class SubtreeOf {
+
+        @Test
+        @DisplayName("메뉴와 하위 메뉴 전체를 전위 순서로 반환한다")
+        void returns_subtree_in_pre_order() {
+            // given
+            MenuIndex index = MenuIndex.of(List.of(
+                    menu("SYS", "ROOT"),
+                    menu("MENU", "SYS"),
+                    menu("MON", "ROOT"),
+                    menu("ROLE", "SYS"),
+                    menu("MENU_SUB", "MENU")));
+
+            // when & then
+            assertThat(index.subtreeOf("SYS")).containsExactly("SYS", "MENU", "MENU_SUB", "ROLE");
+            assertThat(index.subtreeOf("MON")).containsExactly("MON");
+            assertThat(index.subtreeOf("NOPE")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("순환이 있어도 각 메뉴를 한 번만 반환한다")
+        void terminates_on_cycle() {
+            // given
+            MenuIndex index = MenuIndex.of(List.of(menu("A", "B"), menu("B", "A")));
+
+            // when & then
+            assertThat(index.subtreeOf("A")).containsExactly("A", "B");
+        }
+    }
+
+    @Nested
+    @DisplayName("authorizedRows")
+    class AuthorizedRows {
+
+        @Test
+        @DisplayName("권한 메뉴와 그 조상을 메뉴 순서대로 반환하고, 조상의 authCode는 null이다")
+        void includes_ancestors_in_menu_order() {
+            // given
+            MenuIndex index = MenuIndex.of(
+                    List.of(menu("SYS", "ROOT"), menu("MENU", "SYS"), menu("ROLE", "SYS"), menu("MON", "ROOT")));
+
+            // when
+            List<UserMenuRow> rows = index.authorizedRows(List.of(new MenuPermission("ROLE", "R")));
+
+            // then
+            assertThat(rows).extracting(UserMenuRow::menuId).containsExactly("SYS", "ROLE");
+            assertThat(rows).extracting(UserMenuRow::authCode).containsExactly(null, "R");
+        }
+
+        @Test
+        @DisplayName("사용하지 않는 메뉴는 시작점이 되지 않고, 조상 탐색도 그 지점에서 멈춘다")
+        void stops_at_hidden_menus() {
+            // given
+            MenuIndex index = MenuIndex.of(List.of(
+                    menu("TOP", null),
+                    menu("HIDDEN", "TOP", "Y", "N"),
+                    menu("CHILD", "HIDDEN"),
+                    menu("UNUSED", "TOP", "N", "Y")));
+
+            // when
+            List<UserMenuRow> rows =
+                    index.authorizedRows(List.of(new MenuPermission("CHILD", "W"), new MenuPermission("UNUSED", "W")));
+
+            // then
+            assertThat(rows).extracting(UserMenuRow::menuId).containsExactly("CHILD");
+        }
+
+        @Test
+        @DisplayName("같은 메뉴의 권한이 여러 건이면 가장 큰 authCode를 사용한다")
+        void uses_max_auth_code() {
+            // given
+            MenuIndex index = MenuIndex.of(List.of(menu("MENU", null)));
+
+            // when
+            List<UserMenuRow> rows =
+                    index.authorizedRows(List.of(new MenuPermission("MENU", "R"), new MenuPermission("MENU", "W")));
+
+            // then
+            assertThat(rows).singleElement().extracting(UserMenuRow::authCode).isEqualTo("W");
+        }
+
+        @Test
+        @DisplayName("priorMenuId 순환이 있어도 종료하고, 인덱스에 없는 메뉴 권한은 무시한다")
+        void terminates_on_cycle_and_ignores_unknown() {
+            // given
+            MenuIndex index = MenuIndex.of(List.of(menu("A", "B"), menu("B", "A")));
+
+            // when
+            List<UserMenuRow> rows =
+                    index.authorizedRows(List.of(new MenuPermission("A", "R"), new MenuPermission("GONE", "W")));
+
+            // then
+            assertThat(rows).extracting(UserMenuRow::menuId).containsExactly("A", "B");
+        }
+    }
+
+    @Test
+    @DisplayName("menuId를 int id로 interning하고 부모 포인터를 보관한다")
+    void interns_ids_with_parent_pointers() {
+        // given
+        MenuIndex index = MenuIndex.of(List.of(menu("SYS", "ROOT"), menu("MENU", "SYS")));
+
+        // when & then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.idOf("MENU")).isEqualTo(1);
+        assertThat(index.idOf("NONE")).isEqualTo(-1);
+        assertThat(index.parentOf(index.idOf("MENU"))).isEqualTo(index.idOf("SYS"));
+        assertThat(index.parentOf(index.idOf("SYS"))).isEqualTo(-1);
+        assertThat(index.menu(0).menuId()).isEqualTo("SYS");
+    }
+}
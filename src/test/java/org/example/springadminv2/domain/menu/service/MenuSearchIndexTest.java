@@ -0,0 +1,139 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexTest {
+
+    @Mock
+    MenuMapper menuMapper;
+
+    MenuTreeCache menuTreeCache;
+    MenuSearchIndex menuSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        menuTreeCache = new MenuTreeCache(menuMapper);
+        menuSearchIndex = new MenuSearchIndex(menuTreeCache);
+    }
+
+    private static MenuResponse menu(String menuId, int sortOrder, String menuName, String menuEngName) {
+        return new MenuResponse(menuId, "ROOT", sortOrder, menuName, null, null, "Y", "Y", null, null, menuEngName);
+    }
+
+    private static final List<MenuResponse> MENUS = List.of(
+            menu("SYS", 1, "시스템관리", "System"),
+            menu("MENU", 2, "메뉴 관리", "Menu Management"),
+            menu("ROLE", 3, "역할관리", "Role Management"),
+            menu("SMS", 4, "SMS 발송관리", null));
+
+    private List<String> search(String query) {
+        return menuSearchIndex.search(query, 20, menuId -> true).stream()
+                .map(MenuSearchResult::menuId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("이름 부분 일치는 앞부분 일치를 먼저, 그다음 정렬 순서로 반환한다")
+    void ranks_prefix_match_first() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(MENUS);
+
+        // when & then
+        assertThat(search("관리")).containsExactly("SYS", "MENU", "ROLE", "SMS");
+        assertThat(search("메뉴관")).containsExactly("MENU");
+        assertThat(search("역")).containsExactly("ROLE");
+    }
+
+    @Test
+    @DisplayName("영문 이름은 대소문자와 공백을 무시하고 찾는다")
+    void matches_english_name_case_insensitive() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(MENUS);
+
+        // when & then
+        assertThat(search("MANAGE")).containsExactly("MENU", "ROLE");
+        assertThat(search("rolem")).containsExactly("ROLE");
+        assertThat(search("sms")).containsExactly("SMS");
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 이름의 초성으로 찾는다")
+    void matches_choseong() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(MENUS);
+
+        // when & then
+        assertThat(search("ㅅㅅㅌ")).containsExactly("SYS");
+        assertThat(search("ㄱㄹ")).containsExactly("SYS", "MENU", "ROLE", "SMS");
+        assertThat(search("ㅂㅅ")).containsExactly("SMS");
+    }
+
+    @Test
+    @DisplayName("허용 조건에 맞지 않는 메뉴는 결과에서 제외하고 limit만큼만 반환한다")
+    void filters_by_permission_and_limit() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(MENUS);
+
+        // when
+        List<MenuSearchResult> results = menuSearchIndex.search("관리", 2, menuId -> !menuId.equals("SYS"));
+
+        // then
+        assertThat(results).extracting(MenuSearchResult::menuId).containsExactly("MENU", "ROLE");
+    }
+
+    @Test
+    @DisplayName("메뉴 변경 후에는 변경된 메뉴만 다시 색인한다")
+    void reindexes_changed_menus() {
+        // given
+        given(menuMapper.selectAllMenus())
+                .willReturn(MENUS)
+                .willReturn(List.of(
+                        menu("SYS", 1, "시스템설정", "System"),
+                        menu("MENU", 2, "메뉴 관리", "Menu Management"),
+                        menu("ROLE", 3, "역할관리", "Role Management"),
+                        menu("SMS", 4, "SMS 발송관리", null),
+                        menu("CODE", 5, "코드관리", "Code")));
+        assertThat(search("시스템관리")).containsExactly("SYS");
+
+        // when
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "SYS"));
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.CREATED, "CODE"));
+
+        // then
+        assertThat(search("시스템관리")).isEmpty();
+        assertThat(search("설정")).containsExactly("SYS");
+        assertThat(search("ㅋㄷ")).containsExactly("CODE");
+        assertThat(menuSearchIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("삭제된 메뉴는 색인에서 빠지고 빈 검색어는 빈 결과를 반환한다")
+    void removes_deleted_menus() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(MENUS).willReturn(MENUS.subList(0, 3));
+        assertThat(search("sms")).containsExactly("SMS");
+
+        // when
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.DELETED, "SMS"));
+
+        // then
+        assertThat(search("sms")).isEmpty();
+        assertThat(search("  ")).isEmpty();
+        assertThat(menuSearchIndex.size()).isEqualTo(3);
+    }
+}
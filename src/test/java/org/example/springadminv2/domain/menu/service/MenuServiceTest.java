@@ -2,29 +2,46 @@ package org.example.springadminv2.domain.menu.service;
 
 import java.util.List;
 
+import org.example.springadminv2.domain.menu.dto.MenuCopyRequest;
 import org.example.springadminv2.domain.menu.dto.MenuCreateRequest;
 import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSortItem;
+import org.example.springadminv2.domain.menu.dto.MenuTreeDelta;
 import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
 import org.example.springadminv2.domain.menu.dto.MenuUpdateRequest;
 import org.example.springadminv2.domain.menu.dto.UserMenuRow;
 import org.example.springadminv2.domain.menu.dto.UserMenuTreeNode;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuClosureMapper;
 import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.global.config.BatchSqlSession;
 import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
 import org.example.springadminv2.global.security.config.SecurityAccessProperties;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class MenuServiceTest {
@@ -32,17 +49,60 @@ class MenuServiceTest {
     @Mock
     MenuMapper menuMapper;
 
+    @Mock
+    MenuClosureMapper menuClosureMapper;
+
+    @Mock
+    MenuMapper batchMenuMapper;
+
+    @Mock
+    MenuClosureMapper batchClosureMapper;
+
+    @Mock
+    BatchSqlSession batchSqlSession;
+
+    @Mock
+    AuthorityMapper authorityMapper;
+
     @Mock
     SecurityAccessProperties securityAccessProperties;
 
-    @InjectMocks
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    MenuTreeCache menuTreeCache;
+
     MenuService menuService;
 
+    @BeforeEach
+    void setUp() {
+        menuTreeCache = new MenuTreeCache(menuMapper);
+        menuService = new MenuService(
+                menuMapper,
+                menuClosureMapper,
+                batchSqlSession,
+                authorityMapper,
+                securityAccessProperties,
+                menuTreeCache,
+                new MenuSearchIndex(menuTreeCache),
+                eventPublisher);
+    }
+
     // ── 테스트 데이터 헬퍼 ──────────────────────────────────
 
     private MenuResponse menu(String menuId, String priorMenuId, int sortOrder, String menuName) {
         return new MenuResponse(
-                menuId, priorMenuId, sortOrder, menuName, "/url/" + menuId, null, "Y", "Y", "20260226120000", "admin");
+                menuId,
+                priorMenuId,
+                sortOrder,
+                menuName,
+                "/url/" + menuId,
+                null,
+                "Y",
+                "Y",
+                "20260226120000",
+                "admin",
+                null);
     }
 
     // ── getMenuTree ────────────────────────────────────────
@@ -109,6 +169,57 @@ class MenuServiceTest {
         }
     }
 
+    // ── getMenuTreeDelta ───────────────────────────────────
+
+    @Nested
+    @DisplayName("getMenuTreeDelta")
+    class GetMenuTreeDelta {
+
+        @Test
+        @DisplayName("since 이후 변경된 메뉴는 upserted, 사라진 메뉴는 deleted로 반환한다")
+        void returns_changes_since_version() {
+            // given
+            given(menuMapper.selectAllMenus())
+                    .willReturn(List.of(
+                            menu("SYS", "ROOT", 1, "시스템관리"),
+                            menu("MENU", "SYS", 1, "메뉴관리"),
+                            menu("ROLE", "SYS", 2, "역할관리"),
+                            menu("OLD", "SYS", 3, "이전메뉴")))
+                    .willReturn(List.of(
+                            menu("SYS", "ROOT", 1, "시스템"),
+                            menu("MENU", "SYS", 1, "메뉴관리"),
+                            menu("ROLE", "SYS", 2, "역할관리")));
+            String since = menuService.getMenuTreeDelta("").version();
+            menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "SYS"));
+            menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.DELETED, "OLD"));
+
+            // when
+            MenuTreeDelta delta = menuService.getMenuTreeDelta(since);
+
+            // then
+            assertThat(delta.full()).isFalse();
+            assertThat(delta.version()).isNotEqualTo(since);
+            assertThat(delta.upserted()).extracting(MenuResponse::menuName).containsExactly("시스템");
+            assertThat(delta.deleted()).containsExactly("OLD");
+            assertThat(delta.tree()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("since를 해석할 수 없으면 전체 트리를 반환한다")
+        void returns_full_tree_for_unknown_version() {
+            // given
+            given(menuMapper.selectAllMenus()).willReturn(List.of(menu("SYS", "ROOT", 1, "시스템관리")));
+
+            // when
+            MenuTreeDelta delta = menuService.getMenuTreeDelta("stale.1");
+
+            // then
+            assertThat(delta.full()).isTrue();
+            assertThat(delta.tree()).extracting(MenuTreeNode::menuId).containsExactly("SYS");
+            assertThat(delta.upserted()).isEmpty();
+        }
+    }
+
     // ── getMenuDetail ──────────────────────────────────────
 
     @Nested
@@ -149,6 +260,8 @@ class MenuServiceTest {
 
             // then
             then(menuMapper).should().insertMenu(eq(request), eq("admin"), anyString());
+            then(menuClosureMapper).should().insertMenuLinks("NEW_MENU", "SYS");
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.CREATED, "NEW_MENU"));
         }
     }
 
@@ -158,17 +271,75 @@ class MenuServiceTest {
     @DisplayName("updateMenu")
     class UpdateMenu {
 
+        private final List<MenuResponse> menus = List.of(
+                menu("SYS", "ROOT", 1, "시스템관리"), menu("MENU", "SYS", 1, "메뉴관리"), menu("MON", "ROOT", 2, "모니터링"));
+
         @Test
-        @DisplayName("메뉴 수정 시 mapper.updateMenu를 호출한다")
-        void calls_mapper_update() {
+        @DisplayName("상위 메뉴가 바뀌면 순환을 검증하고 closure를 옮긴다")
+        void moves_closure_when_parent_changes() {
+            // given
+            MenuUpdateRequest request = new MenuUpdateRequest("수정메뉴", "MON", "/updated", null, 2, "Y", "Y");
+            given(menuMapper.selectMenuById("MENU")).willReturn(menus.get(1));
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when
+            menuService.updateMenu("MENU", request, "admin");
+
+            // then
+            then(menuMapper).should().updateMenu(eq("MENU"), eq(request), eq("admin"), anyString());
+            then(menuClosureMapper).should().detachSubtree("MENU");
+            then(menuClosureMapper).should().attachSubtree("MENU", "MON");
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "MENU"));
+        }
+
+        @Test
+        @DisplayName("상위 메뉴가 그대로면 전체 메뉴를 읽지 않고 closure도 옮기지 않는다")
+        void keeps_closure_when_parent_unchanged() {
             // given
             MenuUpdateRequest request = new MenuUpdateRequest("수정메뉴", "SYS", "/updated", null, 2, "Y", "Y");
+            given(menuMapper.selectMenuById("MENU")).willReturn(menus.get(1));
 
             // when
             menuService.updateMenu("MENU", request, "admin");
 
             // then
             then(menuMapper).should().updateMenu(eq("MENU"), eq(request), eq("admin"), anyString());
+            then(menuMapper).should(never()).selectAllMenus();
+            then(menuClosureMapper).shouldHaveNoInteractions();
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "MENU"));
+        }
+
+        @Test
+        @DisplayName("하위 메뉴 아래로 옮기면 INVALID_INPUT 예외를 던지고 수정하지 않는다")
+        void rejects_cycle() {
+            // given
+            MenuUpdateRequest request = new MenuUpdateRequest("시스템관리", "MENU", null, null, 1, "Y", "Y");
+            given(menuMapper.selectMenuById("SYS")).willReturn(menus.get(0));
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateMenu("SYS", request, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+            then(menuMapper).should(never()).updateMenu(anyString(), any(), anyString(), anyString());
+            then(menuClosureMapper).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 메뉴는 RESOURCE_NOT_FOUND 예외를 던진다")
+        void throws_when_menu_not_found() {
+            // given
+            MenuUpdateRequest request = new MenuUpdateRequest("없음", "SYS", null, null, 1, "Y", "Y");
+            given(menuMapper.selectMenuById("NONE")).willReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateMenu("NONE", request, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.RESOURCE_NOT_FOUND);
+            then(menuMapper).should(never()).updateMenu(anyString(), any(), anyString(), anyString());
         }
     }
 
@@ -189,6 +360,8 @@ class MenuServiceTest {
 
             // then
             then(menuMapper).should().deleteMenu("MENU");
+            then(menuClosureMapper).should().deleteLinks(List.of("MENU"));
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.DELETED, "MENU"));
         }
 
         @Test
@@ -204,6 +377,7 @@ class MenuServiceTest {
 
             then(menuMapper).should().countChildMenus("SYS");
             then(menuMapper).shouldHaveNoMoreInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
         }
     }
 
@@ -213,14 +387,336 @@ class MenuServiceTest {
     @DisplayName("updateSortOrder")
     class UpdateSortOrder {
 
+        private final List<MenuResponse> menus = List.of(
+                menu("SYS", "ROOT", 1, "시스템관리"), menu("MENU", "SYS", 1, "메뉴관리"), menu("MON", "ROOT", 2, "모니터링"));
+
         @Test
-        @DisplayName("정렬 순서 변경 시 mapper.updateSortOrder를 호출한다")
+        @DisplayName("같은 상위 메뉴 안의 순서 변경은 closure를 옮기지 않는다")
         void calls_mapper_update_sort_order() {
+            // given
+            given(menuMapper.selectMenuById("MENU")).willReturn(menus.get(1));
+
             // when
             menuService.updateSortOrder("MENU", 3, "SYS", "admin");
 
             // then
             then(menuMapper).should().updateSortOrder(eq("MENU"), eq(3), eq("SYS"), eq("admin"), anyString());
+            then(menuMapper).should(never()).selectAllMenus();
+            then(menuClosureMapper).shouldHaveNoInteractions();
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.MOVED, "MENU"));
+        }
+
+        @Test
+        @DisplayName("상위 메뉴가 바뀌면 순환을 검증하고 closure를 옮긴다")
+        void moves_closure_when_parent_changes() {
+            // given
+            given(menuMapper.selectMenuById("MENU")).willReturn(menus.get(1));
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when
+            menuService.updateSortOrder("MENU", 1, "MON", "admin");
+
+            // then
+            then(menuMapper).should().updateSortOrder(eq("MENU"), eq(1), eq("MON"), eq("admin"), anyString());
+            then(menuClosureMapper).should().detachSubtree("MENU");
+            then(menuClosureMapper).should().attachSubtree("MENU", "MON");
+        }
+
+        @Test
+        @DisplayName("자기 자신 아래로 옮기면 INVALID_INPUT 예외를 던지고 수정하지 않는다")
+        void rejects_cycle() {
+            // given
+            given(menuMapper.selectMenuById("SYS")).willReturn(menus.get(0));
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateSortOrder("SYS", 1, "SYS", "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+            then(menuMapper)
+                    .should(never())
+                    .updateSortOrder(anyString(), anyInt(), anyString(), anyString(), anyString());
+            then(menuClosureMapper).shouldHaveNoInteractions();
+        }
+    }
+
+    // ── updateSortOrders ─────────────────────────────────────
+
+    @Nested
+    @DisplayName("updateSortOrders")
+    class UpdateSortOrders {
+
+        private final List<MenuResponse> menus = List.of(
+                menu("SYS", "ROOT", 1, "시스템관리"),
+                menu("MENU", "SYS", 1, "메뉴관리"),
+                menu("ROLE", "SYS", 2, "역할관리"),
+                menu("MON", "ROOT", 2, "모니터링"));
+
+        @BeforeEach
+        void setUpBatch() {
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchSqlSession.getMapper(MenuClosureMapper.class)).willReturn(batchClosureMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+        }
+
+        @Test
+        @DisplayName("검증 후 BATCH 매퍼로 모든 항목을 UPDATE하고 한 번 flush한다")
+        void updates_all_items_with_batch_mapper() {
+            // given
+            List<MenuSortItem> items = List.of(
+                    new MenuSortItem("ROLE", "SYS", 1),
+                    new MenuSortItem("MENU", "MON", 1),
+                    new MenuSortItem("MON", "ROOT", 2));
+
+            // when
+            menuService.updateSortOrders(items, "admin");
+
+            // then
+            then(batchMenuMapper).should().updateSortOrder(eq("ROLE"), eq(1), eq("SYS"), eq("admin"), anyString());
+            then(batchMenuMapper).should().updateSortOrder(eq("MENU"), eq(1), eq("MON"), eq("admin"), anyString());
+            then(batchMenuMapper).should().updateSortOrder(eq("MON"), eq(2), eq("ROOT"), eq("admin"), anyString());
+            then(batchSqlSession).should().flushStatements();
+            then(menuMapper).shouldHaveNoInteractions();
+            then(eventPublisher)
+                    .should()
+                    .publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.MOVED, List.of("ROLE", "MENU", "MON")));
+            // 상위 메뉴가 바뀐 MENU만 closure를 옮긴다
+            then(batchClosureMapper).should().detachSubtree("MENU");
+            then(batchClosureMapper).should().attachSubtree("MENU", "MON");
+            then(batchClosureMapper).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("부모-자식을 뒤바꾸면 최종 트리에서 얕은 메뉴부터 closure를 옮긴다")
+        void moves_closure_top_down() {
+            // given - SYS > MENU 를 MENU > SYS 로 뒤바꾼다
+            List<MenuSortItem> items = List.of(new MenuSortItem("SYS", "MENU", 1), new MenuSortItem("MENU", "ROOT", 1));
+
+            // when
+            menuService.updateSortOrders(items, "admin");
+
+            // then
+            InOrder inOrder = inOrder(batchClosureMapper);
+            inOrder.verify(batchClosureMapper).detachSubtree("MENU");
+            inOrder.verify(batchClosureMapper).attachSubtree("MENU", "ROOT");
+            inOrder.verify(batchClosureMapper).detachSubtree("SYS");
+            inOrder.verify(batchClosureMapper).attachSubtree("SYS", "MENU");
+        }
+
+        @Test
+        @DisplayName("하위 메뉴 아래로 이동해 순환이 생기면 INVALID_INPUT 예외를 던지고 UPDATE하지 않는다")
+        void rejects_cycle() {
+            // given
+            List<MenuSortItem> items = List.of(new MenuSortItem("SYS", "MENU", 1));
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateSortOrders(items, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+            then(batchMenuMapper)
+                    .should(never())
+                    .updateSortOrder(anyString(), anyInt(), anyString(), anyString(), anyString());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상위 메뉴를 지정하면 RESOURCE_NOT_FOUND 예외를 던진다")
+        void rejects_unknown_parent() {
+            // given
+            List<MenuSortItem> items = List.of(new MenuSortItem("MENU", "NOPE", 1));
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateSortOrders(items, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.RESOURCE_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 메뉴를 지정하면 RESOURCE_NOT_FOUND 예외를 던진다")
+        void rejects_unknown_menu() {
+            // given
+            List<MenuSortItem> items = List.of(new MenuSortItem("NOPE", "ROOT", 1));
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateSortOrders(items, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.RESOURCE_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("같은 메뉴가 두 번 포함되면 INVALID_INPUT 예외를 던진다")
+        void rejects_duplicate_menu() {
+            // given
+            List<MenuSortItem> items = List.of(new MenuSortItem("MENU", "SYS", 1), new MenuSortItem("MENU", "SYS", 2));
+
+            // when & then
+            assertThatThrownBy(() -> menuService.updateSortOrders(items, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+        }
+    }
+
+    // ── 하위 트리 삭제 / 복사 / 이동 ───────────────────────────
+
+    @Nested
+    @DisplayName("subtree 작업")
+    class SubtreeOperations {
+
+        private final List<MenuResponse> menus = List.of(
+                menu("SYS", "ROOT", 1, "시스템관리"),
+                menu("SYS_MENU", "SYS", 1, "메뉴관리"),
+                menu("SYS_MENU_LOG", "SYS_MENU", 1, "메뉴이력"),
+                menu("SYS_ROLE", "SYS", 2, "역할관리"),
+                menu("MON", "ROOT", 2, "모니터링"));
+
+        @Test
+        @DisplayName("deleteSubtree는 하위 메뉴와 권한을 IN 절 배치 DELETE로 지우고 이벤트를 발행한다")
+        void delete_subtree_removes_branch_in_one_batch() {
+            // given
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+            given(batchSqlSession.getMapper(MenuClosureMapper.class)).willReturn(batchClosureMapper);
+            List<String> branch = List.of("SYS", "SYS_MENU", "SYS_MENU_LOG", "SYS_ROLE");
+
+            // when
+            List<String> deleted = menuService.deleteSubtree("SYS");
+
+            // then
+            assertThat(deleted).containsExactlyElementsOf(branch);
+            then(batchMenuMapper).should().deleteRoleMenusByMenuIds(branch);
+            then(batchMenuMapper).should().deleteUserMenusByMenuIds(branch);
+            then(batchMenuMapper).should().deleteMenus(branch);
+            then(batchClosureMapper).should().deleteLinks(branch);
+            then(batchSqlSession).should().flushStatements();
+            then(menuMapper).shouldHaveNoInteractions();
+            then(eventPublisher).should().publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.DELETED, branch));
+            then(eventPublisher).should().publishEvent(MenuPermissionChangedEvent.ofRoles());
+        }
+
+        @Test
+        @DisplayName("deleteSubtree는 없는 메뉴면 RESOURCE_NOT_FOUND 예외를 던진다")
+        void delete_subtree_unknown_menu() {
+            // given
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+
+            // when & then
+            assertThatThrownBy(() -> menuService.deleteSubtree("NOPE"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.RESOURCE_NOT_FOUND);
+            then(batchMenuMapper).should(never()).deleteMenus(anyList());
+        }
+
+        @Test
+        @DisplayName("copySubtree는 ID를 prefix 규칙으로 바꿔 INSERT ... SELECT 한 번으로 복사하고 루트를 마지막 순서에 붙인다")
+        void copy_subtree_rewrites_ids() {
+            // given
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+            given(batchSqlSession.getMapper(MenuClosureMapper.class)).willReturn(batchClosureMapper);
+            MenuCopyRequest request = new MenuCopyRequest("MON", "SYS", "OPS");
+
+            // when
+            List<String> copied = menuService.copySubtree("SYS_MENU", request, "admin");
+
+            // then
+            assertThat(copied).containsExactly("OPS_MENU", "OPS_MENU_LOG");
+            then(batchMenuMapper)
+                    .should()
+                    .copyMenus(
+                            eq(List.of("SYS_MENU", "SYS_MENU_LOG")),
+                            eq("SYS_MENU"),
+                            eq("MON"),
+                            eq(1),
+                            eq("SYS"),
+                            eq("OPS"),
+                            eq("admin"),
+                            anyString());
+            then(batchClosureMapper).should().copySubtreeLinks("SYS_MENU", "MON", "SYS", "OPS");
+            then(batchSqlSession).should().flushStatements();
+            then(eventPublisher).should().publishEvent(new MenuChangedEvent(MenuChangedEvent.Type.CREATED, copied));
+        }
+
+        @Test
+        @DisplayName("copySubtree는 바뀐 ID가 기존 메뉴와 겹치면 DUPLICATE_RESOURCE 예외를 던진다")
+        void copy_subtree_rejects_existing_id() {
+            // given
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+            MenuCopyRequest request = new MenuCopyRequest("ROOT", "SYS_MENU", "SYS_ROLE");
+
+            // when & then
+            assertThatThrownBy(() -> menuService.copySubtree("SYS_MENU", request, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.DUPLICATE_RESOURCE);
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("rebuildMenuClosure는 모든 메뉴의 (조상, 자손, 깊이) 연결을 배치로 다시 적재한다")
+        void rebuild_menu_closure() {
+            // given
+            given(batchSqlSession.getMapper(MenuMapper.class)).willReturn(batchMenuMapper);
+            given(batchSqlSession.getMapper(MenuClosureMapper.class)).willReturn(batchClosureMapper);
+            given(batchMenuMapper.selectAllMenus()).willReturn(menus);
+
+            // when
+            int links = menuService.rebuildMenuClosure();
+
+            // then - 자기 자신 5 + SYS_MENU/SYS_ROLE의 SYS 2 + SYS_MENU_LOG의 조상 2
+            assertThat(links).isEqualTo(9);
+            then(batchClosureMapper).should().deleteAllLinks();
+            then(batchClosureMapper).should().insertLink("SYS", "SYS_MENU_LOG", 2);
+            then(batchClosureMapper).should().insertLink("SYS_MENU", "SYS_MENU_LOG", 1);
+            then(batchClosureMapper).should().insertLink("SYS_MENU_LOG", "SYS_MENU_LOG", 0);
+            then(batchSqlSession).should().flushStatements();
+        }
+
+        @Test
+        @DisplayName("rewriteMenuId는 prefix가 일치하면 치환하고 아니면 앞에 붙인다")
+        void rewrite_menu_id() {
+            assertThat(MenuService.rewriteMenuId("SYS_MENU", "SYS", "OPS")).isEqualTo("OPS_MENU");
+            assertThat(MenuService.rewriteMenuId("MON", "SYS", "OPS")).isEqualTo("OPSMON");
+            assertThat(MenuService.rewriteMenuId("MON", "", "COPY_")).isEqualTo("COPY_MON");
+        }
+
+        @Test
+        @DisplayName("moveSubtree는 sortOrder가 없으면 새 상위 메뉴의 마지막 순서로 옮긴다")
+        void move_subtree_appends_to_new_parent() {
+            // given
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when
+            menuService.moveSubtree("SYS_MENU", "MON", null, "admin");
+
+            // then
+            then(menuMapper).should().updateSortOrder(eq("SYS_MENU"), eq(1), eq("MON"), eq("admin"), anyString());
+            then(menuClosureMapper).should().detachSubtree("SYS_MENU");
+            then(menuClosureMapper).should().attachSubtree("SYS_MENU", "MON");
+            then(eventPublisher).should().publishEvent(MenuChangedEvent.of(MenuChangedEvent.Type.MOVED, "SYS_MENU"));
+        }
+
+        @Test
+        @DisplayName("moveSubtree는 하위 메뉴 아래로 옮기면 INVALID_INPUT 예외를 던진다")
+        void move_subtree_rejects_cycle() {
+            // given
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+
+            // when & then
+            assertThatThrownBy(() -> menuService.moveSubtree("SYS", "SYS_MENU_LOG", 1, "admin"))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+            then(menuMapper)
+                    .should(never())
+                    .updateSortOrder(anyString(), anyInt(), anyString(), anyString(), anyString());
         }
     }
 
@@ -273,6 +769,35 @@ class MenuServiceTest {
             then(menuMapper).shouldHaveNoMoreInteractions();
         }
 
+        @Test
+        @DisplayName("INDEX 모드일 때 권한 행과 메뉴 인덱스로 조상까지 포함한 트리를 만든다")
+        void index_mode_builds_tree_from_permissions() {
+            // given
+            given(securityAccessProperties.getAuthoritySource()).willReturn("ROLE_MENU");
+            given(securityAccessProperties.getMenuTreeStrategy()).willReturn("INDEX");
+            given(menuMapper.selectAllMenus())
+                    .willReturn(List.of(
+                            menu("SYS", "ROOT", 1, "시스템관리"),
+                            menu("MENU", "SYS", 1, "메뉴관리"),
+                            menu("ROLE", "SYS", 2, "역할관리")));
+            given(authorityMapper.selectMenuPermissionsByRoleId("ROLE01"))
+                    .willReturn(List.of(new MenuPermission("MENU", "W")));
+
+            // when
+            List<UserMenuTreeNode> result = menuService.getAuthorizedMenuTree("testUser", "ROLE01");
+
+            // then
+            assertThat(result).hasSize(1);
+            UserMenuTreeNode sysNode = result.get(0);
+            assertThat(sysNode.menuId()).isEqualTo("SYS");
+            assertThat(sysNode.authCode()).isNull();
+            assertThat(sysNode.children()).hasSize(1);
+            assertThat(sysNode.children().get(0).menuId()).isEqualTo("MENU");
+            assertThat(sysNode.children().get(0).authCode()).isEqualTo("W");
+            then(menuMapper).should().selectAllMenus();
+            then(menuMapper).shouldHaveNoMoreInteractions();
+        }
+
         @Test
         @DisplayName("권한이 없으면 빈 리스트를 반환한다")
         void returns_empty_when_no_permissions() {
@@ -287,4 +812,32 @@ class MenuServiceTest {
             assertThat(result).isEmpty();
         }
     }
+
+    // ── prewarmAuthorizedMenuTree ────────────────────────────
+
+    @Nested
+    @DisplayName("prewarmAuthorizedMenuTree")
+    class PrewarmAuthorizedMenuTree {
+
+        @Test
+        @DisplayName("설정된 전략의 조회문을 캐시 없이 실행하고 전체 메뉴로 트리 빌더를 실행한다")
+        void runs_configured_statement_and_tree_builder() {
+            // given
+            given(securityAccessProperties.getAuthoritySource()).willReturn("ROLE_MENU");
+            given(securityAccessProperties.getMenuTreeStrategy()).willReturn("QUERY");
+            given(menuMapper.selectAllMenus())
+                    .willReturn(List.of(
+                            menu("SYS", "ROOT", 1, "시스템관리"),
+                            menu("MENU", "SYS", 1, "메뉴관리"),
+                            menu("ROLE", "SYS", 2, "역할관리")));
+
+            // when
+            int count = menuService.prewarmAuthorizedMenuTree();
+
+            // then
+            assertThat(count).isEqualTo(3);
+            then(menuMapper).should().selectRoleMenuTree(anyString());
+            then(authorityMapper).shouldHaveNoInteractions();
+        }
+    }
 }
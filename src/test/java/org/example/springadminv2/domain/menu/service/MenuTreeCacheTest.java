@@ -0,0 +1,133 @@
+package org.example.springadminv2.domain.menu.service;
+
+import java.util.List;
+import java.util.Set;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
+import org.example.springadminv2.domain.menu.event.MenuChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class MenuTreeCacheTest {
+
+    @Mock
+    MenuMapper menuMapper;
+
+    @InjectMocks
+    MenuTreeCache menuTreeCache;
+
+    private MenuResponse menu(String menuId, String priorMenuId, String menuName) {
+        return new MenuResponse(
+                menuId, priorMenuId, 1, menuName, null, null, "Y", "Y", "20260226120000", "admin", null);
+    }
+
+    @Test
+    @DisplayName("최초 조회 시에만 DB를 읽고 이후에는 같은 스냅샷을 반환한다")
+    void loads_once_and_reuses_snapshot() {
+        // given
+        given(menuMapper.selectAllMenus()).willReturn(List.of(menu("SYS", "ROOT", "시스템관리")));
+
+        // when
+        MenuTreeSnapshot first = menuTreeCache.get();
+        MenuTreeSnapshot second = menuTreeCache.get();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.tree()).hasSize(1);
+        then(menuMapper).should(times(1)).selectAllMenus();
+    }
+
+    @Test
+    @DisplayName("메뉴 변경 이벤트를 받으면 version이 증가하고 다음 조회 시 새 스냅샷으로 교체된다")
+    void menu_changed_event_swaps_snapshot() {
+        // given
+        given(menuMapper.selectAllMenus())
+                .willReturn(List.of(menu("SYS", "ROOT", "시스템관리")))
+                .willReturn(List.of(menu("SYS", "ROOT", "시스템관리"), menu("MENU", "SYS", "메뉴관리")));
+        MenuTreeSnapshot before = menuTreeCache.get();
+
+        // when
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.CREATED, "MENU"));
+        MenuTreeSnapshot after = menuTreeCache.get();
+
+        // then
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.version()).isEqualTo(menuTreeCache.currentVersion());
+        assertThat(before.menus()).hasSize(1);
+        assertThat(after.tree().get(0).children()).hasSize(1);
+        then(menuMapper).should(times(2)).selectAllMenus();
+    }
+
+    @Test
+    @DisplayName("index는 스냅샷과 함께 만든 인덱스를 재사용하고, 교체된 옛 스냅샷이면 그 메뉴 목록으로 만든다")
+    void index_matches_snapshot() {
+        // given
+        given(menuMapper.selectAllMenus())
+                .willReturn(List.of(menu("SYS", "ROOT", "시스템관리")))
+                .willReturn(List.of(menu("SYS", "ROOT", "시스템관리"), menu("MENU", "SYS", "메뉴관리")));
+        MenuTreeSnapshot before = menuTreeCache.get();
+        MenuIndex beforeIndex = menuTreeCache.index();
+
+        // when
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.CREATED, "MENU"));
+        MenuTreeSnapshot after = menuTreeCache.get();
+
+        // then
+        assertThat(menuTreeCache.index(after)).isSameAs(menuTreeCache.index());
+        assertThat(menuTreeCache.index(after).idOf("MENU")).isNotNegative();
+        assertThat(menuTreeCache.index(before)).isNotSameAs(beforeIndex);
+        assertThat(menuTreeCache.index(before).idOf("MENU")).isNegative();
+        assertThat(menuTreeCache.index(before).idOf("SYS")).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("변경 로그로 since 이후 변경된 menuId를 중복 없이 반환한다")
+    void changed_since_returns_logged_menu_ids() {
+        // given
+        String since = menuTreeCache.versionToken(menuTreeCache.currentVersion());
+
+        // when
+        menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "SYS"));
+        menuTreeCache.onMenuChanged(new MenuChangedEvent(MenuChangedEvent.Type.MOVED, List.of("MENU", "SYS")));
+        Set<String> changed = menuTreeCache.changedSince(since, menuTreeCache.currentVersion());
+
+        // then
+        assertThat(changed).containsExactlyInAnyOrder("SYS", "MENU");
+    }
+
+    @Test
+    @DisplayName("다른 프로세스의 토큰, 로그보다 오래된 토큰, 원인 불명 무효화 이전 토큰은 null을 반환한다")
+    void changed_since_returns_null_when_log_cannot_cover() {
+        // given
+        long start = menuTreeCache.currentVersion();
+        String since = menuTreeCache.versionToken(start);
+        for (int i = 0; i <= MenuTreeCache.CHANGE_LOG_CAPACITY; i++) {
+            menuTreeCache.onMenuChanged(MenuChangedEvent.of(MenuChangedEvent.Type.UPDATED, "M" + i));
+        }
+        String recent = menuTreeCache.versionToken(menuTreeCache.currentVersion() - 1);
+
+        // when & then
+        assertThat(menuTreeCache.changedSince(since, menuTreeCache.currentVersion()))
+                .isNull();
+        assertThat(menuTreeCache.changedSince("other." + start, menuTreeCache.currentVersion()))
+                .isNull();
+        assertThat(menuTreeCache.changedSince(recent, menuTreeCache.currentVersion()))
+                .containsExactly("M256");
+
+        menuTreeCache.invalidate();
+        assertThat(menuTreeCache.changedSince(recent, menuTreeCache.currentVersion()))
+                .isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.springadminv2.global.cache;
+
+import java.util.List;
+
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * 같은 LocalCacheVersionStore를 공유하는 두 버스로 두 노드를 재현한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    ApplicationEventPublisher nodeAEvents;
+
+    @Mock
+    ApplicationEventPublisher nodeBEvents;
+
+    LocalCacheVersionStore store;
+    CacheInvalidationBus nodeA;
+    CacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalCacheVersionStore();
+        nodeA = new CacheInvalidationBus(store, nodeAEvents);
+        nodeB = new CacheInvalidationBus(store, nodeBEvents);
+        nodeA.poll();
+        nodeB.poll();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 올린 버전은 영역별로 모아 key 순서로 발행한다")
+    void publishes_remote_changes_by_region() {
+        // given
+        nodeA.publish("MENU", "SYS");
+        nodeA.publish("MENU", "ROLE");
+        nodeA.publish("ROLE_MENU", "ADMIN");
+
+        // when
+        nodeB.poll();
+
+        // then
+        then(nodeBEvents).should().publishEvent(new CacheRegionInvalidatedEvent("MENU", List.of("ROLE", "SYS")));
+        then(nodeBEvents).should().publishEvent(new CacheRegionInvalidatedEvent("ROLE_MENU", List.of("ADMIN")));
+    }
+
+    @Test
+    @DisplayName("자기 노드가 마지막으로 올린 행과 이미 본 버전은 다시 발행하지 않는다")
+    void skips_own_and_seen_versions() {
+        // given
+        nodeA.publish("MENU", "SYS");
+        nodeB.poll();
+
+        // when
+        nodeA.poll();
+        nodeB.poll();
+
+        // then
+        then(nodeAEvents).should(never()).publishEvent(any(Object.class));
+        then(nodeBEvents).should(times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("첫 poll은 기준점만 잡고, 버전 합계가 그대로면 전체 버전을 읽지 않는다")
+    void first_poll_is_baseline_and_unchanged_sum_skips_read() {
+        // given
+        CacheVersionStore spyStore = mock(CacheVersionStore.class);
+        given(spyStore.versionSum()).willReturn(0L);
+        given(spyStore.versions()).willReturn(List.of());
+        CacheInvalidationBus bus = new CacheInvalidationBus(spyStore, nodeAEvents);
+
+        // when
+        bus.poll();
+        bus.poll();
+
+        // then
+        then(spyStore).should(times(1)).versions();
+        then(nodeAEvents).should(never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("저장소 조회 실패는 다음 poll에서 다시 시도한다")
+    void poll_failure_is_retried() {
+        // given
+        CacheVersionStore failing = mock(CacheVersionStore.class);
+        given(failing.versionSum()).willThrow(new IllegalStateException("db down"));
+        CacheInvalidationBus bus = new CacheInvalidationBus(failing, nodeAEvents);
+
+        // when
+        bus.poll();
+        bus.poll();
+
+        // then
+        then(failing).should(times(2)).versionSum();
+        assertThat(bus.nodeId()).isNotBlank();
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.springadminv2.global.startup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.springadminv2.domain.menu.service.MenuService;
+import org.example.springadminv2.global.security.authorization.MenuUrlAuthorizationManager;
+import org.example.springadminv2.global.security.config.MenuResourcePermissions;
+import org.example.springadminv2.global.security.converter.AuthorityConverter;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class StartupPrewarmerTest {
+
+    @Mock
+    MenuService menuService;
+
+    @Mock
+    AuthorityConverter authorityConverter;
+
+    @Mock
+    MenuUrlAuthorizationManager menuUrlAuthorizationManager;
+
+    @Mock
+    UserDetailsService userDetailsService;
+
+    MenuResourcePermissions menuResourcePermissions;
+    SimpleMeterRegistry meterRegistry;
+    StartupPrewarmer prewarmer;
+
+    @BeforeEach
+    void setUp() {
+        menuResourcePermissions = new MenuResourcePermissions();
+        menuResourcePermissions.setPermissions(Map.of("MENU", Map.of("R", "MENU:R", "W", "MENU:W")));
+        meterRegistry = new SimpleMeterRegistry();
+        prewarmer = new StartupPrewarmer(
+                menuService,
+                menuResourcePermissions,
+                authorityConverter,
+                menuUrlAuthorizationManager,
+                userDetailsService,
+                meterRegistry,
+                true);
+    }
+
+    @Test
+    @DisplayName("단계를 순서대로 실행하고 단계별 타이머를 남긴다")
+    void runs_phases_in_order() {
+        // given
+        given(menuService.getMenuTree()).willReturn(List.of());
+        given(menuService.searchMenus(anyString(), anyInt())).willReturn(List.of());
+        given(menuService.prewarmAuthorizedMenuTree()).willReturn(3);
+        given(authorityConverter.convert(List.of(new MenuPermission("MENU", "W"))))
+                .willReturn(Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W")));
+        given(menuUrlAuthorizationManager.compile()).willReturn(4);
+        given(userDetailsService.loadUserByUsername(anyString())).willThrow(new UsernameNotFoundException("none"));
+
+        // when
+        List<StartupPrewarmer.PhaseResult> results = prewarmer.prewarm();
+
+        // then
+        assertThat(results)
+                .extracting(StartupPrewarmer.PhaseResult::name)
+                .containsExactly(
+                        "menuSnapshot",
+                        "menuSearchIndex",
+                        "authorizedMenuTree",
+                        "menuResourcePermissions",
+                        "menuUrlAuthorization",
+                        "loginQuery");
+        assertThat(results).extracting(StartupPrewarmer.PhaseResult::count).containsExactly(0, 0, 3, 2, 4, 0);
+        InOrder inOrder = inOrder(menuService, authorityConverter, menuUrlAuthorizationManager, userDetailsService);
+        inOrder.verify(menuService).getMenuTree();
+        inOrder.verify(menuService).searchMenus(anyString(), anyInt());
+        inOrder.verify(menuService).prewarmAuthorizedMenuTree();
+        inOrder.verify(authorityConverter).convert(List.of(new MenuPermission("MENU", "W")));
+        inOrder.verify(menuUrlAuthorizationManager).compile();
+        inOrder.verify(userDetailsService).loadUserByUsername(anyString());
+        assertThat(meterRegistry
+                        .get(StartupPrewarmer.TIMER_NAME)
+                        .tag("phase", "loginQuery")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 단계는 기록만 하고 나머지 단계를 계속 실행한다")
+    void failing_phase_does_not_stop_others() {
+        // given
+        given(menuService.getMenuTree()).willThrow(new IllegalStateException("db down"));
+        given(menuService.searchMenus(anyString(), anyInt())).willReturn(List.of());
+        given(menuService.prewarmAuthorizedMenuTree()).willReturn(0);
+        given(authorityConverter.convert(List.of(new MenuPermission("MENU", "W"))))
+                .willReturn(Set.of());
+        given(userDetailsService.loadUserByUsername(anyString())).willThrow(new UsernameNotFoundException("none"));
+
+        // when
+        List<StartupPrewarmer.PhaseResult> results = prewarmer.prewarm();
+
+        // then
+        assertThat(results).hasSize(6);
+        assertThat(results.get(0).count()).isEqualTo(-1);
+        assertThat(StartupPrewarmer.report(Duration.ofSeconds(2), results))
+                .contains("ready=2000ms")
+                .contains("menuSnapshot=")
+                .contains("(failed)");
+    }
+}
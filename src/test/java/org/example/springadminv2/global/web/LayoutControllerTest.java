@@ -3,11 +3,14 @@ package org.example.springadminv2.global.web;
 import java.util.List;
 import java.util.Set;
 
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
 import org.example.springadminv2.domain.menu.dto.UserMenuTreeNode;
+import org.example.springadminv2.domain.menu.service.MenuEventBroadcaster;
 import org.example.springadminv2.domain.menu.service.MenuService;
 import org.example.springadminv2.global.log.listener.SecurityLogEventListener;
 import org.example.springadminv2.global.security.CustomUserDetails;
 import org.example.springadminv2.global.security.SecurityConfig;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.example.springadminv2.global.security.handler.CustomAccessDeniedHandler;
 import org.example.springadminv2.global.security.handler.CustomAuthenticationEntryPoint;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +23,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,12 +41,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 })
 class LayoutControllerTest {
 
+    private static final ResourceAuthorityRegistry REGISTRY = new ResourceAuthorityRegistry();
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private MenuService menuService;
 
+    @MockBean
+    private MenuEventBroadcaster menuEventBroadcaster;
+
     private static CustomUserDetails mockUser() {
         return new CustomUserDetails(
                 "testUser",
@@ -49,7 +59,7 @@ class LayoutControllerTest {
                 "ROLE01",
                 "1",
                 0,
-                Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W")));
+                REGISTRY.grants(Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W"))));
     }
 
     @Nested
@@ -127,5 +137,62 @@ class LayoutControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data").isEmpty());
         }
+
+        @Test
+        @DisplayName("트리 해시를 ETag로 내려주고, 일치하는 If-None-Match에는 304를 반환한다")
+        void supports_conditional_get() throws Exception {
+            // given
+            CustomUserDetails user = mockUser();
+            List<UserMenuTreeNode> tree = List.of();
+            given(menuService.getAuthorizedMenuTree("testUser", "ROLE01")).willReturn(tree);
+            given(menuService.getAuthorizedMenuTreeVersion(tree)).willReturn("a1b2c3");
+
+            // when & then
+            mockMvc.perform(get("/api/user-menus/tree").with(user(user)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"a1b2c3\""));
+            mockMvc.perform(get("/api/user-menus/tree").with(user(user)).header("If-None-Match", "\"a1b2c3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/user-menus/events (SSE)")
+    class MenuEvents {
+
+        @Test
+        @DisplayName("로그인 사용자의 userId/roleId로 구독하고 비동기 스트림을 연다")
+        void subscribes_with_user_and_role() throws Exception {
+            // given
+            given(menuEventBroadcaster.subscribe("testUser", "ROLE01")).willReturn(new SseEmitter());
+
+            // when & then
+            mockMvc.perform(get("/api/user-menus/events").with(user(mockUser())))
+                    .andExpect(request().asyncStarted());
+            then(menuEventBroadcaster).should().subscribe("testUser", "ROLE01");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/user-menus/search")
+    class SearchMenus {
+
+        @Test
+        @DisplayName("로그인 사용자의 권한 메뉴 트리로 검색 대상을 제한한다")
+        void searches_within_authorized_tree() throws Exception {
+            // given
+            List<UserMenuTreeNode> tree =
+                    List.of(new UserMenuTreeNode("SYS", "ROOT", 1, "시스템관리", null, null, "R", null));
+            given(menuService.getAuthorizedMenuTree("testUser", "ROLE01")).willReturn(tree);
+            given(menuService.searchAuthorizedMenus("ㅅㅅ", 20, tree))
+                    .willReturn(List.of(new MenuSearchResult("SYS", "ROOT", "시스템관리", "System", null, null)));
+
+            // when & then
+            mockMvc.perform(get("/api/user-menus/search").param("q", "ㅅㅅ").with(user(mockUser())))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].menuId").value("SYS"))
+                    .andExpect(jsonPath("$.data[0].menuEngName").value("System"));
+        }
     }
 }
@@ -0,0 +1,197 @@
+package org.example.springadminv2.global.web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuUpdateRequest;
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.domain.menu.mapper.MenuClosureMapper;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.domain.menu.service.AuthorizedMenuTreeCacheEvictor;
+import org.example.springadminv2.domain.menu.service.AuthorizedMenuTreeKeyGenerator;
+import org.example.springadminv2.domain.menu.service.MenuEventBroadcaster;
+import org.example.springadminv2.domain.menu.service.MenuSearchIndex;
+import org.example.springadminv2.domain.menu.service.MenuService;
+import org.example.springadminv2.domain.menu.service.MenuTreeCache;
+import org.example.springadminv2.global.config.AsyncConfig;
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.example.springadminv2.global.config.CacheConfig;
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.example.springadminv2.global.security.config.SecurityAccessProperties;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 메뉴 변경 → SSE 전송까지의 로컬 통합 테스트.
+ * MenuService, 캐시, 브로드캐스터는 실제 빈을 쓰고 DB 매퍼만 mock으로 대체한다.
+ */
+@SpringJUnitConfig({
+    CacheConfig.class,
+    AsyncConfig.class,
+    MenuService.class,
+    MenuTreeCache.class,
+    MenuSearchIndex.class,
+    AuthorizedMenuTreeKeyGenerator.class,
+    AuthorizedMenuTreeCacheEvictor.class,
+    MenuEventBroadcaster.class,
+    MenuEventStreamIntegrationTest.JacksonConfig.class
+})
+class MenuEventStreamIntegrationTest {
+
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Configuration
+    static class JacksonConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @MockBean
+    MenuMapper menuMapper;
+
+    @MockBean
+    MenuClosureMapper menuClosureMapper;
+
+    @MockBean
+    BatchSqlSession batchSqlSession;
+
+    @MockBean
+    AuthorityMapper authorityMapper;
+
+    @MockBean
+    SecurityAccessProperties securityAccessProperties;
+
+    @Autowired
+    MenuService menuService;
+
+    @Autowired
+    MenuEventBroadcaster broadcaster;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("menuEventExecutor")
+    Executor menuEventExecutor;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LayoutController(menuService, broadcaster))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        given(menuMapper.selectAllMenus())
+                .willReturn(
+                        List.of(new MenuResponse("SYS", "ROOT", 1, "시스템관리", "/sys", null, "Y", "Y", null, null, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse connect(String userId, String roleId) throws Exception {
+        CustomUserDetails user = new CustomUserDetails(
+                userId, "pwd", roleId, "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("MENU:R"))));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        MvcResult result = mockMvc.perform(get("/api/user-menus/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return response;
+    }
+
+    private static boolean await(MockHttpServletResponse response, String text) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (response.getContentAsString().contains(text)) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    /** 전송 스레드에 쌓인 작업이 모두 끝날 때까지 기다린다. */
+    private void drain() throws Exception {
+        CompletableFuture.runAsync(() -> {}, menuEventExecutor).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("updateMenu 후 연결된 클라이언트에 menu-changed 이벤트가 전달된다")
+    void pushes_after_update_menu() throws Exception {
+        // given
+        MockHttpServletResponse response = connect("admin", "ADMIN");
+        assertThat(response.getContentType()).startsWith("text/event-stream");
+        given(menuMapper.selectMenuById("SYS"))
+                .willReturn(new MenuResponse("SYS", "ROOT", 1, "시스템관리", "/sys", null, "Y", "Y", null, null, null));
+
+        // when
+        menuService.updateMenu("SYS", new MenuUpdateRequest("시스템", "ROOT", "/sys", null, 1, "Y", "Y"), "admin");
+
+        // then
+        assertThat(await(response, "event:menu-changed")).isTrue();
+        assertThat(response.getContentAsString())
+                .contains("\"scope\":\"MENU\"")
+                .contains("\"type\":\"UPDATED\"")
+                .contains("\"menuIds\":[\"SYS\"]");
+    }
+
+    @Test
+    @DisplayName("역할 권한 변경은 해당 역할의 연결에만 전달된다")
+    void permission_notice_is_scoped_to_role() throws Exception {
+        // given
+        MockHttpServletResponse adminStream = connect("admin", "ADMIN");
+        MockHttpServletResponse userStream = connect("user01", "USER");
+
+        // when
+        eventPublisher.publishEvent(MenuPermissionChangedEvent.ofRoles("USER"));
+        drain();
+
+        // then
+        assertThat(userStream.getContentAsString())
+                .contains("event:menu-changed")
+                .contains("\"scope\":\"ROLE\"");
+        assertThat(adminStream.getContentAsString()).doesNotContain("event:menu-changed");
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.springadminv2.global.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip 항목이 있으면 q 값이 0보다 클 때만 허용한다")
+    void accepts_gzip_by_q_value() {
+        assertThat(SerializedResponseCache.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip; q=0.000, br")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+    }
+
+    @Test
+    @DisplayName("gzip 항목이 없으면 * 항목을 따르고, 둘 다 없으면 허용하지 않는다")
+    void falls_back_to_wildcard() {
+        assertThat(SerializedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("br, *;q=0")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("x-gzip, deflate")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.springadminv2.global.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpSessionEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionSizeMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionSizeMonitor monitor = new SessionSizeMonitor(meterRegistry);
+
+    @Test
+    @DisplayName("살아 있는 세션의 속성 크기 합계·최대·평균을 게이지로 노출한다")
+    void samples_live_sessions() {
+        // given
+        MockHttpSession small = new MockHttpSession(null, "s1");
+        small.setAttribute("a", "x");
+        MockHttpSession large = new MockHttpSession(null, "s2");
+        large.setAttribute("a", "x".repeat(1000));
+        monitor.sessionCreated(new HttpSessionEvent(small));
+        monitor.sessionCreated(new HttpSessionEvent(large));
+
+        // when
+        SessionSizeMonitor.Sample sample = monitor.sample();
+
+        // then
+        assertThat(sample.sessions()).isEqualTo(2);
+        assertThat(sample.max()).isGreaterThan(1000L);
+        assertThat(sample.total()).isGreaterThan(sample.max());
+        assertThat(meterRegistry
+                        .get("web.session.size")
+                        .tag("stat", "max")
+                        .gauge()
+                        .value())
+                .isEqualTo(sample.max());
+        assertThat(meterRegistry.get("web.session.active").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("종료·무효화된 세션은 측정하지 않는다")
+    void skips_destroyed_and_invalidated_sessions() {
+        // given
+        MockHttpSession destroyed = new MockHttpSession(null, "s1");
+        MockHttpSession invalidated = new MockHttpSession(null, "s2");
+        monitor.sessionCreated(new HttpSessionEvent(destroyed));
+        monitor.sessionCreated(new HttpSessionEvent(invalidated));
+        monitor.sessionDestroyed(new HttpSessionEvent(destroyed));
+        invalidated.invalidate();
+
+        // when
+        SessionSizeMonitor.Sample sample = monitor.sample();
+
+        // then
+        assertThat(sample.sessions()).isZero();
+        assertThat(sample.average()).isZero();
+    }
+}
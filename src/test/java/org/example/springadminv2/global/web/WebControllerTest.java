@@ -4,6 +4,7 @@ import java.util.Set;
 
 import org.example.springadminv2.domain.menu.controller.MenuPageController;
 import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +25,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class WebControllerTest {
 
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
     // ─── BaseViewController 테스트용 구체 클래스 ─────────────────────
     static class TestableViewController extends BaseViewController {
 
@@ -98,7 +101,8 @@ class WebControllerTest {
             // given
             Set<GrantedAuthority> authorities =
                     Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W"));
-            CustomUserDetails user = new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, authorities);
+            CustomUserDetails user =
+                    new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, registry.grants(authorities));
 
             // when
             String level = controller.callDetermineAccessLevel(user, "MENU");
@@ -112,7 +116,8 @@ class WebControllerTest {
         void determineAccessLevel_withReadOnly_returnsR() {
             // given
             Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("MENU:R"));
-            CustomUserDetails user = new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, authorities);
+            CustomUserDetails user =
+                    new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, registry.grants(authorities));
 
             // when
             String level = controller.callDetermineAccessLevel(user, "MENU");
@@ -136,7 +141,8 @@ class WebControllerTest {
         void determineAccessLevel_noMatchingAuthority_returnsNone() {
             // given
             Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("OTHER:W"));
-            CustomUserDetails user = new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, authorities);
+            CustomUserDetails user =
+                    new CustomUserDetails("testUser", "pwd", "ROLE01", "1", 0, registry.grants(authorities));
 
             // when
             String level = controller.callDetermineAccessLevel(user, "MENU");
@@ -0,0 +1,136 @@
+package org.example.springadminv2.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Set;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.AuthorityBits;
+import org.example.springadminv2.global.security.authority.AuthorityBitsMethodSecurityExpressionHandler;
+import org.example.springadminv2.global.security.authority.AuthorityGrants;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorityBitsTest {
+
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
+    @Test
+    @DisplayName("보유한 권한의 비트만 true이고 등록되지 않은 권한은 false이다")
+    void has_checks_registered_bits() {
+        // given
+        AuthorityBits bits = AuthorityBits.of(
+                registry, Set.of(new SimpleGrantedAuthority("BITS:R"), new SimpleGrantedAuthority("BITS:W")));
+        registry.register("BITS:X");
+
+        // when & then
+        assertThat(bits.has("BITS:R")).isTrue();
+        assertThat(bits.has("BITS:W")).isTrue();
+        assertThat(bits.has("BITS:X")).isFalse();
+        assertThat(bits.has("BITS:UNREGISTERED")).isFalse();
+        assertThat(bits.hasAny("BITS:X", "BITS:W")).isTrue();
+        assertThat(bits.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("권한 목록은 레지스트리의 공유 인스턴스로 복원된다")
+    void to_authorities_returns_interned_instances() {
+        // given
+        AuthorityBits bits = AuthorityBits.of(registry, List.of(new SimpleGrantedAuthority("BITS:SHARED")));
+
+        // when
+        List<GrantedAuthority> authorities = bits.toAuthorities();
+
+        // then
+        assertThat(authorities).containsExactly(registry.intern("BITS:SHARED"));
+        assertThat(authorities.get(0)).isSameAs(registry.intern("BITS:SHARED"));
+    }
+
+    @Test
+    @DisplayName("64개를 넘는 id도 비트로 표현하고, 직렬화는 id가 아닌 권한 이름으로 한다")
+    void supports_many_ids_and_serializes_names() throws Exception {
+        // given
+        for (int i = 0; i < 130; i++) {
+            registry.register("BITS:FILL" + i);
+        }
+        AuthorityBits bits = AuthorityBits.of(registry, List.of(new SimpleGrantedAuthority("BITS:FILL129")));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(bits);
+        }
+        AuthorityBits restored;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            restored = (AuthorityBits) ois.readObject();
+        }
+
+        // then
+        assertThat(restored.has("BITS:FILL129")).isTrue();
+        assertThat(restored.has("BITS:FILL128")).isFalse();
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(restored.toAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("BITS:FILL129");
+    }
+
+    @Test
+    @DisplayName("같은 권한 집합은 레지스트리에서 같은 공유 묶음을 받고, 공유 수는 게이지로 노출된다")
+    void registry_shares_grants_and_reports_gauge() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResourceAuthorityRegistry registered = new ResourceAuthorityRegistry(meterRegistry);
+        Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("BITS:R"));
+
+        // when
+        AuthorityGrants first = registered.grants(authorities);
+        AuthorityGrants second = registered.grants(Set.copyOf(authorities));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(registered.owns(first)).isTrue();
+        assertThat(registry.owns(first)).isFalse();
+        assertThat(meterRegistry.get("security.authority.grants.shared").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("표현식 핸들러는 CustomUserDetails principal의 hasAuthority를 비트셋으로 판정한다")
+    void expression_handler_checks_bits() throws Exception {
+        // given
+        CustomUserDetails user = new CustomUserDetails(
+                "user01", "pwd", "ROLE01", "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("BITS:EXPR"))));
+        // 토큰 권한을 비워 두어 비트셋으로만 판정되는지 확인한다
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+        MethodSecurityExpressionHandler handler = new AuthorityBitsMethodSecurityExpressionHandler();
+        EvaluationContext context = handler.createEvaluationContext(
+                () -> authentication, new SimpleMethodInvocation(this, Object.class.getMethod("toString")));
+
+        // when
+        Boolean granted = handler.getExpressionParser()
+                .parseExpression("hasAuthority('BITS:EXPR') and isAuthenticated()")
+                .getValue(context, Boolean.class);
+        Boolean denied = handler.getExpressionParser()
+                .parseExpression("hasAnyAuthority('BITS:NONE')")
+                .getValue(context, Boolean.class);
+
+        // then
+        assertThat(granted).isTrue();
+        assertThat(denied).isFalse();
+    }
+}
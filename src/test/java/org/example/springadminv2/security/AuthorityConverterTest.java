@@ -1,5 +1,6 @@
 package org.example.springadminv2.security;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -15,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -28,13 +30,19 @@ class AuthorityConverterTest {
     @InjectMocks
     AuthorityConverter converter;
 
+    private static List<GrantedAuthority> authorities(String... names) {
+        return Arrays.stream(names)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
     @Test
     @DisplayName("READ 권한 변환 시 파생 리소스만 반환한다")
     void convert_read_returns_derived_resources_only() {
         // given
         List<MenuPermission> permissions = List.of(new MenuPermission("v3_menu_manage", "R"));
-        given(menuResourcePermissions.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ))
-                .willReturn(Set.of("MENU:R"));
+        given(menuResourcePermissions.getGrantedAuthorities("v3_menu_manage", MenuAccessLevel.READ))
+                .willReturn(authorities("MENU:R"));
 
         // when
         Set<GrantedAuthority> result = converter.convert(permissions);
@@ -48,8 +56,8 @@ class AuthorityConverterTest {
     void convert_write_returns_read_and_write_derived_resources() {
         // given
         List<MenuPermission> permissions = List.of(new MenuPermission("v3_role_manage", "W"));
-        given(menuResourcePermissions.getDerivedResourceAuthorities("v3_role_manage", MenuAccessLevel.WRITE))
-                .willReturn(Set.of("ROLE:R", "ROLE:W", "MENU:R"));
+        given(menuResourcePermissions.getGrantedAuthorities("v3_role_manage", MenuAccessLevel.WRITE))
+                .willReturn(authorities("ROLE:R", "ROLE:W", "MENU:R"));
 
         // when
         Set<GrantedAuthority> result = converter.convert(permissions);
@@ -78,8 +86,8 @@ class AuthorityConverterTest {
     void convert_unknown_menu_returns_empty() {
         // given
         List<MenuPermission> permissions = List.of(new MenuPermission("UNKNOWN_MENU", "W"));
-        given(menuResourcePermissions.getDerivedResourceAuthorities("UNKNOWN_MENU", MenuAccessLevel.WRITE))
-                .willReturn(Collections.emptySet());
+        given(menuResourcePermissions.getGrantedAuthorities("UNKNOWN_MENU", MenuAccessLevel.WRITE))
+                .willReturn(List.of());
 
         // when
         Set<GrantedAuthority> result = converter.convert(permissions);
@@ -94,10 +102,10 @@ class AuthorityConverterTest {
         // given
         List<MenuPermission> permissions =
                 List.of(new MenuPermission("v3_menu_manage", "R"), new MenuPermission("v3_role_manage", "W"));
-        given(menuResourcePermissions.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ))
-                .willReturn(Set.of("MENU:R"));
-        given(menuResourcePermissions.getDerivedResourceAuthorities("v3_role_manage", MenuAccessLevel.WRITE))
-                .willReturn(Set.of("ROLE:R", "ROLE:W", "MENU:R"));
+        given(menuResourcePermissions.getGrantedAuthorities("v3_menu_manage", MenuAccessLevel.READ))
+                .willReturn(authorities("MENU:R"));
+        given(menuResourcePermissions.getGrantedAuthorities("v3_role_manage", MenuAccessLevel.WRITE))
+                .willReturn(authorities("ROLE:R", "ROLE:W", "MENU:R"));
 
         // when
         Set<GrantedAuthority> result = converter.convert(permissions);
@@ -6,6 +6,7 @@ import javax.sql.DataSource;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.example.springadminv2.global.security.dto.AuthenticatedUser;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserPermissionRow;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.example.springadminv2.testcontainer.MySqlContainerConfig;
 import org.junit.jupiter.api.BeforeAll;
@@ -136,4 +137,62 @@ class AuthorityMapperMySqlTest {
         List<MenuPermission> perms = mapper.selectMenuPermissionsByUserId("noone");
         assertThat(perms).isEmpty();
     }
+
+    @Test
+    @DisplayName("selectUserWithUserMenus — 사용자와 사용자 권한을 한 번에 조회")
+    void selectUserWithUserMenus() {
+        List<UserPermissionRow> rows = mapper.selectUserWithUserMenus("admin");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).toUser().roleId()).isEqualTo("ADMIN");
+        assertThat(UserPermissionRow.permissionsOf(rows))
+                .extracting(MenuPermission::menuId)
+                .containsExactlyInAnyOrder("v3_menu_manage", "v3_role_manage");
+    }
+
+    @Test
+    @DisplayName("selectUserWithUserMenus — 없는 사용자는 빈 리스트")
+    void selectUserWithUserMenus_not_found() {
+        assertThat(mapper.selectUserWithUserMenus("noone")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("addLoginFailCount / resetLoginFailCount — 합산 증가(maxCount에서 멈춤)와 초기화")
+    void loginFailCount() {
+        mapper.addLoginFailCount("admin", 3, 5, "20260301120000");
+        assertThat(mapper.selectUserById("admin").loginFailCount()).isEqualTo(3);
+        mapper.addLoginFailCount("admin", 8, 5, "20260301120000");
+        assertThat(mapper.selectUserById("admin").loginFailCount()).isEqualTo(5);
+
+        int reset = mapper.resetLoginFailCount("admin");
+        int noop = mapper.resetLoginFailCount("admin");
+
+        assertThat(reset).isEqualTo(1);
+        assertThat(noop).isZero();
+        assertThat(mapper.selectUserById("admin").loginFailCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("resetExpiredLoginFailCounts — 마지막 실패가 기준 시각보다 오래된 계정만 잠금 해제")
+    void resetExpiredLoginFailCounts() {
+        mapper.addLoginFailCount("admin", 5, 5, "20260301120000");
+        mapper.addLoginFailCount("user01", 5, 5, "20260301123000");
+
+        int reset = mapper.resetExpiredLoginFailCounts("20260301121000");
+
+        assertThat(reset).isEqualTo(1);
+        assertThat(mapper.selectUserById("admin").loginFailCount()).isZero();
+        assertThat(mapper.selectUserById("user01").loginFailCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("updatePassword — 저장된 해시가 같을 때만 변경")
+    void updatePassword() {
+        int stale = mapper.updatePassword("user01", "{noop}other", "{noop}changed");
+        int updated = mapper.updatePassword("user01", "{noop}user01", "{noop}rehashed");
+
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(mapper.selectUserById("user01").password()).isEqualTo("{noop}rehashed");
+    }
 }
@@ -7,6 +7,8 @@ import java.util.stream.Collectors;
 import org.example.springadminv2.global.security.config.MenuResourcePermissions;
 import org.example.springadminv2.global.security.converter.AuthorityConverter;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
+import org.example.springadminv2.global.security.dto.UserPermissionRow;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.example.springadminv2.global.security.provider.UserMenuAuthorityProvider;
 import org.junit.jupiter.api.BeforeEach;
@@ -102,4 +104,40 @@ class AuthorityProviderTest {
         // then
         assertThat(authorities).isEmpty();
     }
+
+    @Test
+    @DisplayName("로그인 조회: 사용자와 권한을 한 번에 읽어 변환한다")
+    void load_user_authorities_from_single_query() {
+        // given
+        given(authorityMapper.selectUserWithUserMenus("admin"))
+                .willReturn(List.of(
+                        new UserPermissionRow("admin", "pwd", "ADMIN", "1", 0, "v3_menu_manage", "W"),
+                        new UserPermissionRow("admin", "pwd", "ADMIN", "1", 0, "v3_role_manage", "R")));
+
+        // when
+        UserAuthorities loaded = provider.loadUserAuthorities("admin");
+
+        // then
+        assertThat(loaded.user().userId()).isEqualTo("admin");
+        assertThat(loaded.user().roleId()).isEqualTo("ADMIN");
+        Set<String> names = loaded.authorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        assertThat(names).containsExactlyInAnyOrder("MENU:R", "MENU:W", "ROLE:R");
+    }
+
+    @Test
+    @DisplayName("로그인 조회: 권한 없는 사용자는 MENU_ID가 null인 한 행 → 빈 권한")
+    void load_user_authorities_without_permissions() {
+        // given
+        given(authorityMapper.selectUserWithUserMenus("disabled"))
+                .willReturn(List.of(new UserPermissionRow("disabled", "pwd", "USER", "1", 0, null, null)));
+
+        // when
+        UserAuthorities loaded = provider.loadUserAuthorities("disabled");
+
+        // then
+        assertThat(loaded.user().userId()).isEqualTo("disabled");
+        assertThat(loaded.authorities()).isEmpty();
+    }
 }
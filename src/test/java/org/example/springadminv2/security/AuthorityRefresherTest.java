@@ -0,0 +1,179 @@
+package org.example.springadminv2.security;
+
+import java.util.Set;
+
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.AuthorityRefreshFilter;
+import org.example.springadminv2.global.security.authority.AuthorityRefresher;
+import org.example.springadminv2.global.security.authority.AuthorityVersions;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.example.springadminv2.global.security.provider.AuthorityProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorityRefresherTest {
+
+    @Mock
+    AuthorityProvider authorityProvider;
+
+    AuthorityVersions authorityVersions;
+    ResourceAuthorityRegistry registry;
+    SimpleMeterRegistry meterRegistry;
+    AuthorityRefresher refresher;
+
+    private final Set<GrantedAuthority> readOnly = Set.of(new SimpleGrantedAuthority("MENU:R"));
+    private final Set<GrantedAuthority> readWrite =
+            Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W"));
+
+    @BeforeEach
+    void setUp() {
+        authorityVersions = new AuthorityVersions();
+        registry = new ResourceAuthorityRegistry();
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new AuthorityRefresher(authorityProvider, authorityVersions, registry, meterRegistry);
+    }
+
+    private Authentication login(String userId, String roleId) {
+        return login(userId, roleId, registry);
+    }
+
+    private Authentication login(String userId, String roleId, ResourceAuthorityRegistry grantedBy) {
+        CustomUserDetails user = new CustomUserDetails(
+                userId, "pwd", roleId, "1", 0, grantedBy.grants(readOnly), authorityVersions.current(userId, roleId));
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+    }
+
+    @Nested
+    @DisplayName("AuthorityRefresher")
+    class Refresh {
+
+        @Test
+        @DisplayName("권한 버전이 같으면 다시 계산하지 않는다")
+        void skips_when_version_unchanged() {
+            // given
+            Authentication authentication = login("user01", "ROLE01");
+            authorityVersions.onMenuPermissionChanged(MenuPermissionChangedEvent.ofRoles("ROLE02"));
+            authorityVersions.onMenuPermissionChanged(MenuPermissionChangedEvent.ofUsers("user02"));
+
+            // when
+            Authentication result = refresher.refresh(authentication);
+
+            // then
+            assertThat(result).isNull();
+            then(authorityProvider).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("역할 권한이 바뀌면 AuthorityProvider로 다시 계산하고 새 버전을 기록한다")
+        void refreshes_affected_role() {
+            // given
+            Authentication authentication = login("user01", "ROLE01");
+            authorityVersions.onMenuPermissionChanged(MenuPermissionChangedEvent.ofRoles("ROLE01"));
+            given(authorityProvider.getAuthorities("user01", "ROLE01")).willReturn(readWrite);
+
+            // when
+            Authentication result = refresher.refresh(authentication);
+
+            // then
+            CustomUserDetails refreshed = (CustomUserDetails) result.getPrincipal();
+            assertThat(refreshed.hasAuthority("MENU:W")).isTrue();
+            assertThat(refreshed.getAuthorityVersion()).isEqualTo(authorityVersions.current("user01", "ROLE01"));
+            assertThat(result.getAuthorities())
+                    .extracting(GrantedAuthority::getAuthority)
+                    .contains("MENU:W");
+            assertThat(refresher.refresh(result)).isNull();
+            assertThat(meterRegistry.counter("security.authority.refresh").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("전체 변경 이벤트는 모든 세션을 다시 계산하게 한다")
+        void all_change_refreshes_every_session() {
+            // given
+            Authentication authentication = login("user01", "ROLE01");
+            authorityVersions.onMenuPermissionChanged(MenuPermissionChangedEvent.ofUsers());
+            given(authorityProvider.getAuthorities("user01", "ROLE01")).willReturn(readOnly);
+
+            // when
+            Authentication result = refresher.refresh(authentication);
+
+            // then
+            assertThat(result).isNotNull();
+        }
+
+        @Test
+        @DisplayName("레지스트리의 공유 묶음이 아닌 권한(역직렬화된 세션)은 버전이 같아도 다시 계산한다")
+        void refreshes_grants_from_other_registry() {
+            // given
+            Authentication authentication = login("user01", "ROLE01", new ResourceAuthorityRegistry());
+            given(authorityProvider.getAuthorities("user01", "ROLE01")).willReturn(readOnly);
+
+            // when
+            Authentication result = refresher.refresh(authentication);
+
+            // then
+            CustomUserDetails refreshed = (CustomUserDetails) result.getPrincipal();
+            assertThat(registry.owns(refreshed.getGrants())).isTrue();
+            assertThat(refreshed.getGrants()).isSameAs(registry.grants(readOnly));
+            assertThat(refresher.refresh(result)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("AuthorityRefreshFilter")
+    class Filter {
+
+        @AfterEach
+        void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("바뀐 권한을 현재 SecurityContext와 세션에 반영한다")
+        void swaps_context_and_saves_to_session() throws Exception {
+            // given
+            SecurityContext context = new SecurityContextImpl(login("user01", "ROLE01"));
+            SecurityContextHolder.setContext(context);
+            authorityVersions.onMenuPermissionChanged(MenuPermissionChangedEvent.ofUsers("user01"));
+            given(authorityProvider.getAuthorities("user01", "ROLE01")).willReturn(readWrite);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // when
+            new AuthorityRefreshFilter(refresher)
+                    .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            // then
+            Authentication current = SecurityContextHolder.getContext().getAuthentication();
+            assertThat(((CustomUserDetails) current.getPrincipal()).hasAuthority("MENU:W"))
+                    .isTrue();
+            SecurityContext saved = (SecurityContext)
+                    request.getSession().getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+            assertThat(saved.getAuthentication()).isSameAs(current);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.springadminv2.security;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.springadminv2.global.security.password.BoundedPasswordEncoder;
+import org.example.springadminv2.global.security.password.PasswordVerificationBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry meterRegistry;
+    CountDownLatch started;
+    CountDownLatch release;
+
+    /** release될 때까지 검증을 붙잡아 두는 인코더 */
+    PasswordEncoder blocking;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+                .get("security.password.rejected")
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("검증 결과를 위임하고 결과별 소요 시간을 기록한다")
+    void delegates_and_records_latency() {
+        // given
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(bcrypt, 2, 4, Duration.ofSeconds(1), meterRegistry);
+        String hash = encoder.encode("secret");
+
+        // when
+        boolean matched = encoder.matches("secret", hash);
+        boolean mismatched = encoder.matches("wrong", hash);
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat(mismatched).isFalse();
+        assertThat(meterRegistry
+                        .get("security.password.verify")
+                        .tag("result", "match")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("security.password.verify")
+                        .tag("result", "mismatch")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 가득 차고 대기열도 없으면 바로 거절한다")
+    void rejects_when_queue_full() throws Exception {
+        // given
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(blocking, 1, 0, Duration.ofSeconds(1), meterRegistry);
+        CompletableFuture<Boolean> inFlight = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("b", "b")).isInstanceOf(PasswordVerificationBusyException.class);
+        assertThat(rejected("queue_full")).isEqualTo(1);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 제한 시간 안에 차례가 오지 않으면 거절한다")
+    void rejects_on_queue_timeout() throws Exception {
+        // given
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.matches("a", "a"));
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("b", "b")).isInstanceOf(PasswordVerificationBusyException.class);
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정보다 낮으면 재해시 대상이다")
+    void upgrade_encoding_when_cost_increases() {
+        // given
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        BoundedPasswordEncoder encoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, Duration.ofSeconds(1), meterRegistry);
+
+        // when & then
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+}
@@ -4,7 +4,10 @@ import java.util.Set;
 
 import org.example.springadminv2.global.security.CustomUserDetails;
 import org.example.springadminv2.global.security.CustomUserDetailsService;
+import org.example.springadminv2.global.security.authority.AuthorityVersions;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.example.springadminv2.global.security.dto.AuthenticatedUser;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.example.springadminv2.global.security.provider.AuthorityProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +35,12 @@ class CustomUserDetailsServiceTest {
     @Mock
     AuthorityProvider authorityProvider;
 
+    @Mock
+    AuthorityVersions authorityVersions;
+
+    @Spy
+    ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
     @InjectMocks
     CustomUserDetailsService service;
 
@@ -39,8 +50,8 @@ class CustomUserDetailsServiceTest {
         // given
         AuthenticatedUser authUser = new AuthenticatedUser("admin", "encPwd", "ROLE_ADMIN", "1", 0);
         Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("MENU:R"));
-        given(authorityMapper.selectUserById("admin")).willReturn(authUser);
-        given(authorityProvider.getAuthorities("admin", "ROLE_ADMIN")).willReturn(authorities);
+        given(authorityProvider.loadUserAuthorities("admin")).willReturn(new UserAuthorities(authUser, authorities));
+        given(authorityVersions.current("admin", "ROLE_ADMIN")).willReturn(3L);
 
         // when
         CustomUserDetails result = (CustomUserDetails) service.loadUserByUsername("admin");
@@ -51,17 +62,74 @@ class CustomUserDetailsServiceTest {
         assertThat(result.getRoleId()).isEqualTo("ROLE_ADMIN");
         assertThat(result.isEnabled()).isTrue();
         assertThat(result.getAuthorities()).hasSize(1);
+        assertThat(result.getAuthorityVersion()).isEqualTo(3L);
     }
 
     @Test
     @DisplayName("존재하지 않는 사용자 조회 시 UsernameNotFoundException을 던진다")
     void load_user_by_username_throws_when_user_not_found() {
         // given
-        given(authorityMapper.selectUserById("unknown")).willReturn(null);
+        given(authorityProvider.loadUserAuthorities("unknown")).willReturn(null);
 
         // when & then
         assertThatThrownBy(() -> service.loadUserByUsername("unknown"))
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessageContaining("unknown");
     }
+
+    @Test
+    @DisplayName("조회 도중 권한이 변경되면 버전을 UNKNOWN으로 기록해 다음 요청에서 다시 계산되게 한다")
+    void load_user_by_username_marks_version_unknown_when_changed_during_load() {
+        // given
+        AuthenticatedUser authUser = new AuthenticatedUser("admin", "encPwd", "ROLE_ADMIN", "1", 0);
+        given(authorityVersions.sequence()).willReturn(7L, 8L);
+        given(authorityProvider.loadUserAuthorities("admin")).willReturn(new UserAuthorities(authUser, Set.of()));
+        given(authorityVersions.current("admin", "ROLE_ADMIN")).willReturn(4L);
+
+        // when
+        CustomUserDetails result = (CustomUserDetails) service.loadUserByUsername("admin");
+
+        // then
+        assertThat(result.getAuthorityVersion()).isEqualTo(AuthorityVersions.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("재해시 결과를 저장하고 새 해시를 가진 사용자 정보를 반환한다")
+    void update_password_stores_rehash() {
+        // given
+        CustomUserDetails user = new CustomUserDetails(
+                "admin",
+                "oldHash",
+                "ROLE_ADMIN",
+                "1",
+                0,
+                registry.grants(Set.of(new SimpleGrantedAuthority("MENU:R"))));
+        given(authorityMapper.updatePassword("admin", "oldHash", "newHash")).willReturn(1);
+
+        // when
+        UserDetails result = service.updatePassword(user, "newHash");
+
+        // then
+        assertThat(result.getPassword()).isEqualTo("newHash");
+        assertThat(((CustomUserDetails) result).hasAuthority("MENU:R")).isTrue();
+    }
+
+    @Test
+    @DisplayName("그 사이 비밀번호가 바뀌었거나 저장에 실패하면 기존 사용자 정보를 반환한다")
+    void update_password_keeps_user_when_not_updated() {
+        // given
+        CustomUserDetails user =
+                new CustomUserDetails("admin", "oldHash", "ROLE_ADMIN", "1", 0, registry.grants(Set.of()));
+        given(authorityMapper.updatePassword("admin", "oldHash", "newHash")).willReturn(0);
+        given(authorityMapper.updatePassword("admin", "oldHash", "failHash"))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        UserDetails notUpdated = service.updatePassword(user, "newHash");
+        UserDetails failed = service.updatePassword(user, "failHash");
+
+        // then
+        assertThat(notUpdated).isSameAs(user);
+        assertThat(failed).isSameAs(user);
+    }
 }
@@ -1,17 +1,30 @@
 package org.example.springadminv2.security;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Set;
 
 import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CustomUserDetailsTest {
 
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
     @Test
     @DisplayName("정상 사용자는 활성화 상태이고 잠금되지 않는다")
     void normal_user_is_enabled_and_not_locked() {
@@ -19,7 +32,7 @@ class CustomUserDetailsTest {
         Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("MENU:R"));
 
         // when
-        CustomUserDetails user = new CustomUserDetails("user01", "pwd", "ROLE01", "1", 0, authorities);
+        CustomUserDetails user = new CustomUserDetails("user01", "pwd", "ROLE01", "1", 0, registry.grants(authorities));
 
         // then
         assertThat(user.getUsername()).isEqualTo("user01");
@@ -36,7 +49,7 @@ class CustomUserDetailsTest {
     @DisplayName("비활성 상태 코드의 사용자는 isEnabled가 false")
     void disabled_user_state_code() {
         // given & when
-        CustomUserDetails user = new CustomUserDetails("user02", "pwd", "ROLE01", "0", 0, Set.of());
+        CustomUserDetails user = new CustomUserDetails("user02", "pwd", "ROLE01", "0", 0, registry.grants(Set.of()));
 
         // then
         assertThat(user.isEnabled()).isFalse();
@@ -46,7 +59,7 @@ class CustomUserDetailsTest {
     @DisplayName("로그인 실패 5회 이상이면 계정 잠금")
     void locked_after_max_login_failures() {
         // given & when
-        CustomUserDetails user = new CustomUserDetails("user03", "pwd", "ROLE01", "1", 5, Set.of());
+        CustomUserDetails user = new CustomUserDetails("user03", "pwd", "ROLE01", "1", 5, registry.grants(Set.of()));
 
         // then
         assertThat(user.isAccountNonLocked()).isFalse();
@@ -56,9 +69,78 @@ class CustomUserDetailsTest {
     @DisplayName("로그인 실패 횟수가 최대치 미만이면 잠금되지 않는다")
     void not_locked_below_max_login_failures() {
         // given & when
-        CustomUserDetails user = new CustomUserDetails("user04", "pwd", "ROLE01", "1", 4, Set.of());
+        CustomUserDetails user = new CustomUserDetails("user04", "pwd", "ROLE01", "1", 4, registry.grants(Set.of()));
 
         // then
         assertThat(user.isAccountNonLocked()).isTrue();
     }
+
+    @Test
+    @DisplayName("권한 집합이 같은 사용자는 권한 비트셋과 GrantedAuthority 목록을 공유한다")
+    void same_authorities_share_grants() {
+        // given
+        Set<GrantedAuthority> authorities =
+                Set.of(new SimpleGrantedAuthority("MENU:R"), new SimpleGrantedAuthority("MENU:W"));
+
+        // when
+        CustomUserDetails user1 =
+                new CustomUserDetails("user01", "pwd", "ROLE01", "1", 0, registry.grants(authorities));
+        CustomUserDetails user2 =
+                new CustomUserDetails("user02", "pwd", "ROLE01", "1", 0, registry.grants(Set.copyOf(authorities)));
+
+        // then
+        assertThat(user1.getGrants()).isSameAs(user2.getGrants());
+        assertThat(user1.getAuthorities()).isSameAs(user2.getAuthorities());
+        assertThat(user1.getAccessLevel("MENU")).isEqualTo("W");
+    }
+
+    @Test
+    @DisplayName("인증이 끝나면 세션 principal의 비밀번호 해시를 지운다")
+    @SuppressWarnings("deprecation")
+    void password_erased_after_authentication() {
+        // given
+        CustomUserDetails user = new CustomUserDetails(
+                "user01", "pwd", "ROLE01", "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("MENU:R"))));
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(username -> user);
+        provider.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
+        ProviderManager manager = new ProviderManager(provider);
+
+        // when
+        Authentication result =
+                manager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user01", "pwd"));
+
+        // then
+        assertThat(result.getPrincipal()).isSameAs(user);
+        assertThat(user.getPassword()).isNull();
+        assertThat(result.getCredentials()).isNull();
+    }
+
+    @Test
+    @DisplayName("역직렬화된 세션 principal은 권한 이름으로 복원되고 레지스트리와 분리된다")
+    void deserialized_user_restores_grants_by_name() throws IOException, ClassNotFoundException {
+        // given
+        CustomUserDetails user = new CustomUserDetails(
+                "user01", "pwd", "ROLE01", "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("MENU:R"))));
+        user.eraseCredentials();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(user);
+        }
+
+        // when
+        CustomUserDetails restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (CustomUserDetails) in.readObject();
+        }
+
+        // then
+        assertThat(registry.owns(restored.getGrants())).isFalse();
+        assertThat(restored.getPassword()).isNull();
+        assertThat(restored.hasAuthority("MENU:R")).isTrue();
+        assertThat(restored.getAccessLevel("MENU")).isEqualTo("R");
+        assertThat(restored.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("MENU:R");
+    }
 }
@@ -0,0 +1,295 @@
+package org.example.springadminv2.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.springadminv2.global.config.BatchSqlSession;
+import org.example.springadminv2.global.exception.BaseException;
+import org.example.springadminv2.global.exception.ErrorType;
+import org.example.springadminv2.global.security.mapper.AuthorityMapper;
+import org.example.springadminv2.global.security.throttle.LoginFailCountWriter;
+import org.example.springadminv2.global.security.throttle.LoginThrottle;
+import org.example.springadminv2.global.security.throttle.LoginThrottleFilter;
+import org.example.springadminv2.global.security.throttle.LoginThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    private static final Duration USER_WINDOW = Duration.ofMinutes(15);
+
+    private static final Clock CLOCK =
+            Clock.fixed(LocalDateTime.of(2026, 3, 1, 12, 30, 0).toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    @Mock
+    BatchSqlSession batchSqlSession;
+
+    @Mock
+    AuthorityMapper authorityMapper;
+
+    SimpleMeterRegistry meterRegistry;
+    LoginFailCountWriter failCountWriter;
+    LoginThrottle throttle;
+    AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+        failCountWriter = new LoginFailCountWriter(batchSqlSession, meterRegistry, Duration.ofMinutes(30), CLOCK);
+        throttle =
+                new LoginThrottle(3, USER_WINDOW, 5, Duration.ofMinutes(5), failCountWriter, meterRegistry, now::get);
+    }
+
+    private double blocked(String scope) {
+        return meterRegistry
+                .get("security.login.blocked")
+                .tag("scope", scope)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    @DisplayName("LoginThrottle")
+    class Windows {
+
+        @Test
+        @DisplayName("사용자 실패가 윈도우 안에서 임계치에 도달하면 차단하고 메트릭을 올린다")
+        void blocks_user_after_max_failures() {
+            // given
+            for (int i = 0; i < 3; i++) {
+                throttle.recordFailure("user01", "10.0.0." + i);
+            }
+
+            // when & then
+            assertThatThrownBy(() -> throttle.check("user01", "10.0.0.9")).isInstanceOf(LoginThrottledException.class);
+            assertThatCode(() -> throttle.check("user02", "10.0.0.9")).doesNotThrowAnyException();
+            assertThat(blocked("user")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("가장 오래된 실패가 윈도우를 벗어나면 다시 허용한다")
+        void unblocks_when_oldest_failure_slides_out() {
+            // given
+            throttle.recordFailure("user01", "10.0.0.1");
+            now.addAndGet(Duration.ofMinutes(10).toNanos());
+            throttle.recordFailure("user01", "10.0.0.1");
+            throttle.recordFailure("user01", "10.0.0.1");
+
+            // when
+            now.addAndGet(Duration.ofMinutes(6).toNanos());
+
+            // then
+            assertThatCode(() -> throttle.check("user01", "10.0.0.1")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("같은 IP에서 여러 사용자로 실패하면 IP 기준으로 차단한다")
+        void blocks_ip_across_users() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                throttle.recordFailure("spray" + i, "10.0.0.1");
+            }
+
+            // when & then
+            assertThatThrownBy(() -> throttle.check("someone", "10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+            assertThat(blocked("ip")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("로그인 성공은 사용자 윈도우를 비운다")
+        void success_clears_user_window() {
+            // given
+            for (int i = 0; i < 3; i++) {
+                throttle.recordFailure("user01", "10.0.0.1");
+            }
+
+            // when
+            throttle.recordSuccess("user01");
+
+            // then
+            assertThatCode(() -> throttle.check("user01", "10.0.0.2")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("임계치가 0이면 그 범위의 제한을 끄고, 계정 실패 횟수는 계속 센다")
+        void zero_limit_disables_window() {
+            // given
+            given(batchSqlSession.getMapper(AuthorityMapper.class)).willReturn(authorityMapper);
+            LoginThrottle disabled = new LoginThrottle(
+                    0, USER_WINDOW, 0, Duration.ofMinutes(5), failCountWriter, meterRegistry, now::get);
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                disabled.recordFailure("user01", "10.0.0.1");
+            }
+
+            // then
+            assertThatCode(() -> disabled.check("user01", "10.0.0.1")).doesNotThrowAnyException();
+            failCountWriter.flush();
+            then(authorityMapper).should().addLoginFailCount("user01", 10, 5, "20260301123000");
+        }
+
+        @Test
+        @DisplayName("임계치가 음수면 생성 시 INVALID_INPUT 예외를 던진다")
+        void rejects_negative_limit() {
+            assertThatThrownBy(() -> new LoginThrottle(
+                            -1, USER_WINDOW, 5, Duration.ofMinutes(5), failCountWriter, meterRegistry, now::get))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorType")
+                    .isEqualTo(ErrorType.INVALID_INPUT);
+        }
+
+        @Test
+        @DisplayName("자격 증명 오류 이벤트에서 사용자와 요청 IP를 기록한다")
+        void records_bad_credentials_event() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr("10.0.0.7");
+            UsernamePasswordAuthenticationToken token =
+                    UsernamePasswordAuthenticationToken.unauthenticated("user01", "wrong");
+            token.setDetails(new WebAuthenticationDetails(request));
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                throttle.onFailure(new AuthenticationFailureBadCredentialsEvent(
+                        token, new BadCredentialsException("Bad credentials")));
+            }
+
+            // then
+            assertThatThrownBy(() -> throttle.check("user01", "10.0.0.8")).isInstanceOf(LoginThrottledException.class);
+            assertThat(meterRegistry.get("security.login.failures").counter().count())
+                    .isEqualTo(3.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("LoginFailCountWriter")
+    class FailCountWriter {
+
+        @Test
+        @DisplayName("주기 동안의 실패를 사용자별로 합쳐 batch UPDATE 한 번으로 반영한다")
+        void coalesces_failures_per_user() {
+            // given
+            given(batchSqlSession.getMapper(AuthorityMapper.class)).willReturn(authorityMapper);
+            for (int i = 0; i < 4; i++) {
+                failCountWriter.recordFailure("user01");
+            }
+            failCountWriter.recordFailure("user02");
+
+            // when
+            failCountWriter.flush();
+            failCountWriter.flush();
+
+            // then
+            then(authorityMapper).should().addLoginFailCount("user01", 4, 5, "20260301123000");
+            then(authorityMapper).should().addLoginFailCount("user02", 1, 5, "20260301123000");
+            then(batchSqlSession).should().flushStatements();
+        }
+
+        @Test
+        @DisplayName("주기 안에 성공이 있으면 이전 실패 대신 초기화만 반영한다")
+        void success_resets_pending_failures() {
+            // given
+            given(batchSqlSession.getMapper(AuthorityMapper.class)).willReturn(authorityMapper);
+            failCountWriter.recordFailure("user01");
+            failCountWriter.recordSuccess("user01");
+
+            // when
+            failCountWriter.flush();
+
+            // then
+            then(authorityMapper).should().resetLoginFailCount("user01");
+            then(authorityMapper).should(never()).addLoginFailCount("user01", 1, 5, "20260301123000");
+        }
+
+        @Test
+        @DisplayName("마지막 실패 후 잠금 시간이 지난 계정의 실패 횟수를 되돌린다")
+        void resets_expired_locks() {
+            // given
+            given(batchSqlSession.getMapper(AuthorityMapper.class)).willReturn(authorityMapper);
+
+            // when
+            failCountWriter.resetExpiredLocks();
+
+            // then
+            then(authorityMapper).should().resetExpiredLoginFailCounts("20260301120000");
+            then(batchSqlSession).should().flushStatements();
+        }
+    }
+
+    @Nested
+    @DisplayName("LoginThrottleFilter")
+    class Filter {
+
+        @Test
+        @DisplayName("차단된 로그인 요청은 다음 필터(인증)로 넘기지 않고 실패 URL로 보낸다")
+        void rejects_blocked_login_before_authentication() throws Exception {
+            // given
+            for (int i = 0; i < 3; i++) {
+                throttle.recordFailure("user01", "10.0.0.1");
+            }
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+            request.setServletPath("/login");
+            request.setParameter("username", "user01");
+            request.setRemoteAddr("10.0.0.2");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            new LoginThrottleFilter(throttle, new SimpleUrlAuthenticationFailureHandler("/login?blocked"))
+                    .doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNull();
+            assertThat(response.getRedirectedUrl()).isEqualTo("/login?blocked");
+        }
+
+        @Test
+        @DisplayName("로그인 요청이 아니면 검사하지 않는다")
+        void passes_other_requests() throws Exception {
+            // given
+            for (int i = 0; i < 5; i++) {
+                throttle.recordFailure("user" + i, "10.0.0.1");
+            }
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/login");
+            request.setServletPath("/login");
+            request.setRemoteAddr("10.0.0.1");
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            new LoginThrottleFilter(throttle, new SimpleUrlAuthenticationFailureHandler("/login?blocked"))
+                    .doFilter(request, new MockHttpServletResponse(), chain);
+
+            // then
+            assertThat(chain.getRequest()).isSameAs(request);
+        }
+    }
+}
@@ -1,14 +1,36 @@
 package org.example.springadminv2.security;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.cache.CacheInvalidationBus;
+import org.example.springadminv2.global.cache.event.CacheRegionInvalidatedEvent;
+import org.example.springadminv2.global.exception.BaseException;
 import org.example.springadminv2.global.security.config.MenuResourcePermissions;
+import org.example.springadminv2.global.security.config.MenuResourcePermissionsReloader;
 import org.example.springadminv2.global.security.constant.MenuAccessLevel;
+import org.example.springadminv2.global.security.dto.MenuAuthorityChange;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.core.GrantedAuthority;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class MenuResourcePermissionsTest {
 
@@ -108,4 +130,172 @@ class MenuResourcePermissionsTest {
         // then
         assertThat(result).containsExactlyInAnyOrder("MESSAGEINSTANCE:R", "ORG:R");
     }
+
+    @Test
+    @DisplayName("같은 권한 문자열은 메뉴와 레벨에 관계없이 같은 GrantedAuthority 인스턴스를 공유한다")
+    void granted_authorities_are_interned_and_deduplicated() {
+        // given
+        MenuResourcePermissions p = new MenuResourcePermissions();
+        p.setPermissions(Map.of(
+                "v3_role_manage", Map.of("R", "ROLE:R, MENU:R, ROLE:R", "W", "ROLE:W, MENU:R"),
+                "v3_menu_manage", Map.of("R", "MENU:R", "W", "MENU:W")));
+
+        // when
+        List<GrantedAuthority> roleWrite = p.getGrantedAuthorities("v3_role_manage", MenuAccessLevel.WRITE);
+        List<GrantedAuthority> menuRead = p.getGrantedAuthorities("v3_menu_manage", MenuAccessLevel.READ);
+
+        // then
+        assertThat(roleWrite).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE:R", "MENU:R", "ROLE:W");
+        assertThat(roleWrite.get(1)).isSameAs(menuRead.get(0));
+        assertThat(p.getGrantedAuthorities("v3_role_manage", MenuAccessLevel.WRITE))
+                .isSameAs(roleWrite);
+        assertThatThrownBy(() -> roleWrite.add(menuRead.get(0))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Nested
+    @DisplayName("재적재")
+    class Reload {
+
+        @TempDir
+        Path dir;
+
+        private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+
+        private MenuResourcePermissionsReloader reloader(MenuResourcePermissions target, Path file) {
+            return new MenuResourcePermissionsReloader(
+                    target,
+                    new DefaultResourceLoader(),
+                    eventPublisher,
+                    cacheInvalidationBus,
+                    new SimpleMeterRegistry(),
+                    file.toUri().toString());
+        }
+
+        private Path write(String yaml) throws IOException {
+            return Files.writeString(dir.resolve("menu-resource-permissions.yml"), yaml);
+        }
+
+        @Test
+        @DisplayName("메뉴·레벨별로 추가/삭제된 권한을 반환하고 새 매핑으로 교체한다")
+        void reload_returns_diff_and_swaps() {
+            // given
+            MenuResourcePermissions p = createPermissions();
+
+            // when
+            List<MenuAuthorityChange> changes = p.reload(Map.of(
+                    "v3_role_manage", Map.of("R", "ROLE:R, MENU:R", "W", "ROLE:W, MENU:R"),
+                    "v3_menu_manage", Map.of("R", "MENU:R, CODE:R", "W", "MENU:W"),
+                    "v3_code_manage", Map.of("R", "CODE:R")));
+
+            // then
+            assertThat(changes)
+                    .containsExactly(
+                            new MenuAuthorityChange("v3_code_manage", "R", List.of("CODE:R"), List.of()),
+                            new MenuAuthorityChange("v3_code_manage", "W", List.of("CODE:R"), List.of()),
+                            new MenuAuthorityChange("v3_db_log", "R", List.of(), List.of("MESSAGEINSTANCE:R", "ORG:R")),
+                            new MenuAuthorityChange("v3_db_log", "W", List.of(), List.of("MESSAGEINSTANCE:R", "ORG:R")),
+                            new MenuAuthorityChange("v3_menu_manage", "R", List.of("CODE:R"), List.of()),
+                            new MenuAuthorityChange("v3_menu_manage", "W", List.of("CODE:R"), List.of()));
+            assertThat(p.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ))
+                    .containsExactly("MENU:R", "CODE:R");
+            assertThat(p.getDerivedResourceAuthorities("v3_db_log", MenuAccessLevel.READ))
+                    .isEmpty();
+            assertThat(p.getPermissions()).containsOnlyKeys("v3_role_manage", "v3_menu_manage", "v3_code_manage");
+        }
+
+        @Test
+        @DisplayName("파일에서 다시 읽어 바뀌면 역할·사용자 권한 변경 이벤트를 발행한다")
+        void reloader_publishes_permission_changed_events() throws IOException {
+            // given
+            MenuResourcePermissions p = createPermissions();
+            Path file = write(
+                    """
+                    menu-resource:
+                      permissions:
+                        v3_menu_manage:
+                          R: MENU:R
+                          W: MENU:W, CODE:W
+                    """);
+
+            // when
+            List<MenuAuthorityChange> changes = reloader(p, file).reload();
+
+            // then
+            assertThat(changes).contains(new MenuAuthorityChange("v3_menu_manage", "W", List.of("CODE:W"), List.of()));
+            assertThat(p.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.WRITE))
+                    .containsExactly("MENU:R", "MENU:W", "CODE:W");
+            then(eventPublisher).should().publishEvent(MenuPermissionChangedEvent.ofRoles());
+            then(eventPublisher).should().publishEvent(MenuPermissionChangedEvent.ofUsers());
+            then(cacheInvalidationBus)
+                    .should()
+                    .publish(MenuResourcePermissionsReloader.REGION_MENU_RESOURCE, CacheInvalidationBus.ALL_KEYS);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 재적재 알림을 받으면 다시 읽되, 다시 알리지는 않는다")
+        void remote_invalidation_reloads_without_republishing() throws IOException {
+            // given
+            MenuResourcePermissions p = createPermissions();
+            Path file = write(
+                    """
+                    menu-resource:
+                      permissions:
+                        v3_menu_manage:
+                          R: MENU:R, CODE:R
+                    """);
+            MenuResourcePermissionsReloader reloader = reloader(p, file);
+
+            // when
+            reloader.onRemoteInvalidation(new CacheRegionInvalidatedEvent("MENU", List.of("v3_menu_manage")));
+            boolean unchangedByOtherRegion = p.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ)
+                    .equals(Set.of("MENU:R"));
+            reloader.onRemoteInvalidation(new CacheRegionInvalidatedEvent(
+                    MenuResourcePermissionsReloader.REGION_MENU_RESOURCE, List.of(CacheInvalidationBus.ALL_KEYS)));
+
+            // then
+            assertThat(unchangedByOtherRegion).isTrue();
+            assertThat(p.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ))
+                    .containsExactly("MENU:R", "CODE:R");
+            then(cacheInvalidationBus).should(never()).publish(any(), any());
+        }
+
+        @Test
+        @DisplayName("바뀐 것이 없으면 이벤트를 발행하지 않는다")
+        void reloader_skips_events_when_unchanged() throws IOException {
+            // given
+            MenuResourcePermissions p = new MenuResourcePermissions();
+            p.setPermissions(Map.of("v3_menu_manage", Map.of("R", "MENU:R", "W", "MENU:W")));
+            Path file = write(
+                    """
+                    menu-resource:
+                      permissions:
+                        v3_menu_manage:
+                          R: MENU:R
+                          W: MENU:W
+                    """);
+
+            // when
+            List<MenuAuthorityChange> changes = reloader(p, file).reload();
+
+            // then
+            assertThat(changes).isEmpty();
+            then(eventPublisher).should(never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("매핑이 비어 있으면 기존 매핑을 유지한다")
+        void reloader_keeps_mapping_when_empty() throws IOException {
+            // given
+            MenuResourcePermissions p = createPermissions();
+            Path file = write("menu-resource:\n  permissions: {}\n");
+
+            // when & then
+            assertThatThrownBy(() -> reloader(p, file).reload()).isInstanceOf(BaseException.class);
+            then(cacheInvalidationBus).should(never()).publish(any(), any());
+            assertThat(p.getDerivedResourceAuthorities("v3_menu_manage", MenuAccessLevel.READ))
+                    .containsExactly("MENU:R");
+            then(eventPublisher).should(never()).publishEvent(any(Object.class));
+        }
+    }
 }
@@ -0,0 +1,245 @@
+package org.example.springadminv2.security;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuTreeSnapshot;
+import org.example.springadminv2.domain.menu.service.MenuTreeCache;
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.example.springadminv2.global.security.authorization.MenuPathTrie;
+import org.example.springadminv2.global.security.authorization.MenuUrlAuthorizationManager;
+import org.example.springadminv2.global.security.config.MenuResourcePermissions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MenuUrlAuthorizationManagerTest {
+
+    @Nested
+    @DisplayName("MenuPathTrie")
+    class Trie {
+
+        private final MenuPathTrie trie = MenuPathTrie.compile(
+                Map.of(
+                        "SYS", "/system",
+                        "v3_menu_manage", "/system/menu",
+                        "v3_role_manage", "/system/role?tab=1",
+                        "EXT", "https://example.com/x",
+                        "ROOT", "/"),
+                1);
+
+        @Test
+        @DisplayName("세그먼트 경계에서 가장 깊게 일치한 메뉴를 찾는다")
+        void resolves_deepest_segment_match() {
+            assertThat(trie.resolve("/system/menu")).containsExactly("v3_menu_manage");
+            assertThat(trie.resolve("/system/menu/detail")).containsExactly("v3_menu_manage");
+            assertThat(trie.resolve("//system/menu/")).containsExactly("v3_menu_manage");
+            assertThat(trie.resolve("/system/menus")).containsExactly("SYS");
+            assertThat(trie.resolve("/system/role;jsessionid=abc")).containsExactly("v3_role_manage");
+        }
+
+        @Test
+        @DisplayName("메뉴 URL이 아닌 경로, 루트·외부 URL 메뉴는 일치하지 않는다")
+        void ignores_unmapped_root_and_external_urls() {
+            assertThat(trie.resolve("/api/menus/tree")).isNull();
+            assertThat(trie.resolve("/")).isNull();
+            assertThat(trie.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("같은 URL의 메뉴는 모두 반환한다")
+        void keeps_all_menus_of_same_url() {
+            MenuPathTrie shared = MenuPathTrie.compile(Map.of("A", "/shared", "B", "/shared/"), 1);
+
+            assertThat(shared.resolve("/shared")).containsExactlyInAnyOrder("A", "B");
+        }
+    }
+
+    @Nested
+    @DisplayName("MenuUrlAuthorizationManager")
+    class Manager {
+
+        @Mock
+        MenuTreeCache menuTreeCache;
+
+        MenuResourcePermissions permissions;
+        ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+        SimpleMeterRegistry meterRegistry;
+        MenuUrlAuthorizationManager manager;
+
+        @BeforeEach
+        void setUp() {
+            permissions = new MenuResourcePermissions();
+            permissions.setPermissions(Map.of(
+                    "v3_menu_manage", Map.of("R", "MENU:R", "W", "MENU:W"),
+                    "v3_role_manage", Map.of("R", "ROLE:R, MENU:R", "W", "ROLE:W, MENU:R")));
+            meterRegistry = new SimpleMeterRegistry();
+            manager = new MenuUrlAuthorizationManager(menuTreeCache, permissions, meterRegistry);
+        }
+
+        private MenuTreeSnapshot snapshot(long version, MenuResponse... menus) {
+            List<MenuResponse> list = List.of(menus);
+            return new MenuTreeSnapshot(version, "fp" + version, list, List.of());
+        }
+
+        private MenuResponse menu(String menuId, String url, String useYn) {
+            return new MenuResponse(menuId, "ROOT", 1, menuId, url, null, "Y", useYn, null, null, null);
+        }
+
+        private Authentication user(String... authorities) {
+            Set<SimpleGrantedAuthority> granted = new HashSet<>();
+            for (String authority : authorities) {
+                granted.add(new SimpleGrantedAuthority(authority));
+            }
+            CustomUserDetails details =
+                    new CustomUserDetails("user01", "pwd", "USER", "1", 0, registry.grants(Set.copyOf(granted)));
+            return UsernamePasswordAuthenticationToken.authenticated(details, null, details.getAuthorities());
+        }
+
+        private boolean granted(Authentication authentication, String path) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+            return manager.check(() -> authentication, new RequestAuthorizationContext(request))
+                    .isGranted();
+        }
+
+        @Test
+        @DisplayName("메뉴 URL은 해당 메뉴의 R 권한을 모두 가진 사용자만 허용한다")
+        void requires_all_read_authorities_of_menu() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(snapshot(
+                            1,
+                            menu("v3_menu_manage", "/system/menu", "Y"),
+                            menu("v3_role_manage", "/system/role", "Y")));
+
+            // when & then
+            assertThat(granted(user("MENU:R"), "/system/menu/detail")).isTrue();
+            assertThat(granted(user("MENU:R"), "/system/role")).isFalse();
+            assertThat(granted(user("MENU:R", "ROLE:R"), "/system/role")).isTrue();
+            assertThat(granted(user(), "/system/menu")).isFalse();
+            assertThat(meterRegistry.get("security.menu_url.denied").counter().count())
+                    .isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("메뉴 URL이 아닌 경로는 인증만 확인한다")
+        void non_menu_paths_require_authentication_only() {
+            // given
+            given(menuTreeCache.get()).willReturn(snapshot(1, menu("v3_menu_manage", "/system/menu", "Y")));
+            Authentication anonymous = new AnonymousAuthenticationToken(
+                    "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+            // when & then
+            assertThat(granted(user(), "/api/menus/tree")).isTrue();
+            assertThat(granted(anonymous, "/api/menus/tree")).isFalse();
+        }
+
+        @Test
+        @DisplayName("리소스 매핑이 없는 메뉴만 걸리면 인증만 확인하고 unmapped 메트릭을 올린다")
+        void unmapped_menu_falls_back_to_authentication() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(snapshot(
+                            1, menu("v3_menu_manage", "/system/menu", "Y"), menu("NEW_SCREEN", "/system/new", "Y")));
+
+            // when & then
+            assertThat(granted(user(), "/system/new")).isTrue();
+            assertThat(granted(user(), "/system/new/detail")).isTrue();
+            assertThat(granted(user(), "/system/menu")).isFalse();
+            assertThat(meterRegistry.get("security.menu_url.unmapped").counter().count())
+                    .isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("같은 URL의 메뉴가 여러 개면 한 메뉴라도 읽을 수 있으면 허용하고, 매핑 없는 복사본은 원본 권한을 따른다")
+        void shared_url_requires_any_readable_menu() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(snapshot(
+                            1,
+                            menu("v3_menu_manage", "/system/menu", "Y"),
+                            menu("v3_role_manage", "/system/menu", "Y"),
+                            menu("COPY_menu_manage", "/system/menu", "Y")));
+
+            // when & then
+            assertThat(granted(user("MENU:R"), "/system/menu")).isTrue();
+            assertThat(granted(user("MENU:R", "ROLE:R"), "/system/menu")).isTrue();
+            assertThat(granted(user("ROLE:R"), "/system/menu")).isFalse();
+            assertThat(granted(user(), "/system/menu")).isFalse();
+        }
+
+        @Test
+        @DisplayName("같은 URL에서 사용하지 않는 메뉴는 판정에서 빼고, 모두 사용하지 않으면 거부한다")
+        void unused_menus_are_skipped() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(snapshot(
+                            1,
+                            menu("v3_menu_manage", "/system/menu", "N"),
+                            menu("v3_role_manage", "/system/menu", "Y"),
+                            menu("OLD", "/old", "N")));
+
+            // when & then
+            assertThat(granted(user("MENU:R", "ROLE:R"), "/system/menu")).isTrue();
+            assertThat(granted(user("MENU:R"), "/system/menu")).isFalse();
+            assertThat(granted(user(), "/old")).isFalse();
+        }
+
+        @Test
+        @DisplayName("인코딩된 경로도 디코딩해 MVC와 같은 메뉴로 판정한다")
+        void resolves_decoded_path() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(snapshot(
+                            1, menu("v3_role_manage", "/system", "Y"), menu("v3_menu_manage", "/system/menu", "Y")));
+
+            // when & then
+            assertThat(granted(user("ROLE:R", "MENU:R"), "/system")).isTrue();
+            assertThat(granted(user("ROLE:R"), "/system/%6Denu")).isFalse();
+            assertThat(granted(user("ROLE:R"), "/system/menu;jsessionid=abc")).isFalse();
+            assertThat(granted(user("MENU:R"), "/system/%6Denu")).isTrue();
+        }
+
+        @Test
+        @DisplayName("메뉴 스냅샷 버전이 바뀌면 trie를 다시 만들고, 사용하지 않는 메뉴의 URL은 거부한다")
+        void recompiles_on_menu_snapshot_change() {
+            // given
+            given(menuTreeCache.get())
+                    .willReturn(
+                            snapshot(1, menu("v3_menu_manage", "/system/menu", "Y")),
+                            snapshot(2, menu("v3_menu_manage", "/system/menu-v2", "Y")),
+                            snapshot(3, menu("v3_menu_manage", "/system/menu-v2", "N")));
+
+            // when
+            int first = manager.compile();
+            boolean movedUrlDenied = !granted(user(), "/system/menu-v2");
+            boolean unusedMenuDenied = !granted(user("MENU:R"), "/system/menu-v2");
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(movedUrlDenied).isTrue();
+            assertThat(unusedMenuDenied).isTrue();
+        }
+    }
+}
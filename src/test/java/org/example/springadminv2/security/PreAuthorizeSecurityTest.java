@@ -1,7 +1,12 @@
 package org.example.springadminv2.security;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import org.example.springadminv2.global.log.listener.SecurityLogEventListener;
+import org.example.springadminv2.global.security.CustomUserDetails;
 import org.example.springadminv2.global.security.SecurityConfig;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
 import org.example.springadminv2.global.security.handler.CustomAccessDeniedHandler;
 import org.example.springadminv2.global.security.handler.CustomAuthenticationEntryPoint;
 import org.junit.jupiter.api.DisplayName;
@@ -10,11 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -27,6 +34,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 })
 class PreAuthorizeSecurityTest {
 
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -179,4 +188,54 @@ class PreAuthorizeSecurityTest {
             mockMvc.perform(post("/test/cross-resource").with(csrf())).andExpect(status().isForbidden());
         }
     }
+
+    @Nested
+    @DisplayName("CustomUserDetails 권한 비트셋")
+    class AuthorityBitsPrincipal {
+
+        private CustomUserDetails principal(String... authorities) {
+            return new CustomUserDetails(
+                    "user01",
+                    "pwd",
+                    "ROLE01",
+                    "1",
+                    0,
+                    registry.grants(Arrays.stream(authorities)
+                            .map(SimpleGrantedAuthority::new)
+                            .collect(Collectors.toSet())));
+        }
+
+        @Test
+        @DisplayName("READ 비트 → GET 성공, POST 403")
+        void read_bit_allows_get_denies_post() throws Exception {
+            // given
+            CustomUserDetails reader = principal("SAMPLE:R");
+
+            // when & then
+            mockMvc.perform(get("/test/menu001").with(user(reader))).andExpect(status().isOk());
+            mockMvc.perform(post("/test/menu001").with(user(reader)).with(csrf()))
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("WRITE 비트 → POST 성공")
+        void write_bit_allows_post() throws Exception {
+            // given
+            CustomUserDetails writer = principal("SAMPLE:R", "SAMPLE:W");
+
+            // when & then
+            mockMvc.perform(post("/test/menu001").with(user(writer)).with(csrf()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("다른 리소스 비트 → 403")
+        void other_bit_denies() throws Exception {
+            // given
+            CustomUserDetails other = principal("OTHER:R");
+
+            // when & then
+            mockMvc.perform(get("/test/cross-resource").with(user(other))).andExpect(status().isForbidden());
+        }
+    }
 }
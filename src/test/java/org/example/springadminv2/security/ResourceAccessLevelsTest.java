@@ -0,0 +1,98 @@
+package org.example.springadminv2.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAccessLevels;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.example.springadminv2.global.web.ViewAccess;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceAccessLevelsTest {
+
+    private final ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static List<GrantedAuthority> authorities(String... names) {
+        return Arrays.stream(names)
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("W가 있으면 W, R만 있으면 R, 없으면 NONE")
+    void resolves_highest_level_per_resource() {
+        // given
+        ResourceAccessLevels levels = ResourceAccessLevels.of(authorities("MENU:R", "MENU:W", "ROLE:R", "PLAIN"));
+
+        // when & then
+        assertThat(levels.level("MENU")).isEqualTo("W");
+        assertThat(levels.level("ROLE")).isEqualTo("R");
+        assertThat(levels.level("USER")).isEqualTo("NONE");
+        assertThat(levels.canWrite("ROLE")).isFalse();
+        assertThat(levels.canRead("ROLE")).isTrue();
+        assertThat(levels.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("권한 순서와 관계없이 W가 우선한다")
+    void write_wins_regardless_of_order() {
+        // when
+        ResourceAccessLevels writeFirst = ResourceAccessLevels.of(authorities("MENU:W", "MENU:R"));
+        ResourceAccessLevels readFirst = ResourceAccessLevels.of(authorities("MENU:R", "MENU:W"));
+
+        // then
+        assertThat(writeFirst.level("MENU")).isEqualTo("W");
+        assertThat(readFirst.level("MENU")).isEqualTo("W");
+    }
+
+    @Test
+    @DisplayName("CustomUserDetails는 생성 시 접근 수준 표를 만들고 비밀번호 교체 사본에서도 유지한다")
+    void user_details_precomputes_levels() {
+        // given
+        CustomUserDetails user = new CustomUserDetails(
+                "admin", "pwd", "ADMIN", "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("MENU:W"))));
+
+        // when
+        CustomUserDetails rehashed = user.withPassword("newPwd");
+
+        // then
+        assertThat(user.getAccessLevel("MENU")).isEqualTo("W");
+        assertThat(rehashed.getAccessLevels()).isSameAs(user.getAccessLevels());
+    }
+
+    @Test
+    @DisplayName("@access 빈은 현재 인증 사용자의 표를 조회하고, 인증이 없으면 NONE이다")
+    void view_access_reads_current_principal() {
+        // given
+        ViewAccess access = new ViewAccess();
+        CustomUserDetails user = new CustomUserDetails(
+                "user01", "pwd", "USER", "1", 0, registry.grants(Set.of(new SimpleGrantedAuthority("MENU:R"))));
+
+        // when
+        String anonymous = access.level("MENU");
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        // then
+        assertThat(anonymous).isEqualTo("NONE");
+        assertThat(access.level("MENU")).isEqualTo("R");
+        assertThat(access.canRead("MENU")).isTrue();
+        assertThat(access.canWrite("MENU")).isFalse();
+    }
+}
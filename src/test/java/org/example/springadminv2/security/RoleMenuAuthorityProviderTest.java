@@ -3,21 +3,32 @@ package org.example.springadminv2.security;
 import java.util.List;
 import java.util.Set;
 
+import org.example.springadminv2.domain.menu.event.MenuPermissionChangedEvent;
+import org.example.springadminv2.global.config.CacheConfig;
+import org.example.springadminv2.global.config.CacheNames;
 import org.example.springadminv2.global.security.converter.AuthorityConverter;
+import org.example.springadminv2.global.security.dto.AuthenticatedUser;
 import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserAuthorities;
 import org.example.springadminv2.global.security.mapper.AuthorityMapper;
 import org.example.springadminv2.global.security.provider.RoleMenuAuthorityProvider;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class RoleMenuAuthorityProviderTest {
@@ -28,9 +39,24 @@ class RoleMenuAuthorityProviderTest {
     @Mock
     AuthorityConverter authorityConverter;
 
-    @InjectMocks
+    SimpleCacheManager cacheManager;
+
     RoleMenuAuthorityProvider provider;
 
+    @BeforeEach
+    void setUp() {
+        cacheManager = (SimpleCacheManager) new CacheConfig().cacheManager();
+        cacheManager.afterPropertiesSet();
+        provider = new RoleMenuAuthorityProvider(authorityMapper, authorityConverter, cacheManager);
+    }
+
+    private long cacheHits() {
+        return ((CaffeineCache) cacheManager.getCache(CacheNames.ROLE_AUTHORITIES))
+                .getNativeCache()
+                .stats()
+                .hitCount();
+    }
+
     @Test
     @DisplayName("역할 기반 권한 조회 시 AuthorityConverter로 변환한 결과를 반환한다")
     void get_authorities_delegates_to_converter() {
@@ -67,4 +93,113 @@ class RoleMenuAuthorityProviderTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("같은 역할의 로그인은 한 번만 조회하고, 캐시 적중 수가 절감한 DB 왕복 수가 된다")
+    void same_role_is_loaded_once() {
+        // given
+        List<MenuPermission> permissions = List.of(new MenuPermission("v3_role_manage", "W"));
+        given(authorityMapper.selectMenuPermissionsByRoleId("ROLE_ADMIN")).willReturn(permissions);
+        given(authorityConverter.convert(permissions)).willReturn(Set.of(new SimpleGrantedAuthority("ROLE:W")));
+
+        // when
+        Set<GrantedAuthority> first = provider.getAuthorities("user01", "ROLE_ADMIN");
+        Set<GrantedAuthority> second = provider.getAuthorities("user02", "ROLE_ADMIN");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add(new SimpleGrantedAuthority("MENU:W")))
+                .isInstanceOf(UnsupportedOperationException.class);
+        then(authorityMapper).should(times(1)).selectMenuPermissionsByRoleId("ROLE_ADMIN");
+        assertThat(cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역할 권한 변경 이벤트는 해당 역할만 무효화하고 사용자 권한 변경은 무시한다")
+    void role_permission_change_evicts_only_that_role() {
+        // given
+        given(authorityMapper.selectMenuPermissionsByRoleId("ROLE_ADMIN")).willReturn(List.of());
+        given(authorityMapper.selectMenuPermissionsByRoleId("ROLE_USER")).willReturn(List.of());
+        given(authorityConverter.convert(List.of())).willReturn(Set.of());
+        provider.getAuthorities("user01", "ROLE_ADMIN");
+        provider.getAuthorities("user02", "ROLE_USER");
+
+        // when
+        provider.onMenuPermissionChanged(MenuPermissionChangedEvent.ofRoles("ROLE_ADMIN"));
+        provider.onMenuPermissionChanged(MenuPermissionChangedEvent.ofUsers());
+        provider.getAuthorities("user01", "ROLE_ADMIN");
+        provider.getAuthorities("user02", "ROLE_USER");
+
+        // then
+        then(authorityMapper).should(times(2)).selectMenuPermissionsByRoleId("ROLE_ADMIN");
+        then(authorityMapper).should(times(1)).selectMenuPermissionsByRoleId("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("역할 전체 변경 이벤트는 캐시를 모두 비운다")
+    void all_roles_change_clears_cache() {
+        // given
+        given(authorityMapper.selectMenuPermissionsByRoleId("ROLE_ADMIN")).willReturn(List.of());
+        given(authorityConverter.convert(List.of())).willReturn(Set.of());
+        provider.getAuthorities("user01", "ROLE_ADMIN");
+
+        // when
+        provider.onMenuPermissionChanged(MenuPermissionChangedEvent.ofRoles());
+        provider.getAuthorities("user01", "ROLE_ADMIN");
+
+        // then
+        then(authorityMapper).should(times(2)).selectMenuPermissionsByRoleId("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("로그인 조회는 캐시 적중 시 사용자 한 행만 읽고 역할 권한은 캐시에 없을 때만 조회한다")
+    void load_user_authorities_reads_role_permissions_only_on_miss() {
+        // given
+        List<MenuPermission> permissions =
+                List.of(new MenuPermission("v3_menu_manage", "W"), new MenuPermission("v3_role_manage", "R"));
+        given(authorityMapper.selectUserById("user01"))
+                .willReturn(new AuthenticatedUser("user01", "pwd", "ROLE_ADMIN", "1", 0));
+        given(authorityMapper.selectUserById("user02"))
+                .willReturn(new AuthenticatedUser("user02", "pwd", "ROLE_ADMIN", "1", 0));
+        given(authorityMapper.selectMenuPermissionsByRoleId("ROLE_ADMIN")).willReturn(permissions);
+        given(authorityConverter.convert(permissions)).willReturn(Set.of(new SimpleGrantedAuthority("MENU:W")));
+
+        // when
+        UserAuthorities first = provider.loadUserAuthorities("user01");
+        UserAuthorities second = provider.loadUserAuthorities("user02");
+
+        // then
+        assertThat(first.user().roleId()).isEqualTo("ROLE_ADMIN");
+        assertThat(second.user().userId()).isEqualTo("user02");
+        assertThat(second.authorities()).isSameAs(first.authorities());
+        then(authorityMapper).should(times(1)).selectMenuPermissionsByRoleId("ROLE_ADMIN");
+        assertThat(cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 조회 시 역할이 없는 사용자는 권한 조회 없이 빈 권한을 반환한다")
+    void load_user_authorities_without_role() {
+        // given
+        given(authorityMapper.selectUserById("user01"))
+                .willReturn(new AuthenticatedUser("user01", "pwd", null, "1", 0));
+        given(authorityConverter.convert(List.of())).willReturn(Set.of());
+
+        // when
+        UserAuthorities loaded = provider.loadUserAuthorities("user01");
+
+        // then
+        assertThat(loaded.authorities()).isEmpty();
+        then(authorityMapper).should(never()).selectMenuPermissionsByRoleId(null);
+    }
+
+    @Test
+    @DisplayName("로그인 조회 결과가 없으면 null을 반환한다")
+    void load_user_authorities_returns_null_when_user_not_found() {
+        // given
+        given(authorityMapper.selectUserById("unknown")).willReturn(null);
+
+        // when & then
+        assertThat(provider.loadUserAuthorities("unknown")).isNull();
+        then(authorityMapper).should(never()).selectMenuPermissionsByRoleId("unknown");
+    }
 }
@@ -0,0 +1,63 @@
+package org.example.springadminv2.security;
+
+import java.util.List;
+
+import org.example.springadminv2.global.security.dto.AuthenticatedUser;
+import org.example.springadminv2.global.security.dto.MenuPermission;
+import org.example.springadminv2.global.security.dto.UserPermissionRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPermissionRowTest {
+
+    @Test
+    @DisplayName("조인 결과의 첫 행에서 사용자 정보를 만든다")
+    void to_user_copies_user_columns() {
+        // given
+        UserPermissionRow row = new UserPermissionRow("user01", "pwd", "ROLE01", "1", 2, "v3_menu_manage", "W");
+
+        // when
+        AuthenticatedUser user = row.toUser();
+
+        // then
+        assertThat(user).isEqualTo(new AuthenticatedUser("user01", "pwd", "ROLE01", "1", 2));
+    }
+
+    @Test
+    @DisplayName("권한 행을 조회 순서대로 메뉴 권한 목록으로 모은다")
+    void permissions_of_keeps_row_order() {
+        // given
+        List<UserPermissionRow> rows = List.of(
+                new UserPermissionRow("user01", "pwd", "ROLE01", "1", 0, "v3_role_manage", "R"),
+                new UserPermissionRow("user01", "pwd", "ROLE01", "1", 0, "v3_menu_manage", "W"));
+
+        // when
+        List<MenuPermission> permissions = UserPermissionRow.permissionsOf(rows);
+
+        // then
+        assertThat(permissions)
+                .containsExactly(new MenuPermission("v3_role_manage", "R"), new MenuPermission("v3_menu_manage", "W"));
+    }
+
+    @Test
+    @DisplayName("권한이 없는 사용자의 LEFT JOIN 행(MENU_ID null)은 빈 권한 목록이 된다")
+    void permissions_of_skips_row_without_menu() {
+        // given
+        List<UserPermissionRow> rows = List.of(new UserPermissionRow("user01", "pwd", "ROLE01", "1", 0, null, null));
+
+        // when
+        List<MenuPermission> permissions = UserPermissionRow.permissionsOf(rows);
+
+        // then
+        assertThat(permissions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 조회 결과는 빈 권한 목록이 된다")
+    void permissions_of_empty_rows() {
+        // when & then
+        assertThat(UserPermissionRow.permissionsOf(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.springadminv2.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.example.springadminv2.global.security.CustomUserDetails;
+import org.example.springadminv2.global.security.authority.ResourceAuthorityRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 화면 fragment 렌더링 시 접근 수준 판단 비교 벤치마크.
+ * <p>
+ * 실행: {@code mvn test -Dtest=AccessLevelBenchmark -Dtest.excludedGroups=}
+ * <ul>
+ *   <li>stream: 기존 BaseViewController 방식 (권한 전체 stream + startsWith/substring)</li>
+ *   <li>precomputed: CustomUserDetails 생성 시 만든 리소스별 표 조회</li>
+ * </ul>
+ * 탭 하나를 열 때 fragment 여러 개가 같은 판단을 하므로 호출당 리소스 5개를 조회한다.
+ */
+@Tag("manual")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AccessLevelBenchmark {
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(AccessLevelBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class UserState {
+
+        /** 사용자 권한이 걸린 리소스 수 (리소스당 R/W 두 개) */
+        @Param({"10", "50", "200"})
+        int resources;
+
+        CustomUserDetails user;
+        String[] lookups;
+        ResourceAuthorityRegistry registry = new ResourceAuthorityRegistry();
+
+        @Setup
+        public void setUp() {
+            Set<GrantedAuthority> authorities = new HashSet<>();
+            for (int i = 0; i < resources; i++) {
+                authorities.add(new SimpleGrantedAuthority("RES" + i + ":R"));
+                if (i % 2 == 0) {
+                    authorities.add(new SimpleGrantedAuthority("RES" + i + ":W"));
+                }
+            }
+            user = new CustomUserDetails("bench", "pwd", "ROLE", "1", 0, registry.grants(authorities));
+            lookups = new String[] {"RES0", "RES1", "RES" + (resources - 1), "RES" + (resources / 2), "MISSING"};
+        }
+    }
+
+    @Benchmark
+    public void stream(UserState state, Blackhole blackhole) {
+        for (String resource : state.lookups) {
+            blackhole.consume(streamLevel(state.user, resource));
+        }
+    }
+
+    @Benchmark
+    public void precomputed(UserState state, Blackhole blackhole) {
+        for (String resource : state.lookups) {
+            blackhole.consume(state.user.getAccessLevel(resource));
+        }
+    }
+
+    /** 변경 전 BaseViewController.determineAccessLevel */
+    private static String streamLevel(CustomUserDetails user, String resource) {
+        return user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith(resource + ":"))
+                .map(a -> a.substring(a.indexOf(':') + 1))
+                .reduce((a, b) -> "W".equals(a) || "W".equals(b) ? "W" : "R")
+                .orElse("NONE");
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.springadminv2.util;
+
+import org.example.springadminv2.global.util.HangulUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilTest {
+
+    @Test
+    @DisplayName("음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void converts_syllables_to_choseong() {
+        // when
+        String result = HangulUtil.choseong("SMS 발송관리");
+
+        // then
+        assertThat(result).isEqualTo("SMS ㅂㅅㄱㄹ");
+    }
+
+    @Test
+    @DisplayName("쌍자음과 첫/끝 음절 경계를 올바르게 변환한다")
+    void handles_double_consonants_and_bounds() {
+        // when & then
+        assertThat(HangulUtil.choseong("가까힣")).isEqualTo("ㄱㄲㅎ");
+    }
+
+    @Test
+    @DisplayName("자음으로만 이루어진 문자열만 초성 검색어로 판단한다")
+    void detects_choseong_only_text() {
+        // when & then
+        assertThat(HangulUtil.isChoseongOnly("ㅁㄴㄱㄹ")).isTrue();
+        assertThat(HangulUtil.isChoseongOnly("ㅁ뉴")).isFalse();
+        assertThat(HangulUtil.isChoseongOnly("")).isFalse();
+    }
+}
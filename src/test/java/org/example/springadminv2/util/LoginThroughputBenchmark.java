@@ -0,0 +1,105 @@
+package org.example.springadminv2.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.example.springadminv2.global.security.password.BoundedPasswordEncoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 폭주 중 로그인/일반 화면 요청 처리량: BCrypt 직접 호출(raw)과 BoundedPasswordEncoder(bounded) 비교 벤치마크.
+ * <p>
+ * 실행: {@code mvn test -Dtest=LoginThroughputBenchmark -Dtest.excludedGroups=}
+ * 로그인 16 스레드와 화면 요청 4 스레드를 동시에 돌린다. page는 CPU만 쓰는 가벼운 요청을 흉내 낸다.
+ * bounded는 대기열을 넉넉히 두어 거절 없이 동시 실행 수 제한의 효과만 측정한다.
+ */
+@Tag("manual")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class LoginThroughputBenchmark {
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(LoginThroughputBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    @State(Scope.Group)
+    public static class Stage {
+
+        @Param({"raw", "bounded"})
+        String stage;
+
+        PasswordEncoder encoder;
+        String hash;
+
+        @Setup
+        public void setUp() {
+            BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+            hash = bcrypt.encode("password");
+            encoder = "raw".equals(stage)
+                    ? bcrypt
+                    : new BoundedPasswordEncoder(
+                            bcrypt,
+                            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                            Integer.MAX_VALUE,
+                            Duration.ofMinutes(1),
+                            new SimpleMeterRegistry());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Page {
+
+        int[] data;
+
+        @Setup
+        public void setUp() {
+            data = new Random(42).ints(2_000).toArray();
+        }
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(16)
+    public boolean login(Stage stage) {
+        return stage.encoder.matches("password", stage.hash);
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(4)
+    public int page(Page page) {
+        int[] copy = Arrays.copyOf(page.data, page.data.length);
+        Arrays.sort(copy);
+        return copy[copy.length / 2];
+    }
+}
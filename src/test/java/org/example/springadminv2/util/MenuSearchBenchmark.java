@@ -0,0 +1,107 @@
+package org.example.springadminv2.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuSearchResult;
+import org.example.springadminv2.domain.menu.mapper.MenuMapper;
+import org.example.springadminv2.domain.menu.service.MenuSearchIndex;
+import org.example.springadminv2.domain.menu.service.MenuTreeCache;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 메뉴 이름 검색: MenuSearchIndex와 기존 방식(selectAllMenus 결과 전체를 contains로 필터) 비교 벤치마크.
+ * <p>
+ * 실행: {@code mvn test -Dtest=MenuSearchBenchmark -Dtest.excludedGroups=}
+ * 기존 방식은 DB 조회 비용을 빼고 메모리 필터 비용만 측정한다.
+ */
+@Tag("manual")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class MenuSearchBenchmark {
+
+    private static final String[] WORDS = {"시스템", "메뉴", "역할", "사용자", "배치", "거래", "코드", "모니터링", "감사", "게시판"};
+    private static final String[] SUFFIXES = {"관리", "조회", "설정", "이력", "현황"};
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(MenuSearchBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Menus {
+
+        @Param({"1000", "10000"})
+        int size;
+
+        List<MenuResponse> menus;
+        MenuSearchIndex index;
+
+        @Setup
+        public void setUp() {
+            menus = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String name = WORDS[i % WORDS.length] + SUFFIXES[(i / WORDS.length) % SUFFIXES.length] + i;
+                menus.add(
+                        new MenuResponse("M" + i, "ROOT", i, name, null, null, "Y", "Y", null, null, "Menu Item " + i));
+            }
+            MenuMapper menuMapper = mock(MenuMapper.class);
+            given(menuMapper.selectAllMenus()).willReturn(menus);
+            index = new MenuSearchIndex(new MenuTreeCache(menuMapper));
+            index.search("warm", 1, id -> true);
+        }
+    }
+
+    @Benchmark
+    public List<MenuSearchResult> indexSyllables(Menus state) {
+        return state.index.search("배치설정", 20, id -> true);
+    }
+
+    @Benchmark
+    public List<MenuSearchResult> indexChoseong(Menus state) {
+        return state.index.search("ㅂㅊㅅㅈ", 20, id -> true);
+    }
+
+    @Benchmark
+    public List<MenuSearchResult> scanSyllables(Menus state) {
+        String q = "배치설정";
+        List<MenuSearchResult> results = new ArrayList<>();
+        for (MenuResponse menu : state.menus) {
+            if (menu.menuName().contains(q)
+                    || menu.menuEngName().toLowerCase(Locale.ROOT).contains(q)) {
+                results.add(MenuSearchResult.of(menu));
+                if (results.size() == 20) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+}
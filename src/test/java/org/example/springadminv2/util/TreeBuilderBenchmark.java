@@ -0,0 +1,140 @@
+package org.example.springadminv2.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.example.springadminv2.domain.menu.dto.MenuResponse;
+import org.example.springadminv2.domain.menu.dto.MenuTreeNode;
+import org.example.springadminv2.global.util.TreeBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * TreeBuilder와 기존 재귀/stream 방식 트리 빌드 비교 벤치마크.
+ * <p>
+ * 실행: {@code mvn test -Dtest=TreeBuilderBenchmark -Dtest.excludedGroups=}
+ * <ul>
+ *   <li>wide: 노드당 자식 10개인 트리 (1k / 10k / 100k)</li>
+ *   <li>deepChain: 단일 체인 (1k / 10k / 100k). 기존 재귀 방식은 수천 단계에서 StackOverflowError가 나므로 신규 방식만 측정한다.</li>
+ * </ul>
+ */
+@Tag("manual")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class TreeBuilderBenchmark {
+
+    @Test
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(TreeBuilderBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class WideTree {
+
+        @Param({"1000", "10000", "100000"})
+        int size;
+
+        List<MenuResponse> menus;
+
+        @Setup
+        public void setUp() {
+            menus = new ArrayList<>(size);
+            menus.add(menu("M0", null));
+            for (int i = 1; i < size; i++) {
+                menus.add(menu("M" + i, "M" + ((i - 1) / 10)));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DeepChain {
+
+        @Param({"1000", "10000", "100000"})
+        int depth;
+
+        List<MenuResponse> menus;
+
+        @Setup
+        public void setUp() {
+            menus = new ArrayList<>(depth);
+            menus.add(menu("M0", null));
+            for (int i = 1; i < depth; i++) {
+                menus.add(menu("M" + i, "M" + (i - 1)));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<MenuTreeNode> wideIterative(WideTree state) {
+        return iterative(state.menus);
+    }
+
+    @Benchmark
+    public List<MenuTreeNode> wideRecursive(WideTree state) {
+        return recursive(state.menus);
+    }
+
+    @Benchmark
+    public List<MenuTreeNode> deepChainIterative(DeepChain state) {
+        return iterative(state.menus);
+    }
+
+    // ── 빌드 방식 ──────────────────────────────────────────
+
+    private static List<MenuTreeNode> iterative(List<MenuResponse> menus) {
+        TreeBuilder.Result<MenuTreeNode> result = TreeBuilder.build(
+                menus,
+                MenuResponse::menuId,
+                MenuResponse::priorMenuId,
+                (menu, children) -> MenuTreeNode.of(menu, children.isEmpty() ? null : children));
+        return result.roots();
+    }
+
+    /** 기존 MenuService.buildTree / toTreeNode 구현 */
+    private static List<MenuTreeNode> recursive(List<MenuResponse> allMenus) {
+        Set<String> allMenuIds = allMenus.stream().map(MenuResponse::menuId).collect(Collectors.toSet());
+        Map<String, List<MenuResponse>> childrenMap = allMenus.stream()
+                .collect(Collectors.groupingBy(
+                        m -> m.priorMenuId() == null ? "" : m.priorMenuId(), LinkedHashMap::new, Collectors.toList()));
+        List<MenuResponse> roots = allMenus.stream()
+                .filter(m -> !allMenuIds.contains(m.priorMenuId()))
+                .toList();
+        return roots.stream().map(r -> toTreeNode(r, childrenMap)).toList();
+    }
+
+    private static MenuTreeNode toTreeNode(MenuResponse menu, Map<String, List<MenuResponse>> childrenMap) {
+        List<MenuResponse> childMenus = childrenMap.getOrDefault(menu.menuId(), List.of());
+        List<MenuTreeNode> children =
+                childMenus.stream().map(c -> toTreeNode(c, childrenMap)).toList();
+        return MenuTreeNode.of(menu, children.isEmpty() ? null : children);
+    }
+
+    private static MenuResponse menu(String menuId, String priorMenuId) {
+        return new MenuResponse(menuId, priorMenuId, 1, menuId, null, null, "Y", "Y", null, null, null);
+    }
+}
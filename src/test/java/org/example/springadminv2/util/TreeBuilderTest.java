@@ -0,0 +1,118 @@
+package org.example.springadminv2.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.springadminv2.global.util.TreeBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeBuilderTest {
+
+    record Item(String id, String parentId) {}
+
+    record Node(String id, List<Node> children) {}
+
+    private TreeBuilder.Result<Node> build(List<Item> items) {
+        return TreeBuilder.build(items, Item::id, Item::parentId, (item, children) -> new Node(item.id(), children));
+    }
+
+    @Nested
+    @DisplayName("트리 구성")
+    class Building {
+
+        @Test
+        @DisplayName("부모가 목록에 없거나 null인 항목이 루트가 되고, 형제 순서는 입력 순서를 유지한다")
+        void builds_roots_and_keeps_sibling_order() {
+            // given
+            List<Item> items = List.of(
+                    new Item("SYS", "ROOT"),
+                    new Item("ROLE", "SYS"),
+                    new Item("MON", null),
+                    new Item("MENU", "SYS"),
+                    new Item("LOG", "MON"));
+
+            // when
+            TreeBuilder.Result<Node> result = build(items);
+
+            // then
+            assertThat(result.hasCycle()).isFalse();
+            assertThat(result.roots()).extracting(Node::id).containsExactly("SYS", "MON");
+            assertThat(result.roots().get(0).children()).extracting(Node::id).containsExactly("ROLE", "MENU");
+            assertThat(result.roots().get(1).children()).extracting(Node::id).containsExactly("LOG");
+            assertThat(result.roots().get(0).children().get(0).children()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 빈 결과를 반환한다")
+        void empty_input() {
+            // when
+            TreeBuilder.Result<Node> result = build(List.of());
+
+            // then
+            assertThat(result.roots()).isEmpty();
+            assertThat(result.cycleIds()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("10만 단계의 깊은 체인도 재귀 없이 만든다")
+        void deep_chain_without_recursion() {
+            // given
+            int depth = 100_000;
+            List<Item> items = new ArrayList<>(depth);
+            items.add(new Item("N0", null));
+            for (int i = 1; i < depth; i++) {
+                items.add(new Item("N" + i, "N" + (i - 1)));
+            }
+
+            // when
+            TreeBuilder.Result<Node> result = build(items);
+
+            // then
+            assertThat(result.roots()).hasSize(1);
+            Node cur = result.roots().get(0);
+            int count = 1;
+            while (!cur.children().isEmpty()) {
+                cur = cur.children().get(0);
+                count++;
+            }
+            assertThat(count).isEqualTo(depth);
+            assertThat(cur.id()).isEqualTo("N" + (depth - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("순환 감지")
+    class CycleDetection {
+
+        @Test
+        @DisplayName("서로를 부모로 가리키는 항목과 그 하위 항목을 cycleIds로 보고한다")
+        void reports_cycle_members_and_descendants() {
+            // given
+            List<Item> items =
+                    List.of(new Item("OK", null), new Item("A", "B"), new Item("B", "A"), new Item("UNDER", "A"));
+
+            // when
+            TreeBuilder.Result<Node> result = build(items);
+
+            // then
+            assertThat(result.hasCycle()).isTrue();
+            assertThat(result.roots()).extracting(Node::id).containsExactly("OK");
+            assertThat(result.cycleIds()).containsExactly("A", "B", "UNDER");
+        }
+
+        @Test
+        @DisplayName("자기 자신을 부모로 가리키는 항목도 순환으로 보고한다")
+        void reports_self_reference() {
+            // when
+            TreeBuilder.Result<Node> result = build(List.of(new Item("SELF", "SELF")));
+
+            // then
+            assertThat(result.roots()).isEmpty();
+            assertThat(result.cycleIds()).containsExactly("SELF");
+        }
+    }
+}
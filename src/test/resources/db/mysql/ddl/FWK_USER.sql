@@ -28,6 +28,7 @@ CREATE TABLE FWK_USER (
 	BRANCH_NO VARCHAR(10),
 	BIZ_AUTH_CODE VARCHAR(100),
 	LOGIN_FAIL_COUNT DECIMAL(1,0) DEFAULT 0,
+	LOGIN_FAIL_DTIME VARCHAR(14),
 	LAST_PWD_UPDATE_DTIME VARCHAR(14),
 	DEFAULT_PROJECT_ID VARCHAR(20),
 	PA_USER VARCHAR(128),
@@ -28,6 +28,7 @@ CREATE TABLE D_SPIDERLINK.FWK_USER (
 	BRANCH_NO VARCHAR2(10),
 	BIZ_AUTH_CODE VARCHAR2(100),
 	LOGIN_FAIL_COUNT NUMBER(1,0) DEFAULT 0,
+	LOGIN_FAIL_DTIME VARCHAR2(14),
 	LAST_PWD_UPDATE_DTIME VARCHAR2(14),
 	DEFAULT_PROJECT_ID VARCHAR2(20),
 	PA_USER VARCHAR2(128),